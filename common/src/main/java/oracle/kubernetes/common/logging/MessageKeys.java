@@ -99,8 +99,6 @@ public class MessageKeys {
   public static final String JOB_CREATED = "WLSKO-0139";
   public static final String JOB_IS_COMPLETE = "WLSKO-0140";
   public static final String CANNOT_PARSE_TOPOLOGY = "WLSKO-0141";
-  public static final String CANNOT_PARSE_INTROSPECTOR_RESULT = "WLSKO-0142";
-  public static final String CANNOT_PARSE_INTROSPECTOR_FILE = "WLSKO-0143";
   public static final String CANNOT_START_DOMAIN_AFTER_MAX_RETRIES = "WLSKO-0144";
   public static final String CYCLING_POD = "WLSKO-0145";
   public static final String REPLICAS_EXCEEDS_TOTAL_CLUSTER_SERVER_COUNT = "WLSKO-0146";
@@ -175,6 +173,11 @@ public class MessageKeys {
   public static final String PVC_IS_BOUND = "WLSKO-0237";
   public static final String WAITING_FOR_PVC_TO_BIND = "WLSKO-0238";
   public static final String PVC_NOT_BOUND_ERROR = "WLSKO-0239";
+  public static final String WARM_STANDBY_STATE_CHANGE_REQUESTED = "WLSKO-0240";
+  public static final String WARM_STANDBY_STATE_CHANGED = "WLSKO-0241";
+  public static final String WARM_STANDBY_STATE_CHANGE_FAILED = "WLSKO-0242";
+  public static final String SERVICE_PATCHED = "WLSKO-0243";
+  public static final String CLUSTER_SERVICE_DELETED = "WLSKO-0244";
 
   // domain status messages
   public static final String MAKE_RIGHT_WILL_RETRY = "WLSDO-0000";
@@ -236,6 +239,7 @@ public class MessageKeys {
   public static final String NO_MATCH_VOLUME_WITH_PVC = "WLSDO-0063";
   public static final String NO_VOLUME_WITH_PVC = "WLSDO-0064";
   public static final String WALLET_KEY_NOT_FOUND = "WLSDO-0065";
+  public static final String ROLL_COMPLETION_PREDICTED = "WLSDO-0066";
 
   // domain event messages
   public static final String DOMAIN_AVAILABLE_EVENT_PATTERN = "WLSEO-0001";
@@ -8,8 +8,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -25,6 +27,7 @@ import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -62,6 +65,11 @@ public class ClusterResourceStatusUpdater {
     return new ReplaceClusterStatusContext(packet, resource);
   }
 
+  private static ReplaceClusterStatusContext createContext(
+      Packet packet, ClusterResource resource, ClusterStatus newStatus) {
+    return new ReplaceClusterStatusContext(packet, resource).withNewStatus(newStatus);
+  }
+
   private static class ClusterResourceStatusUpdaterStep extends Step {
 
     ClusterResourceStatusUpdaterStep(Step next) {
@@ -78,18 +86,30 @@ public class ClusterResourceStatusUpdater {
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
       Step step = Optional.ofNullable(info.getDomain())
-          .map(domain -> createUpdateClusterResourceStatusSteps(packet, info.getClusterResources()))
+          .map(domain -> createUpdateClusterResourceStatusSteps(packet, domain, info.getClusterResources()))
           .orElse(null);
       return doNext(chainStep(step, getNext()), packet);
     }
 
-    private static Step createUpdateClusterResourceStatusSteps(Packet packet,
+    private static Step createUpdateClusterResourceStatusSteps(Packet packet, DomainResource domain,
                                                                Collection<ClusterResource> clusterResources) {
+      final Map<String, ClusterStatus> clusterStatuses = getClusterStatusesByName(domain);
       List<StepAndPacket> result = clusterResources.stream()
-          .filter(res -> createContext(packet, res).isClusterResourceStatusChanged())
-          .map(res -> new StepAndPacket(createContext(packet, res).createReplaceClusterResourceStatusStep(), packet))
+          .map(res -> createContext(packet, res, clusterStatuses.get(res.getClusterName())))
+          .filter(ReplaceClusterStatusContext::isClusterResourceStatusChanged)
+          .map(context -> new StepAndPacket(context.createReplaceClusterResourceStatusStep(), packet))
           .collect(Collectors.toList());
-      return result.isEmpty() ? null : new RunInParallelStep(result);
+      return result.isEmpty() ? null : new RunInParallelStep(result, getMaxConcurrentClusterStatusUpdates());
+    }
+
+    // Indexes the cluster statuses once, rather than searching the domain status for each cluster resource.
+    private static Map<String, ClusterStatus> getClusterStatusesByName(DomainResource domain) {
+      return domain.getOrCreateStatus().getClusters().stream()
+          .collect(Collectors.toMap(ClusterStatus::getClusterName, Function.identity(), (first, second) -> first));
+    }
+
+    private static int getMaxConcurrentClusterStatusUpdates() {
+      return TuningParameters.getInstance().getMaxConcurrentClusterStatusUpdates();
     }
 
     private static Step chainStep(Step one, Step two) {
@@ -139,21 +159,44 @@ public class ClusterResourceStatusUpdater {
     }
   }
 
+  /**
+   * Runs the status updates in parallel, in batches of no more than the specified maximum concurrency.
+   * Each batch is started only after the previous one has completed.
+   */
   private static class RunInParallelStep extends Step {
-    final Collection<StepAndPacket> statusUpdateSteps;
+    final List<StepAndPacket> statusUpdateSteps;
+    final int maxConcurrency;
+
+    RunInParallelStep(List<StepAndPacket> statusUpdateSteps, int maxConcurrency) {
+      this.statusUpdateSteps = statusUpdateSteps;
+      this.maxConcurrency = maxConcurrency;
+    }
 
-    RunInParallelStep(Collection<StepAndPacket> statusUpdateSteps) {
+    private RunInParallelStep(List<StepAndPacket> statusUpdateSteps, int maxConcurrency, Step next) {
+      super(next);
       this.statusUpdateSteps = statusUpdateSteps;
+      this.maxConcurrency = maxConcurrency;
     }
 
     @Override
     public NextAction apply(Packet packet) {
       if (statusUpdateSteps.isEmpty()) {
         return doNext(getNext(), packet);
-      } else {
+      } else if (ignoreConcurrencyLimit() || statusUpdateSteps.size() <= maxConcurrency) {
         return doForkJoin(getNext(), packet, statusUpdateSteps);
+      } else {
+        return doForkJoin(createRemainingUpdatesStep(), packet, statusUpdateSteps.subList(0, maxConcurrency));
       }
     }
+
+    private boolean ignoreConcurrencyLimit() {
+      return maxConcurrency <= 0;
+    }
+
+    private Step createRemainingUpdatesStep() {
+      return new RunInParallelStep(
+          statusUpdateSteps.subList(maxConcurrency, statusUpdateSteps.size()), maxConcurrency, getNext());
+    }
   }
 
   private static class ReplaceClusterStatusContext {
@@ -171,6 +214,12 @@ public class ClusterResourceStatusUpdater {
       isMakeRight = MakeRightDomainOperation.isMakeRight(packet);
     }
 
+    // Uses a status already selected from the domain status, rather than searching for it
+    ReplaceClusterStatusContext withNewStatus(ClusterStatus newStatus) {
+      this.newStatus = newStatus;
+      return this;
+    }
+
     String getClusterName() {
       return resource.getClusterName();
     }
@@ -38,12 +38,14 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.EventHelper.EventItem;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler;
 import oracle.kubernetes.operator.helpers.KubernetesEventObjects;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.NamespaceHelper;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResourcePresenceInfo;
+import oracle.kubernetes.operator.helpers.RollPlanner;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -186,13 +188,25 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   }
 
   static void cleanupNamespace(String namespace) {
-    clusterEventK8SObjects.remove(namespace);
+    Optional.ofNullable(clusterEventK8SObjects.remove(namespace))
+        .ifPresent(m -> m.values().forEach(KubernetesEventObjects::clear));
     domains.remove(namespace);
-    domainEventK8SObjects.remove(namespace);
-    namespaceEventK8SObjects.remove(namespace);
+    Optional.ofNullable(domainEventK8SObjects.remove(namespace))
+        .ifPresent(m -> m.values().forEach(KubernetesEventObjects::clear));
+    Optional.ofNullable(namespaceEventK8SObjects.remove(namespace)).ifPresent(KubernetesEventObjects::clear);
     statusUpdaters.remove((namespace));
   }
 
+  /**
+   * Forgets the expired events in all event caches, including those of resources for which no events are
+   * currently being recorded.
+   */
+  static void removeExpiredEvents() {
+    domainEventK8SObjects.values().forEach(m -> m.values().forEach(KubernetesEventObjects::removeExpiredEvents));
+    clusterEventK8SObjects.values().forEach(m -> m.values().forEach(KubernetesEventObjects::removeExpiredEvents));
+    namespaceEventK8SObjects.values().forEach(KubernetesEventObjects::removeExpiredEvents);
+  }
+
   private static void registerStatusUpdater(
         String ns, String domainUid, ScheduledFuture<?> future) {
     ScheduledFuture<?> existing =
@@ -491,6 +505,8 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @Override
   public void unregisterDomainPresenceInfo(DomainPresenceInfo info) {
     unregisterPresenceInfo(info.getNamespace(), info.getDomainUid());
+    IntrospectionScheduler.getInstance().removeDomain(info.getNamespace(), info.getDomainUid());
+    RollPlanner.getInstance().releaseDomain(info.getNamespace(), info.getDomainUid());
   }
 
   @Override
@@ -504,7 +520,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   }
 
   private static void unregisterEventK8SObject(String ns, String domainUid) {
-    Optional.ofNullable(domainEventK8SObjects.get(ns)).ifPresent(m -> m.remove(domainUid));
+    Optional.ofNullable(domainEventK8SObjects.get(ns))
+        .map(m -> m.remove(domainUid))
+        .ifPresent(KubernetesEventObjects::clear);
   }
 
   private static void unregisterPresenceInfo(String ns, String domainUid) {
@@ -1024,14 +1042,43 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
       @Override
       public void onCompletion(Packet packet) {
+        releaseIntrospectionPermit(packet);
+        releaseRollPermits();
+        recordMakeRightFingerprint(packet);
         retryIfNeeded(packet);
       }
 
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
+        releaseIntrospectionPermit(packet);
+        releaseRollPermits();
+        ((DomainPresenceInfo) presenceInfo).clearMakeRightFingerprint();
         reportFailure(throwable);
       }
 
+      // A make-right which leaves the domain needing a retry must not let a later recheck be skipped.
+      private void recordMakeRightFingerprint(Packet packet) {
+        DomainPresenceInfo.fromPacket(packet).ifPresent(info -> {
+          if (shouldRetry(packet)) {
+            info.clearMakeRightFingerprint();
+          } else {
+            info.recordMakeRightFingerprint();
+          }
+        });
+      }
+
+      // A make-right which ends before its introspection does, for example because the job failed,
+      // must not keep other domains waiting. Only a permit which this make-right holds is released.
+      private void releaseIntrospectionPermit(Packet packet) {
+        IntrospectionScheduler.getInstance().release(packet);
+      }
+
+      // Roll permits are normally released as each server is rolled; this covers a roll cut short by a failure.
+      private void releaseRollPermits() {
+        RollPlanner.getInstance()
+            .releaseDomain(presenceInfo.getNamespace(), ((DomainPresenceInfo) presenceInfo).getDomainUid());
+      }
+
       private void reportFailure(Throwable throwable) {
         logThrowable(throwable);
         runFailureSteps(throwable);
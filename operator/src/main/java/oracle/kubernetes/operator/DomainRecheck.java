@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -9,10 +9,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1Namespace;
@@ -30,6 +33,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -209,16 +213,20 @@ class DomainRecheck {
   }
 
   Step createStartNamespacesStep(Collection<String> domainNamespaces) {
-    return RunInParallel.perNamespace(domainNamespaces, this::startNamespaceSteps);
+    final NamespaceStartupTimer timer = new NamespaceStartupTimer();
+    return Step.chain(
+        RunInParallel.perNamespace(domainNamespaces, ns -> startNamespaceSteps(ns, timer)),
+        timer.createReportStep());
   }
 
-  private Step startNamespaceSteps(String ns) {
+  private Step startNamespaceSteps(String ns, NamespaceStartupTimer timer) {
     try (ThreadLoggingContext ignored =
              setThreadContext().namespace(ns)) {
       return Step.chain(
-          createNamespaceReview(ns),
+          timer.timePhase(NamespaceStartupTimer.RULES_REVIEW, createNamespaceReview(ns)),
           new StartNamespaceBeforeStep(ns),
-          domainNamespaces.readExistingResources(ns, domainProcessor));
+          timer.timePhase(NamespaceStartupTimer.READ_RESOURCES,
+              domainNamespaces.readExistingResources(ns, domainProcessor)));
     }
   }
 
@@ -261,7 +269,8 @@ class DomainRecheck {
   /**
    * Given a list of namespace names and a method that creates steps for the namespace,
    * will create the appropriate steps and run them in parallel, waiting for all to complete
-   * before proceeding.
+   * before proceeding. No more than the configured maximum number of namespaces are processed at one time:
+   * a fixed set of worker fibers takes the namespaces from a shared queue.
    */
   static class RunInParallel extends Step {
 
@@ -287,14 +296,43 @@ class DomainRecheck {
       if (domainNamespaces == null) {
         return doNext(packet);
       } else {
-        Collection<StepAndPacket> startDetails = new ArrayList<>();
+        Queue<StepAndPacket> startDetails = new ConcurrentLinkedQueue<>();
 
         for (String ns : domainNamespaces) {
           try (ThreadLoggingContext ignored = setThreadContext().namespace(ns)) {
             startDetails.add(new StepAndPacket(stepFactory.apply(ns), packet.copy()));
           }
         }
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(getNext(), packet, createWorkers(startDetails, packet));
+      }
+    }
+
+    private List<StepAndPacket> createWorkers(Queue<StepAndPacket> startDetails, Packet packet) {
+      return IntStream.range(0, getNumWorkers(startDetails.size()))
+          .mapToObj(i -> new StepAndPacket(new NamespaceWorkerStep(startDetails), packet.copy()))
+          .collect(Collectors.toList());
+    }
+
+    private int getNumWorkers(int numNamespaces) {
+      final int limit = TuningParameters.getInstance().getMaxConcurrentNamespaceStarts();
+      return limit <= 0 ? numNamespaces : Math.min(limit, numNamespaces);
+    }
+  }
+
+  private static class NamespaceWorkerStep extends Step {
+    private final Queue<StepAndPacket> queue;
+
+    NamespaceWorkerStep(Queue<StepAndPacket> queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final StepAndPacket namespaceSteps = queue.poll();
+      if (namespaceSteps == null) {
+        return doNext(packet);
+      } else {
+        return doForkJoin(this, packet, Collections.singletonList(namespaceSteps));
       }
     }
   }
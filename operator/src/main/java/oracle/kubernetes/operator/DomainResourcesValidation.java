@@ -32,6 +32,7 @@ import oracle.kubernetes.operator.helpers.EventHelper.EventItem;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
@@ -287,14 +288,26 @@ class DomainResourcesValidation {
   private void activateDomain(DomainProcessor dp, DomainPresenceInfo info) {
     info.setPopulated(true);
     EventItem eventItem = getEventItem(info);
-    MakeRightDomainOperation makeRight = dp.createMakeRightOperation(info).withExplicitRecheck();
     if (eventItem != null) {
-      makeRight.withEventData(new EventData(eventItem)).interrupt().execute();
+      createMakeRightOperation(dp, info).withEventData(new EventData(eventItem)).interrupt().execute();
+    } else if (isUnchangedSinceLastMakeRight(info)) {
+      OperatorMetrics.incrementMakeRightsSkipped(info.getNamespace(), info.getDomainUid());
     } else if (!info.hasRetriableFailure()) {
-      makeRight.execute();
+      createMakeRightOperation(dp, info).execute();
     }
   }
 
+  private MakeRightDomainOperation createMakeRightOperation(DomainProcessor dp, DomainPresenceInfo info) {
+    return dp.createMakeRightOperation(info).withExplicitRecheck();
+  }
+
+  // A pod which the operator has cached but which was not in the pod list has been deleted without notice,
+  // and is removed from the cache only after the domains are activated.
+  private boolean isUnchangedSinceLastMakeRight(DomainPresenceInfo info) {
+    return info.getServerNamesFromPodList().containsAll(info.getServerNames())
+        && info.isUnchangedSinceLastMakeRight();
+  }
+
   private EventItem getEventItem(DomainPresenceInfo info) {
     if (newDomainNames.contains(info.getDomainUid())) {
       return DOMAIN_CREATED;
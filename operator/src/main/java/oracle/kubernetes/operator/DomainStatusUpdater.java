@@ -35,11 +35,13 @@ import oracle.kubernetes.operator.calls.FailureStatusSource;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainStatusFingerprint;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
@@ -76,6 +78,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.NO_APPLICATION_SERVER
 import static oracle.kubernetes.common.logging.MessageKeys.PODS_FAILED;
 import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_READY;
 import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_RUNNING;
+import static oracle.kubernetes.common.logging.MessageKeys.ROLL_COMPLETION_PREDICTED;
 import static oracle.kubernetes.operator.ClusterResourceStatusUpdater.createClusterResourceStatusUpdaterStep;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.KubernetesConstants.MINIMUM_CLUSTER_COUNT;
@@ -88,6 +91,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE_RESTART_REQUIRED;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.WebLogicConstants.ADMIN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTTING_DOWN_STATE;
@@ -162,12 +166,6 @@ public class DomainStatusUpdater {
     private StartRollStep() {
     }
 
-    @Override
-    void modifyStatus(DomainStatus status) {
-      status.addCondition(new DomainCondition(ROLLING));
-      status.addCondition(new DomainCondition(COMPLETED).withStatus(false));
-    }
-
     @Override
     DomainStatusUpdaterContext createContext(Packet packet) {
       return new StartRollUpdaterContext(packet, this);
@@ -179,6 +177,21 @@ public class DomainStatusUpdater {
         super(packet, domainStatusUpdaterStep);
       }
 
+      @Override
+      void modifyStatus(DomainStatus status) {
+        status.addCondition(createRollingCondition());
+        status.addCondition(new DomainCondition(COMPLETED).withStatus(false));
+      }
+
+      // The rolling condition reports the predicted completion time, when one has been computed by the RollingHelper.
+      private DomainCondition createRollingCondition() {
+        final DomainCondition condition = new DomainCondition(ROLLING);
+        Optional.ofNullable(getInfo().getPredictedRollCompletion())
+              .map(time -> LOGGER.formatMessage(ROLL_COMPLETION_PREDICTED, time))
+              .ifPresent(condition::withMessage);
+        return condition;
+      }
+
       @Nonnull
       @Override
       List<EventData> createDomainEvents() {
@@ -455,7 +468,19 @@ public class DomainStatusUpdater {
     }
 
     boolean isStatusUnchanged() {
-      return getDomain() == null || getNewStatus().equals(getStatus());
+      if (getDomain() == null || getNewStatus().equals(getStatus())) {
+        return true;
+      } else if (isOnlyObservationTimeChanged()) {
+        OperatorMetrics.incrementDomainStatusWritesAvoided(getNamespace(), getDomainUid());
+        return true;
+      } else {
+        return false;
+      }
+    }
+
+    // Returns true if the new status differs from the current one only in timestamps which record observations
+    private boolean isOnlyObservationTimeChanged() {
+      return Objects.equals(DomainStatusFingerprint.of(getNewStatus()), info.getStatusFingerprint());
     }
 
     private String getNamespace() {
@@ -674,6 +699,7 @@ public class DomainStatusUpdater {
       private final Map<String, String> serverState;
       private final Map<String, ServerHealth> serverHealth;
       private final Packet packet;
+      private Map<String, String> serverClusterNames;
 
       StatusUpdateContext(Packet packet, StatusUpdateStep statusUpdateStep) {
         super(packet, statusUpdateStep);
@@ -780,12 +806,14 @@ public class DomainStatusUpdater {
       class Conditions {
 
         private final DomainStatus status;
+        private final Set<String> adminServerNames;
         private final ClusterCheck[] clusterChecks;
         private final List<DomainCondition> conditionList = new ArrayList<>();
         private final DomainStatus oldStatus;
 
         public Conditions(DomainStatus status) {
           this.status = status != null ? status : new DomainStatus();
+          this.adminServerNames = getAdminServerNames();
           this.clusterChecks = createClusterChecks();
           boolean isCompleted = isProcessingCompleted() && !this.status.hasConditionWithType(FAILED);
           conditionList.add(new DomainCondition(COMPLETED).withStatus(isCompleted));
@@ -836,13 +864,32 @@ public class DomainStatusUpdater {
               && failureReasonMatch(c, condition) && "True".equals(c.getStatus());
         }
 
+        private Set<String> getAdminServerNames() {
+          return status.getServers().stream()
+              .filter(ServerStatus::isAdminServer)
+              .map(ServerStatus::getServerName)
+              .collect(Collectors.toSet());
+        }
+
+        // Groups the servers by cluster in a single pass, rather than scanning all servers once per cluster.
         @Nonnull
         private ClusterCheck[] createClusterChecks() {
-          return status.getClusters().stream().map(this::createFrom).toArray(ClusterCheck[]::new);
+          final Map<String, List<String>> serverNamesByCluster = getServerNamesByCluster();
+          return status.getClusters().stream()
+              .map(c -> createFrom(c, serverNamesByCluster))
+              .toArray(ClusterCheck[]::new);
         }
 
-        private ClusterCheck createFrom(ClusterStatus clusterStatus) {
-          return new ClusterCheck(status, clusterStatus);
+        private Map<String, List<String>> getServerNamesByCluster() {
+          return status.getServers().stream()
+              .filter(s -> s.getClusterName() != null)
+              .collect(Collectors.groupingBy(ServerStatus::getClusterName,
+                  Collectors.mapping(ServerStatus::getServerName, Collectors.toList())));
+        }
+
+        private ClusterCheck createFrom(ClusterStatus clusterStatus, Map<String, List<String>> serverNamesByCluster) {
+          return new ClusterCheck(clusterStatus,
+              serverNamesByCluster.getOrDefault(clusterStatus.getClusterName(), Collections.emptyList()));
         }
 
         private boolean isProcessingCompleted() {
@@ -862,7 +909,7 @@ public class DomainStatusUpdater {
         }
 
         private boolean allNonStartedServersAreShutdown() {
-          return getNonStartedServersWithState().stream().allMatch(StatusUpdateContext.this::isShutDown);
+          return getNonStartedServersWithState().stream().allMatch(StatusUpdateContext.this::isShutDownOrStandingBy);
         }
 
         private List<String> getNonStartedServersWithState() {
@@ -976,9 +1023,7 @@ public class DomainStatusUpdater {
         }
 
         private boolean isAdminServer(String serverName) {
-          return status.getServers().stream()
-              .filter(s -> s.getServerName().equals(serverName))
-              .anyMatch(ServerStatus::isAdminServer);
+          return adminServerNames.contains(serverName);
         }
       }
 
@@ -991,27 +1036,23 @@ public class DomainStatusUpdater {
         private final List<String> nonStartedServers;
         private final ClusterStatus clusterStatus;
 
-        ClusterCheck(DomainStatus domainStatus, ClusterStatus clusterStatus) {
+        ClusterCheck(ClusterStatus clusterStatus, List<String> clusterServerNames) {
           this.clusterStatus = clusterStatus;
           clusterName = clusterStatus.getClusterName();
           maxReplicaCount = clusterStatus.getMaximumReplicas();
           specifiedReplicaCount = clusterStatus.getReplicasGoal();
-          startedServers = getStartedServersInCluster(domainStatus, clusterName);
-          nonStartedServers = getNonStartedClusteredServers(domainStatus, clusterName);
+          startedServers = getStartedServersInCluster(clusterServerNames);
+          nonStartedServers = getNonStartedClusteredServers(clusterServerNames);
         }
 
-        private List<String> getStartedServersInCluster(DomainStatus domainStatus, String clusterName) {
-          return domainStatus.getServers().stream()
-              .filter(s -> clusterName.equals(s.getClusterName()))
-              .map(ServerStatus::getServerName)
+        private List<String> getStartedServersInCluster(List<String> clusterServerNames) {
+          return clusterServerNames.stream()
               .filter(expectedRunningServers::contains)
               .collect(Collectors.toList());
         }
 
-        private List<String> getNonStartedClusteredServers(DomainStatus domainStatus, String clusterName) {
-          return domainStatus.getServers().stream()
-              .filter(s -> clusterName.equals(s.getClusterName()))
-              .map(ServerStatus::getServerName)
+        private List<String> getNonStartedClusteredServers(List<String> clusterServerNames) {
+          return clusterServerNames.stream()
               .filter(name -> !expectedRunningServers.contains(name))
               .collect(Collectors.toList());
         }
@@ -1050,7 +1091,7 @@ public class DomainStatusUpdater {
         }
 
         private boolean allNonStartedClusterServersAreShutdown() {
-          return nonStartedServers.stream().allMatch(StatusUpdateContext.this::isShutDown);
+          return nonStartedServers.stream().allMatch(StatusUpdateContext.this::isShutDownOrStandingBy);
         }
 
         private Set<String> clusteredServersMarkedForRoll() {
@@ -1137,6 +1178,7 @@ public class DomainStatusUpdater {
           Optional.ofNullable(info).map(i -> i.getServerPod(serverName))
               .map(V1Pod::getStatus)
               .map(s -> status.withPodReady(getReadyStatus(s)).withPodPhase(s.getPhase()));
+          Optional.ofNullable(info).map(i -> getStartupSeconds(i, serverName)).ifPresent(status::withStartupSeconds);
         }
 
         private String getReadyStatus(V1PodStatus podStatus) {
@@ -1158,20 +1200,21 @@ public class DomainStatusUpdater {
           return "Running".equals(status.getPhase());
         }
 
-        private void updateClusterStatus(ClusterStatus clusterStatus) {
+        private void updateClusterStatus(
+              ClusterStatus clusterStatus, Map<String, Long> replicaCounts, Map<String, Long> readyReplicaCounts) {
           final String clusterName = clusterStatus.getClusterName();
           clusterStatus
-              .withReplicas(getNumReplicas(clusterName, this::hasServerPod))
-              .withReadyReplicas(getNumReplicas(clusterName, this::hasReadyServerPod));
+              .withReplicas(getNumReplicas(clusterName, replicaCounts))
+              .withReadyReplicas(getNumReplicas(clusterName, readyReplicaCounts));
         }
 
         @Nullable
-        private Integer getNumReplicas(String clusterName, Predicate<String> serverFilter) {
-          return Optional.ofNullable(getClusterCounts(serverFilter).get(clusterName)).map(Long::intValue).orElse(null);
+        private Integer getNumReplicas(String clusterName, Map<String, Long> clusterCounts) {
+          return Optional.ofNullable(clusterCounts.get(clusterName)).map(Long::intValue).orElse(null);
         }
 
-        Integer getReplicaSetting() {
-          Collection<Long> values = getClusterCounts(this::hasServerPod).values();
+        Integer getReplicaSetting(Map<String, Long> replicaCounts) {
+          Collection<Long> values = replicaCounts.values();
           if (values.size() == 1) {
             return values.iterator().next().intValue();
           } else {
@@ -1204,10 +1247,13 @@ public class DomainStatusUpdater {
               .orElse(null);
         }
 
+        // The cluster counts are computed once for all clusters, rather than once per cluster.
         private void updateStatusDetails() {
           status.getServers().forEach(this::updateServerStatus);
-          status.getClusters().forEach(this::updateClusterStatus);
-          status.setReplicas(getReplicaSetting());
+          final Map<String, Long> replicaCounts = getClusterCounts(this::hasServerPod);
+          final Map<String, Long> readyReplicaCounts = getClusterCounts(this::hasReadyServerPod);
+          status.getClusters().forEach(c -> updateClusterStatus(c, replicaCounts, readyReplicaCounts));
+          status.setReplicas(getReplicaSetting(replicaCounts));
         }
       }
 
@@ -1298,6 +1344,12 @@ public class DomainStatusUpdater {
         return SHUTDOWN_STATE.equals(getRunningState(serverName));
       }
 
+      // A warm standby server is not expected to run, but is intentionally kept in the ADMIN state.
+      private boolean isShutDownOrStandingBy(@Nonnull String serverName) {
+        return isShutDown(serverName)
+            || (getInfo().isWarmStandbyServer(serverName) && ADMIN_STATE.equals(getRunningState(serverName)));
+      }
+
       private Set<String> serversMarkedForRoll() {
         return DomainPresenceInfo.fromPacket(packet)
             .map(DomainPresenceInfo::getServersToRoll)
@@ -1314,7 +1366,11 @@ public class DomainStatusUpdater {
       }
 
       private boolean isNotReadyInTime(V1Pod pod) {
-        return !PodHelper.isReady(pod) && hasBeenUnreadyExceededWaitTime(pod);
+        return !PodHelper.isReady(pod) && !isWarmStandbyPod(pod) && hasBeenUnreadyExceededWaitTime(pod);
+      }
+
+      private boolean isWarmStandbyPod(V1Pod pod) {
+        return Optional.ofNullable(PodHelper.getPodServerName(pod)).map(getInfo()::isWarmStandbyServer).orElse(false);
       }
 
       private boolean hasPodNotRunningInTime() {
@@ -1396,10 +1452,17 @@ public class DomainStatusUpdater {
 
       private String getClusterName(String serverName) {
         return getDomainConfig()
-            .map(c -> c.getClusterName(serverName))
+            .map(c -> getServerClusterNames(c).get(serverName))
             .orElse(getClusterNameFromPod(serverName));
       }
 
+      private Map<String, String> getServerClusterNames(WlsDomainConfig config) {
+        if (serverClusterNames == null) {
+          serverClusterNames = config.getServerClusterNames();
+        }
+        return serverClusterNames;
+      }
+
       private String getClusterNameFromPod(String serverName) {
         return getClusterNameFromPod(getInfo().getServerPod(serverName));
       }
@@ -1435,6 +1498,14 @@ public class DomainStatusUpdater {
     }
   }
 
+  // The start time is kept in the status of each server, so that it is known after an operator restart even when
+  // the server has no pod.
+  private static Integer getStartupSeconds(DomainPresenceInfo info, String serverName) {
+    return Optional.ofNullable(info.getServerStartupDuration(serverName))
+        .map(duration -> (int) duration.getSeconds())
+        .orElse(null);
+  }
+
   /**
    * A factory to update a DomainStatus object from a WlsDomainConfig. This includes the clusters and servers
    * that are expected to be running, but does not include actual runtime state.
@@ -1461,13 +1532,10 @@ public class DomainStatusUpdater {
       this.isServerConfiguredToRun = isServerConfiguredToRun;
     }
 
-    ServerStatus createServerStatus(WlsServerConfig config) {
-      return new ServerStatusFactory(config).create();
-    }
-
     public void setStatusDetails(DomainStatus status) {
+      final Map<String, String> serverClusterNames = domainConfig.getServerClusterNames();
       status.setServers(domainConfig.getAllServers().stream()
-          .map(this::createServerStatus)
+          .map(c -> new ServerStatusFactory(c, serverClusterNames).create())
           .collect(Collectors.toList()));
       status.setClusters(domainConfig.getConfiguredClusters().stream()
           .map(this::createClusterStatus)
@@ -1479,9 +1547,9 @@ public class DomainStatusUpdater {
       private final String clusterName;
       private final boolean isAdminServer;
 
-      public ServerStatusFactory(WlsServerConfig serverConfig) {
+      ServerStatusFactory(WlsServerConfig serverConfig, Map<String, String> serverClusterNames) {
         this.serverName = serverConfig.getName();
-        this.clusterName = domainConfig.getClusterName(serverName);
+        this.clusterName = serverClusterNames.get(serverName);
         this.isAdminServer = serverName.equals(domainConfig.getAdminServerName());
       }
 
@@ -1490,10 +1558,14 @@ public class DomainStatusUpdater {
             .withServerName(serverName)
             .withClusterName(clusterName)
             .withStateGoal(getStateGoal())
-            .withIsAdminServer(isAdminServer);
+            .withIsAdminServer(isAdminServer)
+            .withStartupSeconds(getStartupSeconds(info, serverName));
       }
 
       private String getStateGoal() {
+        if (info.isWarmStandbyServer(serverName)) {
+          return ADMIN_STATE;
+        }
         return wasServerStarted() ? getStateGoal(serverName, clusterName) : SHUTDOWN_STATE;
       }
 
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -28,6 +28,15 @@ public interface IntrospectorConfigMapConstants {
   /** A hash of the Model-in-Image inputs. */
   String DOMAIN_INPUTS_HASH = "weblogic.domainInputsHash";
 
+  /** The Model-in-Image domain, archived and base64-encoded. */
+  String DOMAIN_ZIP = "domainzip.secure";
+
+  /** The Model-in-Image primordial domain, archived and base64-encoded. */
+  String PRIMORDIAL_DOMAIN_ZIP = "primordial_domainzip.secure";
+
+  /** The suffix added to the key of an entry which is stored gzip-compressed in the config map's binary data. */
+  String COMPRESSED_ENTRY_SUFFIX = ".gz";
+
   /** The number of config maps required to hold the encoded domains. */
   String NUM_CONFIG_MAPS = "numConfigMaps";
 
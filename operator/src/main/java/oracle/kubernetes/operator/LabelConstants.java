@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -27,6 +27,7 @@ public interface LabelConstants {
   String TO_BE_ROLLED_LABEL = "weblogic.awaitingPodRoll";
   String DOMAIN_OBSERVED_GENERATION_LABEL = "weblogic.domainObservedGeneration";
   String CLUSTER_OBSERVED_GENERATION_LABEL = "weblogic.clusterObservedGeneration";
+  String WARM_STANDBY_LABEL = "weblogic.warmStandby";
   String SERVICE_TYPE_LABEL = "serviceType";
 
   static String forDomainUidSelector(String uid) {
@@ -0,0 +1,114 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Measures the phases of starting a group of domain namespaces together. The time taken by each phase in each
+ * namespace is recorded as a metric; once the whole group has been started, the total time and the time spent
+ * in each phase, summed across the namespaces, are logged.
+ */
+class NamespaceStartupTimer {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String PHASE_START_PREFIX = "namespaceStartupPhase.";
+
+  static final String RULES_REVIEW = "rules_review";
+  static final String READ_RESOURCES = "read_resources";
+
+  private final OffsetDateTime startTime = SystemClock.now();
+  private final Map<String, DoubleAdder> phaseSeconds = new ConcurrentHashMap<>();
+  private final AtomicInteger numNamespacesRead = new AtomicInteger();
+
+  /**
+   * Wraps the specified steps so that the time they take is recorded as the specified phase. The start time is
+   * kept in the packet, which must not be shared with other namespaces.
+   * @param phase the name of the phase
+   * @param steps the steps which make up the phase
+   */
+  Step timePhase(String phase, Step steps) {
+    return Step.chain(new PhaseStartStep(phase), steps, new PhaseEndStep(phase));
+  }
+
+  /**
+   * Creates a step to report the times for the group, once all of its namespaces have been started.
+   */
+  Step createReportStep() {
+    return new ReportStep();
+  }
+
+  private double getPhaseSeconds(String phase) {
+    return phaseSeconds.computeIfAbsent(phase, p -> new DoubleAdder()).sum();
+  }
+
+  private static double secondsSince(OffsetDateTime time) {
+    return Duration.between(time, SystemClock.now()).toMillis() / 1000.0;
+  }
+
+  private static class PhaseStartStep extends Step {
+    private final String phase;
+
+    PhaseStartStep(String phase) {
+      this.phase = phase;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(PHASE_START_PREFIX + phase, SystemClock.now());
+      return doNext(packet);
+    }
+  }
+
+  private class PhaseEndStep extends Step {
+    private final String phase;
+
+    PhaseEndStep(String phase) {
+      this.phase = phase;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final OffsetDateTime phaseStart = packet.getValue(PHASE_START_PREFIX + phase);
+      if (phaseStart != null) {
+        final double seconds = secondsSince(phaseStart);
+        phaseSeconds.computeIfAbsent(phase, p -> new DoubleAdder()).add(seconds);
+        OperatorMetrics.observeNamespaceStartupPhase(phase, seconds);
+      }
+      if (READ_RESOURCES.equals(phase)) {
+        numNamespacesRead.incrementAndGet();
+      }
+      return doNext(packet);
+    }
+  }
+
+  // Periodic rechecks of namespaces which are already running do not read their resources, and are not reported.
+  private class ReportStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      if (numNamespacesRead.get() > 0) {
+        final double seconds = secondsSince(startTime);
+        OperatorMetrics.setNamespaceStartupTime(seconds);
+        LOGGER.fine(String.format(
+              "Read the resources of %d namespaces in %.1f seconds; summed across namespaces, the rules review "
+                    + "took %.1f seconds and reading resources took %.1f seconds",
+              numNamespacesRead.get(), seconds, getPhaseSeconds(RULES_REVIEW), getPhaseSeconds(READ_RESOURCES)));
+      }
+      return doNext(packet);
+    }
+  }
+}
@@ -1,15 +1,17 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.common.KubernetesListObject;
@@ -33,11 +35,14 @@ import static oracle.kubernetes.operator.LabelConstants.getCreatedByOperatorSele
 
 /**
  * A Class to manage listing Kubernetes resources associated with a namespace and doing processing on them.
+ * The list calls are made in parallel; their results are held until all have completed and then passed to the
+ * processors in a fixed order, so that the processors see the same sequence as when the calls were made serially.
  */
 class NamespacedResources {
   private final String namespace;
   private final String domainUid;
   private final List<Processors> processors = new ArrayList<>();
+  private final List<ListResults<?>> listResults = new ArrayList<>();
   private final DomainNamespaces domainNamespaces;
 
   NamespacedResources(String namespace, String domainUid, DomainNamespaces domainNamespaces) {
@@ -51,7 +56,7 @@ class NamespacedResources {
   }
 
   Step createListSteps() {
-    return Step.chain(
+    final List<Step> listSteps = Stream.of(
           getConfigMapListSteps(),
           getPodEventListSteps(),
           getOperatorEventListSteps(),
@@ -60,9 +65,9 @@ class NamespacedResources {
           getServiceListSteps(),
           getPodDisruptionBudgetListSteps(),
           getDomainListSteps(),
-          getClusterListSteps(),
-          new CompletionStep()
-    );
+          getClusterListSteps()
+    ).filter(Objects::nonNull).collect(Collectors.toList());
+    return new ListInParallelStep(listSteps, Step.chain(new ProcessListsStep(), new CompletionStep()));
   }
 
   private Step getPauseWatchersStep(Watcher<?> watcher) {
@@ -75,7 +80,7 @@ class NamespacedResources {
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
     return Step.chain(getPauseWatchersStep(getConfigMapWatcher()),
-        new CallBuilder().listConfigMapsAsync(namespace, new ListResponseStep<>(processing)));
+        new CallBuilder().listConfigMapsAsync(namespace, createListResponseStep(processing)));
   }
 
   private ConfigMapWatcher getConfigMapWatcher() {
@@ -89,7 +94,7 @@ class NamespacedResources {
   private Step createPodEventListStep(List<Consumer<CoreV1EventList>> processing) {
     return Step.chain(getPauseWatchersStep(getEventWatcher()),
         new CallBuilder().withFieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER)
-            .listEventAsync(namespace, new ListResponseStep<>(processing)));
+            .listEventAsync(namespace, createListResponseStep(processing)));
   }
 
   private EventWatcher getEventWatcher() {
@@ -104,7 +109,7 @@ class NamespacedResources {
   private Step createOperatorEventListStep(List<Consumer<CoreV1EventList>> processing) {
     return Step.chain(getPauseWatchersStep(getOperatorEventWatcher()),
         new CallBuilder().withLabelSelectors(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER)
-            .listEventAsync(namespace, new ListResponseStep<>(processing)));
+            .listEventAsync(namespace, createListResponseStep(processing)));
   }
 
   private OperatorEventWatcher getOperatorEventWatcher() {
@@ -119,7 +124,7 @@ class NamespacedResources {
   private Step createPodDisruptionBudgetListStep(List<Consumer<V1PodDisruptionBudgetList>> processing) {
     return Step.chain(getPauseWatchersStep(getPodDisruptionBudgetWatcher()),
         new CallBuilder().withLabelSelectors(forDomainUidSelector(domainUid), getCreatedByOperatorSelector())
-            .listPodDisruptionBudgetAsync(namespace, new ListResponseStep<>(processing)));
+            .listPodDisruptionBudgetAsync(namespace, createListResponseStep(processing)));
   }
 
   private PodDisruptionBudgetWatcher getPodDisruptionBudgetWatcher() {
@@ -133,7 +138,7 @@ class NamespacedResources {
 
   private Step createJobListStep(List<Consumer<V1JobList>> processing) {
     return Step.chain(getPauseWatchersStep(getJobWatcher()),
-        createSubResourceCallBuilder().listJobAsync(namespace, new ListResponseStep<>(processing)));
+        createSubResourceCallBuilder().listJobAsync(namespace, createListResponseStep(processing)));
   }
 
   private JobWatcher getJobWatcher() {
@@ -146,7 +151,7 @@ class NamespacedResources {
 
   private Step createPodListStep(List<Consumer<V1PodList>> processing) {
     return Step.chain(getPauseWatchersStep(getPodWatcher()),
-        createSubResourceCallBuilder().listPodAsync(namespace, new ListResponseStep<>(processing)));
+        createSubResourceCallBuilder().listPodAsync(namespace, createListResponseStep(processing)));
   }
 
   private PodWatcher getPodWatcher() {
@@ -167,7 +172,7 @@ class NamespacedResources {
 
   private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
     return Step.chain(getPauseWatchersStep(getServiceWatcher()),
-        createSubResourceCallBuilder().listServiceAsync(namespace, new ListResponseStep<>(processing)));
+        createSubResourceCallBuilder().listServiceAsync(namespace, createListResponseStep(processing)));
   }
 
   private ServiceWatcher getServiceWatcher() {
@@ -180,7 +185,7 @@ class NamespacedResources {
 
   private Step createClusterListSteps(List<Consumer<ClusterList>> processing) {
     return Step.chain(getPauseWatchersStep(getClusterWatcher()),
-        new CallBuilder().listClusterAsync(namespace, new ListResponseStep<>(processing)));
+        new CallBuilder().listClusterAsync(namespace, createListResponseStep(processing)));
   }
 
   private ClusterWatcher getClusterWatcher() {
@@ -193,13 +198,20 @@ class NamespacedResources {
 
   private Step createDomainListSteps(List<Consumer<DomainList>> processing) {
     return Step.chain(getPauseWatchersStep(getDomainWatcher()),
-        new CallBuilder().listDomainAsync(namespace, new ListResponseStep<>(processing)));
+        new CallBuilder().listDomainAsync(namespace, createListResponseStep(processing)));
   }
 
   private DomainWatcher getDomainWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getDomainWatcher(namespace)).orElse(null);
   }
 
+  // Results are recorded in the order in which the list steps are created, which is the order of processing.
+  private <L extends KubernetesListObject> ListResponseStep<L> createListResponseStep(List<Consumer<L>> processing) {
+    final ListResults<L> results = new ListResults<>(processing);
+    listResults.add(results);
+    return new ListResponseStep<>(results);
+  }
+
   private <L extends KubernetesListObject>
         Optional<List<Consumer<L>>> getListProcessing(Function<Processors, Consumer<L>> method) {
     return nullIfEmpty(processors.stream().map(method).filter(Objects::nonNull).collect(Collectors.toList()));
@@ -210,6 +222,30 @@ class NamespacedResources {
   }
 
 
+  static class ListInParallelStep extends Step {
+    private final List<Step> listSteps;
+
+    ListInParallelStep(List<Step> listSteps, Step next) {
+      super(next);
+      this.listSteps = listSteps;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(getNext(), packet, listSteps.stream()
+          .map(step -> new StepAndPacket(step, packet.copy()))
+          .collect(Collectors.toList()));
+    }
+  }
+
+  class ProcessListsStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      listResults.forEach(ListResults::process);
+      return doNext(packet);
+    }
+  }
+
   class CompletionStep extends Step {
     @Override
     public NextAction apply(Packet packet) {
@@ -232,16 +268,39 @@ class NamespacedResources {
     }
   }
 
-  private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
+  // The pages returned by a list call, held until they can be passed to the processors.
+  private static class ListResults<L extends KubernetesListObject> {
     private final List<Consumer<L>> processors;
+    private final List<L> pages = Collections.synchronizedList(new ArrayList<>());
 
-    ListResponseStep(List<Consumer<L>> processors) {
+    ListResults(List<Consumer<L>> processors) {
       this.processors = processors;
     }
 
+    void add(L page) {
+      pages.add(page);
+    }
+
+    void process() {
+      final List<L> results;
+      synchronized (pages) {
+        results = new ArrayList<>(pages);
+        pages.clear();
+      }
+      results.forEach(page -> processors.forEach(p -> p.accept(page)));
+    }
+  }
+
+  private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
+    private final ListResults<L> results;
+
+    ListResponseStep(ListResults<L> results) {
+      this.results = results;
+    }
+
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<L> callResponse) {
-      processors.forEach(p -> p.accept(callResponse.getResult()));
+      results.add(callResponse.getResult());
       return doContinueListOrNext(callResponse, packet);
     }
   }
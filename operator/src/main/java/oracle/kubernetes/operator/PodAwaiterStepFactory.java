@@ -3,8 +3,18 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 public interface PodAwaiterStepFactory {
@@ -44,4 +54,50 @@ public interface PodAwaiterStepFactory {
    * @return Asynchronous step
    */
   Step waitForServerShutdown(String serverName, DomainResource domain, Step next);
+
+  /**
+   * Waits until all the named Pods are Ready, running the step specified for each Pod as soon as that Pod is ready.
+   * This default implementation waits for each Pod in a separate fiber.
+   *
+   * @param podReadySteps a map of Pod names to the steps to run, each with its own packet, once that Pod is ready.
+   *                      The step of an entry may be null
+   * @param next Next processing step once all the Pods are ready and their steps have run
+   * @return Asynchronous step
+   */
+  default Step waitForAllReady(Map<String, StepAndPacket> podReadySteps, Step next) {
+    return new Step(next) {
+      @Override
+      public NextAction apply(Packet packet) {
+        if (podReadySteps.isEmpty()) {
+          return doNext(packet);
+        }
+
+        return doForkJoin(getNext(), packet, podReadySteps.entrySet().stream()
+              .map(entry -> new StepAndPacket(waitForReady(entry.getKey(), entry.getValue().step),
+                    entry.getValue().packet))
+              .collect(Collectors.toList()));
+      }
+    };
+  }
+
+  /**
+   * Waits until all the Pods are deleted. This default implementation waits for each Pod in turn.
+   *
+   * @param pods Pods to watch. Null entries are ignored
+   * @param next Next processing step once all the Pods are deleted
+   * @return Asynchronous step
+   */
+  default Step waitForAllDeleted(Collection<V1Pod> pods, Step next) {
+    Step step = next;
+    for (V1Pod pod : reversed(pods)) {
+      step = waitForDelete(pod, step);
+    }
+    return step;
+  }
+
+  private static <T> List<T> reversed(Collection<T> collection) {
+    final List<T> result = new ArrayList<>();
+    collection.stream().filter(Objects::nonNull).forEach(item -> result.add(0, item));
+    return result;
+  }
 }
@@ -3,21 +3,38 @@
 
 package oracle.kubernetes.operator;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.common.logging.MessageKeys;
@@ -26,19 +43,26 @@ import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 import static oracle.kubernetes.common.logging.MessageKeys.EXECUTE_MAKE_RIGHT_DOMAIN;
 import static oracle.kubernetes.common.logging.MessageKeys.LOG_WAITING_COUNT;
+import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
@@ -48,6 +72,8 @@ import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
  */
 public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>, PodAwaiterStepFactory {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String POD_EVENT = "pod_event";
+  private static final String RECHECK = "recheck";
   private final String namespace;
   private final WatchListener<V1Pod> listener;
 
@@ -142,6 +168,30 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     }
   }
 
+  private void addOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
+    synchronized (modifiedCallbackRegistrations) {
+      modifiedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
+    }
+  }
+
+  private void removeOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
+    synchronized (modifiedCallbackRegistrations) {
+      Optional.ofNullable(modifiedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
+    }
+  }
+
+  private void addOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
+    synchronized (deletedCallbackRegistrations) {
+      deletedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
+    }
+  }
+
+  private void removeOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
+    synchronized (deletedCallbackRegistrations) {
+      Optional.ofNullable(deletedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
+    }
+  }
+
   // make a copy to avoid concurrent modification
   private <T> Collection<T> copyOf(Collection<T> collection) {
     return new ArrayList<>(collection);
@@ -180,6 +230,397 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     return new WaitForPodDeleteStep(pod, next);
   }
 
+  /**
+   * Waits until all the named Pods are Ready, using a single callback registration for the set of Pods. The step
+   * specified for each Pod runs in its own fiber as soon as that Pod is ready.
+   *
+   * @param podReadySteps a map of Pod names to the steps to run, each with its own packet, once that Pod is ready.
+   *                      The step of an entry may be null
+   * @param next Next processing step once all the Pods are ready and their steps have run
+   * @return Asynchronous step
+   */
+  @Override
+  public Step waitForAllReady(Map<String, StepAndPacket> podReadySteps, Step next) {
+    return new WaitForPodsReadyStep(podReadySteps, next);
+  }
+
+  /**
+   * Waits until all the Pods are deleted, using a single callback registration for the set of Pods.
+   *
+   * @param pods Pods to watch. Null entries are ignored
+   * @param next Next processing step once all the Pods are deleted
+   * @return Asynchronous step
+   */
+  @Override
+  public Step waitForAllDeleted(Collection<V1Pod> pods, Step next) {
+    return new WaitForPodsDeletedStep(pods, next);
+  }
+
+  /**
+   * Waits until each of a set of pods has reached the desired state. Rather than suspending a fiber for each pod,
+   * this step suspends once and registers the same callback for every pod in the set; the fiber resumes when the
+   * last of them is done. Any step specified for a pod runs in a child fiber as soon as that pod is done, and the
+   * fiber resumes only once those steps have completed. As a backstop in case a watch event is missed, the pending
+   * pods are rechecked with a single list request for the domain, rather than a read of each pod. Any pods still
+   * pending when the configured number of rechecks has been made are handed over to the single-pod wait steps,
+   * which start a make-right of the domain if they, too, see no progress.
+   */
+  private abstract class WaitForPodSetStep extends Step {
+    private final Set<String> podNames;
+    private final Map<String, StepAndPacket> podDoneSteps;
+
+    private WaitForPodSetStep(Collection<String> podNames, Map<String, StepAndPacket> podDoneSteps, Step next) {
+      super(next);
+      this.podNames = new LinkedHashSet<>(podNames);
+      this.podDoneSteps = podDoneSteps;
+    }
+
+    @Override
+    protected String getDetail() {
+      return String.join(",", podNames);
+    }
+
+    /**
+     * Returns true if the specified pod, as reported by a watch event, has reached the desired state.
+     * @param pod the pod reported by the event
+     */
+    abstract boolean isDoneOnEvent(V1Pod pod);
+
+    /**
+     * Returns true if the specified pod, as listed during a recheck, has reached the desired state.
+     * @param pod the listed pod, or null if no pod with the expected name was found
+     */
+    abstract boolean isDoneOnRecheck(@Nullable V1Pod pod);
+
+    abstract void addCallback(String podName, Consumer<V1Pod> callback);
+
+    abstract void removeCallback(String podName, Consumer<V1Pod> callback);
+
+    /**
+     * Creates a step to wait for a single pod which had not reached the desired state after all the rechecks.
+     * @param podName the name of the pod
+     * @param next the next step to run
+     */
+    abstract Step createSinglePodWaitStep(String podName, Step next);
+
+    /**
+     * Updates the domain presence info from a pod listed during a recheck. This default implementation does nothing.
+     * @param info the domain presence info
+     * @param pod the listed pod
+     */
+    void updatePresence(DomainPresenceInfo info, V1Pod pod) {
+      // no-op
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (podNames.isEmpty()) {
+        return doNext(packet);
+      }
+
+      final PodSetCallback callback = new PodSetCallback(packet);
+      return doSuspend(new WaitForRemainingPodsStep(callback, getNext()), callback::start);
+    }
+
+    private class PodSetCallback implements Consumer<V1Pod> {
+      private final Packet packet;
+      private final Set<String> pendingPodNames = ConcurrentHashMap.newKeySet();
+      private final AtomicBoolean didResume = new AtomicBoolean(false);
+      private final AtomicInteger recheckCount = new AtomicInteger(0);
+      private final AtomicInteger unfinishedCount = new AtomicInteger(0);
+      private AsyncFiber fiber;
+
+      PodSetCallback(Packet packet) {
+        this.packet = packet;
+      }
+
+      private void start(AsyncFiber fiber) {
+        this.fiber = fiber;
+        pendingPodNames.addAll(podNames);
+        unfinishedCount.set(podNames.size());
+        podNames.forEach(podName -> addCallback(podName, this));
+        fiber.createChildFiber().start(new RecheckPodsStep(this), packet.copy(), null);
+      }
+
+      @Override
+      public void accept(V1Pod pod) {
+        if (isDoneOnEvent(pod)) {
+          markDone(PodHelper.getPodName(pod));
+        }
+      }
+
+      private void markDone(String podName) {
+        if (!didResumeFiber() && pendingPodNames.remove(podName)) {
+          removeCallback(podName, this);
+          Optional.ofNullable(getPodDoneStep(podName)).ifPresentOrElse(this::runPodDoneStep, this::finishPod);
+        }
+      }
+
+      // Runs the step for a pod as soon as that pod is done, rather than once the whole set is.
+      private void runPodDoneStep(StepAndPacket podDoneStep) {
+        fiber.createChildFiber().start(podDoneStep.step, podDoneStep.packet, new PodDoneStepCompletionCallback());
+      }
+
+      // A pod is finished once it is done and any step for it has completed. The fiber resumes after the last one.
+      private void finishPod() {
+        if (unfinishedCount.decrementAndGet() == 0) {
+          resume();
+        }
+      }
+
+      // Resumes the suspended fiber, either because all the pods are done or because the rechecks are exhausted.
+      // Only the first call has any effect.
+      private void resume() {
+        if (didResume.compareAndSet(false, true)) {
+          pendingPodNames.forEach(podName -> removeCallback(podName, this));
+          fiber.resume(packet);
+        }
+      }
+
+      private boolean didResumeFiber() {
+        return didResume.get();
+      }
+
+      private Collection<String> getPendingPodNames() {
+        return podNames.stream().filter(pendingPodNames::contains).collect(Collectors.toList());
+      }
+
+      private class PodDoneStepCompletionCallback implements Fiber.CompletionCallback {
+        @Override
+        public void onCompletion(Packet packet) {
+          finishPod();
+        }
+
+        @Override
+        public void onThrowable(Packet packet, Throwable throwable) {
+          finishPod();
+        }
+      }
+    }
+
+    @Nullable
+    private StepAndPacket getPodDoneStep(String podName) {
+      return Optional.ofNullable(podDoneSteps.get(podName))
+            .filter(podDoneStep -> podDoneStep.step != null)
+            .orElse(null);
+    }
+
+    private class RecheckPodsStep extends Step {
+      private final PodSetCallback callback;
+
+      RecheckPodsStep(PodSetCallback callback) {
+        this.callback = callback;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        if (callback.didResumeFiber()) {
+          return doEnd(packet);
+        }
+
+        return doNext(createListPodsStep(packet, new RecheckPodsResponseStep(callback)), packet);
+      }
+
+      private Step createListPodsStep(Packet packet, ResponseStep<V1PodList> responseStep) {
+        return DomainPresenceInfo.fromPacket(packet)
+              .map(DomainPresenceInfo::getDomainUid)
+              .map(uid -> new CallBuilder().withLabelSelectors(LabelConstants.forDomainUidSelector(uid),
+                    LabelConstants.getCreatedByOperatorSelector()))
+              .orElse(new CallBuilder().withLabelSelectors(LabelConstants.getCreatedByOperatorSelector()))
+              .listPodAsync(namespace, responseStep);
+      }
+    }
+
+    private class RecheckPodsResponseStep extends DefaultResponseStep<V1PodList> {
+      private final PodSetCallback callback;
+      private final Set<String> listedPodNames = new HashSet<>();
+
+      RecheckPodsResponseStep(PodSetCallback callback) {
+        super(null);
+        this.callback = callback;
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
+        final DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+        Optional.ofNullable(callResponse.getResult()).map(V1PodList::getItems).orElse(Collections.emptyList())
+              .stream()
+              .filter(pod -> podNames.contains(PodHelper.getPodName(pod)))
+              .forEach(pod -> recheckListedPod(info, pod));
+        return doContinueListOrNext(callResponse, packet, new AfterRecheckStep(callback, listedPodNames));
+      }
+
+      private void recheckListedPod(DomainPresenceInfo info, V1Pod pod) {
+        final String podName = PodHelper.getPodName(pod);
+        listedPodNames.add(podName);
+        if (info != null) {
+          updatePresence(info, pod);
+        }
+        if (isDoneOnRecheck(pod)) {
+          callback.markDone(podName);
+        }
+      }
+    }
+
+    private class AfterRecheckStep extends Step {
+      private final PodSetCallback callback;
+      private final Set<String> listedPodNames;
+
+      AfterRecheckStep(PodSetCallback callback, Set<String> listedPodNames) {
+        this.callback = callback;
+        this.listedPodNames = listedPodNames;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        callback.getPendingPodNames().stream()
+              .filter(podName -> !listedPodNames.contains(podName))
+              .filter(podName -> isDoneOnRecheck(null))
+              .forEach(callback::markDone);
+
+        if (callback.didResumeFiber()) {
+          return doEnd(packet);
+        } else if (callback.recheckCount.incrementAndGet() <= WaitForReadyStep.getWatchBackstopRecheckCount()) {
+          return doDelay(new RecheckPodsStep(callback), packet,
+                WaitForReadyStep.getWatchBackstopRecheckDelaySeconds(), TimeUnit.SECONDS);
+        } else {
+          callback.resume();
+          return doEnd(packet);
+        }
+      }
+    }
+
+    private class WaitForRemainingPodsStep extends Step {
+      private final PodSetCallback callback;
+
+      WaitForRemainingPodsStep(PodSetCallback callback, Step next) {
+        super(next);
+        this.callback = callback;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        Step step = getNext();
+        final List<String> remaining = new ArrayList<>(callback.getPendingPodNames());
+        Collections.reverse(remaining);
+        for (String podName : remaining) {
+          step = createSinglePodWaitStep(podName, createPodDoneStep(podName, step));
+        }
+        return doNext(step, packet);
+      }
+
+      private Step createPodDoneStep(String podName, Step next) {
+        return Optional.ofNullable(getPodDoneStep(podName))
+              .<Step>map(podDoneStep -> new RunPodDoneStep(podDoneStep, next))
+              .orElse(next);
+      }
+    }
+
+    // Runs the step for a pod which became done only after the set's rechecks were exhausted.
+    private class RunPodDoneStep extends Step {
+      private final StepAndPacket podDoneStep;
+
+      RunPodDoneStep(StepAndPacket podDoneStep, Step next) {
+        super(next);
+        this.podDoneStep = podDoneStep;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        return doForkJoin(getNext(), packet, List.of(podDoneStep));
+      }
+    }
+  }
+
+  private class WaitForPodsReadyStep extends WaitForPodSetStep {
+
+    private WaitForPodsReadyStep(Map<String, StepAndPacket> podReadySteps, Step next) {
+      super(podReadySteps.keySet(), podReadySteps, next);
+    }
+
+    @Override
+    boolean isDoneOnEvent(V1Pod pod) {
+      return isPodReady(pod);
+    }
+
+    @Override
+    boolean isDoneOnRecheck(@Nullable V1Pod pod) {
+      return isPodReady(pod);
+    }
+
+    private boolean isPodReady(V1Pod pod) {
+      return pod != null && !PodHelper.isDeleting(pod) && PodHelper.isReady(pod);
+    }
+
+    @Override
+    void updatePresence(DomainPresenceInfo info, V1Pod pod) {
+      Optional.ofNullable(pod.getMetadata())
+            .map(V1ObjectMeta::getLabels)
+            .map(labels -> labels.get(LabelConstants.SERVERNAME_LABEL))
+            .ifPresent(serverName -> info.setServerPodFromEvent(serverName, pod));
+    }
+
+    @Override
+    void addCallback(String podName, Consumer<V1Pod> callback) {
+      addOnModifiedCallback(podName, callback);
+    }
+
+    @Override
+    void removeCallback(String podName, Consumer<V1Pod> callback) {
+      removeOnModifiedCallback(podName, callback);
+    }
+
+    @Override
+    Step createSinglePodWaitStep(String podName, Step next) {
+      return new WaitForPodReadyStep(podName, next);
+    }
+  }
+
+  private class WaitForPodsDeletedStep extends WaitForPodSetStep {
+    private final Map<String, V1Pod> pods;
+
+    private WaitForPodsDeletedStep(Collection<V1Pod> pods, Step next) {
+      this(toPodMap(pods), next);
+    }
+
+    private WaitForPodsDeletedStep(Map<String, V1Pod> pods, Step next) {
+      super(pods.keySet(), Collections.emptyMap(), next);
+      this.pods = pods;
+    }
+
+    // Only delete events are registered for, so any event means that the pod is gone.
+    @Override
+    boolean isDoneOnEvent(V1Pod pod) {
+      return true;
+    }
+
+    @Override
+    boolean isDoneOnRecheck(@Nullable V1Pod pod) {
+      return pod == null;
+    }
+
+    @Override
+    void addCallback(String podName, Consumer<V1Pod> callback) {
+      addOnDeleteCallback(podName, callback);
+    }
+
+    @Override
+    void removeCallback(String podName, Consumer<V1Pod> callback) {
+      removeOnDeleteCallback(podName, callback);
+    }
+
+    @Override
+    Step createSinglePodWaitStep(String podName, Step next) {
+      return new WaitForPodDeleteStep(pods.get(podName), next);
+    }
+  }
+
+  private static Map<String, V1Pod> toPodMap(Collection<V1Pod> pods) {
+    final Map<String, V1Pod> result = new LinkedHashMap<>();
+    pods.stream().filter(Objects::nonNull).forEach(pod -> result.put(PodHelper.getPodName(pod), pod));
+    return result;
+  }
+
   private abstract static class WaitForPodStatusStep extends WaitForReadyStep<V1Pod> {
 
     public static final int RECHECK_DEBUG_COUNT = 10;
@@ -287,23 +728,11 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       return isReady(resource);
     }
 
-    private void addOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (modifiedCallbackRegistrations) {
-        modifiedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
-      }
-    }
-
     @Override
     protected void addCallback(String podName, Consumer<V1Pod> callback) {
       addOnModifiedCallback(podName, callback);
     }
 
-    private void removeOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (modifiedCallbackRegistrations) {
-        Optional.ofNullable(modifiedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
-      }
-    }
-
     @Override
     protected void removeCallback(String podName, Consumer<V1Pod> callback) {
       removeOnModifiedCallback(podName, callback);
@@ -338,23 +767,11 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       return result == null;
     }
 
-    private void addOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (deletedCallbackRegistrations) {
-        deletedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
-      }
-    }
-
     @Override
     protected void addCallback(String podName, Consumer<V1Pod> callback) {
       addOnDeleteCallback(podName, callback);
     }
 
-    private void removeOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (deletedCallbackRegistrations) {
-        Optional.ofNullable(deletedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
-      }
-    }
-
     @Override
     protected void removeCallback(String podName, Consumer<V1Pod> callback) {
       removeOnDeleteCallback(podName, callback);
@@ -388,14 +805,25 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     return new WaitForServerShutdownStep(next, serverName, domain);
   }
 
+  /**
+   * Waits until the specified server has shut down. Completion is normally detected from watch events for the
+   * server's pod: the WebLogic server container terminating, or the pod being deleted. The domain resource and the
+   * last known server status are still rechecked periodically, as a backstop in case an event is missed.
+   */
   private class WaitForServerShutdownStep extends WaitForReadyStep<DomainResource> {
     private final String serverName;
+    private final OffsetDateTime waitStartTime = SystemClock.now();
+    private final Map<Consumer<DomainResource>, PodCallbacks> podCallbacks = new ConcurrentHashMap<>();
 
     WaitForServerShutdownStep(Step next, String serverName, DomainResource domain) {
       super(domain, next);
       this.serverName = serverName;
     }
 
+    private String getPodName() {
+      return LegalNames.toPodName(initialResource.getDomainUid(), serverName);
+    }
+
     @Override
     protected boolean isReady(DomainResource resource) {
       return Optional.ofNullable(PodHelper.getServerState(resource, serverName)).map(s -> s.equals(SHUTDOWN_STATE))
@@ -407,14 +835,88 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       return resource.getMetadata();
     }
 
+    @Override
+    void updatePacket(Packet packet, DomainResource resource) {
+      DomainPresenceInfo.fromPacket(packet).ifPresent(i -> i.updateLastKnownServerStatus(serverName, SHUTDOWN_STATE));
+    }
+
+    // The domain resource has no watch callbacks; instead, watch for changes to the server pod.
     @Override
     void addCallback(String name, Consumer<DomainResource> callback) {
-      // Ignore
+      final PodCallbacks callbacks = new PodCallbacks(callback);
+      podCallbacks.put(callback, callbacks);
+      addOnModifiedCallback(getPodName(), callbacks.onModified);
+      addOnDeleteCallback(getPodName(), callbacks.onDeleted);
     }
 
     @Override
     void removeCallback(String name, Consumer<DomainResource> callback) {
-      // Ignore
+      Optional.ofNullable(podCallbacks.remove(callback)).ifPresent(this::removePodCallbacks);
+    }
+
+    private void removePodCallbacks(PodCallbacks callbacks) {
+      removeOnModifiedCallback(getPodName(), callbacks.onModified);
+      removeOnDeleteCallback(getPodName(), callbacks.onDeleted);
+    }
+
+    // Only the first event showing that the server is down completes the wait.
+    private void onServerShutDown(Consumer<DomainResource> callback) {
+      Optional.ofNullable(podCallbacks.remove(callback)).ifPresent(callbacks -> {
+        removePodCallbacks(callbacks);
+        recordShutdownDetected(POD_EVENT);
+        callback.accept(null);
+      });
+    }
+
+    // The server has shut down if its pod is being deleted, or if the WebLogic server container
+    // has terminated since the shutdown was requested.
+    private boolean isServerShutDown(V1Pod pod) {
+      return PodHelper.isDeleting(pod) || getWlsContainerStatus(pod)
+            .map(this::hasTerminatedSinceWaitStarted)
+            .orElse(false);
+    }
+
+    private Optional<V1ContainerStatus> getWlsContainerStatus(V1Pod pod) {
+      return Optional.ofNullable(pod.getStatus())
+            .map(V1PodStatus::getContainerStatuses)
+            .orElse(Collections.emptyList())
+            .stream()
+            .filter(status -> WLS_CONTAINER_NAME.equals(status.getName()))
+            .findFirst();
+    }
+
+    private boolean hasTerminatedSinceWaitStarted(V1ContainerStatus status) {
+      return isTerminated(status.getState())
+            || Optional.ofNullable(status.getLastState())
+                  .map(V1ContainerState::getTerminated)
+                  .map(V1ContainerStateTerminated::getFinishedAt)
+                  .map(finishedAt -> !finishedAt.isBefore(waitStartTime))
+                  .orElse(false);
+    }
+
+    private boolean isTerminated(V1ContainerState state) {
+      return state != null && state.getTerminated() != null;
+    }
+
+    private class PodCallbacks {
+      private final Consumer<V1Pod> onModified;
+      private final Consumer<V1Pod> onDeleted;
+
+      PodCallbacks(Consumer<DomainResource> callback) {
+        onModified = pod -> {
+          if (isServerShutDown(pod)) {
+            onServerShutDown(callback);
+          }
+        };
+        onDeleted = pod -> onServerShutDown(callback);
+      }
+    }
+
+    private void recordShutdownDetected(String detectedBy) {
+      final double seconds = Duration.between(waitStartTime, SystemClock.now()).toMillis() / 1000.0;
+      LOGGER.fine(String.format("Shutdown of server %s detected by %s after %.1f seconds",
+            serverName, detectedBy, seconds));
+      OperatorMetrics.observeServerShutdownWaitTime(detectedBy, seconds);
     }
 
     @Override
@@ -444,6 +946,9 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
         DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
         if (isServerShutdown(info) || isReady(callResponse.getResult()) || callback.didResumeFiber()) {
           Optional.ofNullable(info).ifPresent(i -> i.updateLastKnownServerStatus(serverName, SHUTDOWN_STATE));
+          if (!callback.didResumeFiber()) {
+            recordShutdownDetected(RECHECK);
+          }
           callback.proceedFromWait(callResponse.getResult());
           return doEnd(packet);
         } else {
@@ -27,12 +27,16 @@ public interface ProcessingConstants {
   String SERVER_HEALTH_MAP = "serverHealthMap";
 
   String DOMAIN_TOPOLOGY = "domainTopology";
+  /** key to the resource version of the introspector config map from which the domain topology was read. */
+  String INTROSPECTOR_CONFIG_MAP_VERSION = "introspectorConfigMapVersion";
   String JOB_POD = "jobPod";
   String JOB_POD_INTROSPECT_CONTAINER_TERMINATED = "JOB_POD_CONTAINER_TERMINATED";
   String JOB_POD_INTROSPECT_CONTAINER_TERMINATED_MARKER = "done";
   String JOB_POD_FLUENTD_CONTAINER_TERMINATED = "JOB_POD_FLUENTD_CONTAINER_TERMINATED";
   String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
   String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
+  /** key to the follower which reads the log of the introspector job while it runs. */
+  String INTROSPECTOR_LOG_FOLLOWER = "introspectorLogFollower";
   String DOMAIN_INTROSPECT_REQUESTED = "domainIntrospectRequested";
   String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
   String MII_DYNAMIC_UPDATE = "miiDynamicUpdate";
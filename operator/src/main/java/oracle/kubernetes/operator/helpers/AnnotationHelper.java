@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -27,6 +27,8 @@ public class AnnotationHelper {
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Function<Object, String> hashFunction = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Function<Object, String> podHashFunction = CanonicalHash::of;
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -75,6 +77,28 @@ public class AnnotationHelper {
     return hashFunction.apply(objectToHash);
   }
 
+  /**
+   * Creates the hash of a pod recipe. Unlike other resources, pods are hashed with a versioned canonical hash.
+   * @param podRecipe the pod to hash
+   */
+  static String createPodHash(V1Pod podRecipe) {
+    return podHashFunction.apply(podRecipe);
+  }
+
+  /**
+   * Creates the hash of a pod recipe using the same algorithm as was used to compute the specified hash, so that
+   * pods annotated by earlier versions of the operator can still be compared with the current recipe.
+   * @param podRecipe the pod to hash
+   * @param hashToMatch an existing pod hash
+   */
+  static String createPodHash(V1Pod podRecipe, String hashToMatch) {
+    return isLegacyPodHash(hashToMatch) ? createHash(podRecipe) : createPodHash(podRecipe);
+  }
+
+  static boolean isLegacyPodHash(String hash) {
+    return !CanonicalHash.isVersioned(hash);
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
@@ -90,6 +90,8 @@ public class CallBuilder {
 
   private static final String RESOURCE_VERSION_MATCH_UNSET = null;
   private String container;
+  private Integer sinceSeconds;
+  private Boolean timestamps;
 
   private static final SynchronousCallDispatcher DEFAULT_DISPATCHER =
       new SynchronousCallDispatcher() {
@@ -238,6 +240,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (CoreV1Event) requestParams.body,
                   callback));
+  private final CallFactory<CoreV1Event> patchEvent =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchEventAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<String> readPodLog =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -251,9 +262,9 @@ public class CallBuilder {
                   null,
                   PRETTY,
                   null,
+                  sinceSeconds,
                   null,
-                  null,
-                  null,
+                  timestamps,
                   callback));
   private final CallFactory<V1PodDisruptionBudgetList> listPodDisruptionBudget =
       (requestParams, usage, cont, callback) ->
@@ -451,6 +462,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1DeleteOptions) requestParams.body,
                   callback));
+  private final CallFactory<V1Service> patchService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
 
   private final SynchronousCallFactory<V1Pod> patchPodCall =
       (client, requestParams) ->
@@ -656,6 +676,26 @@ public class CallBuilder {
     return this;
   }
 
+  /**
+   * Limits a pod log read to the lines written within the specified number of seconds.
+   * @param sinceSeconds the number of seconds, or null to read the entire log
+   * @return this CallBuilder
+   */
+  public CallBuilder withSinceSeconds(Integer sinceSeconds) {
+    this.sinceSeconds = sinceSeconds;
+    return this;
+  }
+
+  /**
+   * Prefixes each line of a pod log read with the RFC3339 timestamp at which it was written.
+   * @param timestamps true to add timestamps
+   * @return this CallBuilder
+   */
+  public CallBuilder withTimestamps(boolean timestamps) {
+    this.timestamps = timestamps;
+    return this;
+  }
+
   public CallBuilder withFieldSelector(String fieldSelector) {
     this.fieldSelector = fieldSelector;
     return this;
@@ -1907,6 +1947,31 @@ public class CallBuilder {
         deleteService);
   }
 
+  private Call patchServiceAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .patchNamespacedServiceAsync(name, namespace, patch, PRETTY, null, null, null, null, callback);
+  }
+
+  /**
+   * Asynchronous step for patching a service.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param domainUid Identifier of the domain that the service is associated with
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchServiceAsync(
+      String name, String namespace, String domainUid, V1Patch patchBody, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchService", namespace, name, patchBody, domainUid),
+        patchService);
+  }
+
   private Call listPodDisruptionBudgetAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1PodDisruptionBudgetList> callback)
       throws ApiException {
@@ -2271,6 +2336,30 @@ public class CallBuilder {
         .replaceNamespacedEventAsync(name, namespace, body, PRETTY, DRY_RUN, null, null, callback);
   }
 
+  /**
+   * Asynchronous step for patching an event.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchEventAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<CoreV1Event> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchEvent", namespace, name, patchBody, (String) null),
+        patchEvent);
+  }
+
+  private Call patchEventAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<CoreV1Event> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .patchNamespacedEventAsync(name, namespace, patch, PRETTY, null, null, null, null, callback);
+  }
+
   private Call listNamespaceAsync(
       ApiClient client, String cont, ApiCallback<V1NamespaceList> callback)
       throws ApiException {
@@ -0,0 +1,183 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Computes a SHA-256 hash of a Kubernetes model object by walking its fields directly and feeding them to a
+ * message digest, rather than first rendering the object as YAML. Fields are visited in name order, map entries
+ * in key order, and null fields are skipped, so that the hash depends only on the content of the object.
+ *
+ * <p>The resulting hash is prefixed with a version marker, so that it may be distinguished from hashes
+ * computed by earlier versions of the operator, which did not have one.
+ */
+final class CanonicalHash {
+
+  static final String VERSION_PREFIX = "v2:";
+
+  private static final byte OBJECT = 'O';
+  private static final byte MAP = 'M';
+  private static final byte LIST = 'L';
+  private static final byte VALUE = 'V';
+  private static final byte END = ';';
+
+  private static final ClassValue<List<Field>> HASHED_FIELDS = new ClassValue<>() {
+    @Override
+    protected List<Field> computeValue(Class<?> type) {
+      return getHashedFields(type);
+    }
+  };
+
+  private final MessageDigest digest;
+  private final ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+
+  private CanonicalHash() {
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the versioned hash of the specified object.
+   * @param object a Kubernetes model object
+   * @return the version prefix followed by the hex representation of the hash
+   */
+  static String of(Object object) {
+    CanonicalHash hash = new CanonicalHash();
+    hash.update(object);
+    return VERSION_PREFIX + Hex.encodeHexString(hash.digest.digest());
+  }
+
+  /**
+   * Returns true if the specified hash was created by this class.
+   * @param hash a hash string, may be null
+   */
+  static boolean isVersioned(String hash) {
+    return hash != null && hash.startsWith(VERSION_PREFIX);
+  }
+
+  private void update(Object object) {
+    if (object == null) {
+      return;
+    } else if (object instanceof Map) {
+      updateMap((Map<?, ?>) object);
+    } else if (object instanceof Collection) {
+      updateCollection((Collection<?>) object);
+    } else if (object instanceof byte[]) {
+      updateValue((byte[]) object);
+    } else if (isValue(object)) {
+      updateValue(toValueString(object));
+    } else {
+      updateObject(object);
+    }
+  }
+
+  private void updateMap(Map<?, ?> map) {
+    digest.update(MAP);
+    Map<String, Object> sorted = new TreeMap<>();
+    map.forEach((key, value) -> sorted.put(String.valueOf(key), value));
+    sorted.forEach(this::updateEntry);
+    digest.update(END);
+  }
+
+  private void updateCollection(Collection<?> collection) {
+    digest.update(LIST);
+    for (Object item : collection) {
+      update(item);
+    }
+    digest.update(END);
+  }
+
+  private void updateObject(Object object) {
+    digest.update(OBJECT);
+    for (Field field : HASHED_FIELDS.get(object.getClass())) {
+      updateEntry(field.getName(), getFieldValue(field, object));
+    }
+    digest.update(END);
+  }
+
+  private void updateEntry(String name, Object value) {
+    if (value != null) {
+      updateValue(name);
+      update(value);
+    }
+  }
+
+  private void updateValue(String value) {
+    updateValue(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // Each value is preceded by its length, so that adjacent values cannot be confused with one another.
+  private void updateValue(byte[] bytes) {
+    digest.update(VALUE);
+    lengthBuffer.clear();
+    digest.update(lengthBuffer.putInt(bytes.length).array());
+    digest.update(bytes);
+  }
+
+  private static boolean isValue(Object object) {
+    return object instanceof IntOrString
+        || object instanceof Quantity
+        || object instanceof Enum
+        || object.getClass().getName().startsWith("java.");
+  }
+
+  private static String toValueString(Object object) {
+    if (object instanceof IntOrString) {
+      return ((IntOrString) object).isInteger()
+          ? ((IntOrString) object).getIntValue().toString()
+          : ((IntOrString) object).getStrValue();
+    } else if (object instanceof Quantity) {
+      return ((Quantity) object).toSuffixedString();
+    } else {
+      return object.toString();
+    }
+  }
+
+  private static Object getFieldValue(Field field, Object object) {
+    try {
+      return field.get(object);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static List<Field> getHashedFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (isHashed(field)) {
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }
+    }
+    fields.sort(Comparator.comparing(Field::getName));
+    return fields;
+  }
+
+  private static boolean isHashed(Field field) {
+    return !Modifier.isStatic(field.getModifiers())
+        && !Modifier.isTransient(field.getModifiers())
+        && !field.isSynthetic();
+  }
+}
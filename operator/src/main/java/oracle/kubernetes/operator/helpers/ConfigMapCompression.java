@@ -0,0 +1,91 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.COMPRESSED_ENTRY_SUFFIX;
+
+/**
+ * Support for storing selected config map entries gzip-compressed, as binary data. A compressed entry is held
+ * in the string data maps handled by the {@link ConfigMapSplitter} with one character per byte, so that the splitter
+ * measures it in bytes and may split it anywhere; it is converted to binary data only when the config map is created.
+ * Its key is the original key followed by ".gz", and the parts of a split entry may be concatenated and then
+ * decompressed to recover the original value.
+ */
+final class ConfigMapCompression {
+
+  private ConfigMapCompression() {
+    // no-op
+  }
+
+  /**
+   * Returns a copy of the specified data, with the specified entries replaced by compressed entries.
+   * @param data the data to be stored in config maps
+   * @param keys the keys of the entries to compress
+   */
+  static Map<String, String> compressEntries(Map<String, String> data, Collection<String> keys) {
+    final Map<String, String> result = new HashMap<>(data);
+    for (String key : keys) {
+      if (result.containsKey(key)) {
+        result.put(key + COMPRESSED_ENTRY_SUFFIX, compress(result.remove(key)));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the entries of the specified data which are not compressed. If there are no compressed entries,
+   * returns the data itself.
+   * @param data the data to be stored in a config map
+   */
+  static Map<String, String> getTextData(Map<String, String> data) {
+    if (data == null || data.keySet().stream().noneMatch(ConfigMapCompression::isCompressedEntry)) {
+      return data;
+    }
+
+    final Map<String, String> result = new HashMap<>(data);
+    result.keySet().removeIf(ConfigMapCompression::isCompressedEntry);
+    return result;
+  }
+
+  /**
+   * Returns the compressed entries of the specified data as binary data, or null if there are none.
+   * @param data the data to be stored in a config map
+   */
+  static Map<String, byte[]> getBinaryData(Map<String, String> data) {
+    if (data == null || data.keySet().stream().noneMatch(ConfigMapCompression::isCompressedEntry)) {
+      return null;
+    }
+
+    final Map<String, byte[]> result = new HashMap<>();
+    data.forEach((key, value) -> {
+      if (isCompressedEntry(key)) {
+        result.put(key, value.getBytes(StandardCharsets.ISO_8859_1));
+      }
+    });
+    return result;
+  }
+
+  private static boolean isCompressedEntry(String key) {
+    return key.endsWith(COMPRESSED_ENTRY_SUFFIX);
+  }
+
+  private static String compress(String value) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(value.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toString(StandardCharsets.ISO_8859_1);
+  }
+}
@@ -3,10 +3,8 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,6 +20,7 @@ import javax.annotation.Nonnull;
 import com.google.gson.Gson;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapBuilder;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -40,6 +39,7 @@ import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -53,7 +53,9 @@ import static java.lang.System.lineSeparator;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_ZIP;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.NUM_CONFIG_MAPS;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.PRIMORDIAL_DOMAIN_ZIP;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SECRETS_MD_5;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SIT_CONFIG_FILE_PREFIX;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
@@ -89,55 +91,121 @@ public class ConfigMapHelper {
     return new ScriptConfigMapStep(domainNamespace, productVersion);
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
-    Map<String, String> map = new HashMap<>();
-    String updateResultToken = ">>>  updatedomainResult=";
-
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.contains(updateResultToken)) {
-          int index = line.indexOf(updateResultToken);
-          int beg = index + 1 + updateResultToken.length();
-          map.put(UPDATEDOMAINRESULT, line.substring(beg - 1));
+  /**
+   * Parses the output of the introspector job. Each file in the output is introduced by a line which starts with
+   * ">>>" and ends with its path, and terminated by a line which starts with ">>>" and ends with "EOF".
+   * The text is scanned in place, and each file is extracted with a single copy of its trimmed contents.
+   * @param text the introspector output
+   * @return a map of file names to their contents
+   */
+  static Map<String, String> parseIntrospectorResult(String text) {
+    return new IntrospectorResultParser(text).parse();
+  }
+
+  static String extractFilename(String line) {
+    int lastSlash = line.lastIndexOf('/');
+    return line.substring(lastSlash + 1);
+  }
+
+  private static class IntrospectorResultParser {
+    private static final String MARKER = ">>>";
+    private static final String EOF_MARKER = "EOF";
+    private static final String UPDATE_RESULT_TOKEN = ">>>  updatedomainResult=";
+
+    private final String text;
+    private final Map<String, String> map = new HashMap<>();
+    private int lineStart;
+    private int lineEnd;
+    private int nextLineStart;
+
+    IntrospectorResultParser(String text) {
+      this.text = text;
+    }
+
+    Map<String, String> parse() {
+      while (nextLine()) {
+        recordUpdateResult();
+        if (isFileStart()) {
+          readFile(extractFilename(text.substring(lineStart, lineEnd)));
         }
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
+      }
+      return map;
+    }
+
+    // Advances to the next line, recognizing the same line terminators as BufferedReader.readLine()
+    private boolean nextLine() {
+      if (nextLineStart >= text.length()) {
+        return false;
+      }
+
+      lineStart = nextLineStart;
+      lineEnd = lineStart;
+      while (lineEnd < text.length() && !isLineTerminator(text.charAt(lineEnd))) {
+        lineEnd++;
+      }
+      nextLineStart = lineEnd + (text.startsWith("\r\n", lineEnd) ? 2 : 1);
+      return true;
+    }
+
+    private boolean isLineTerminator(char c) {
+      return c == '\n' || c == '\r';
+    }
+
+    private void recordUpdateResult() {
+      for (int i = lineStart; i <= lineEnd - UPDATE_RESULT_TOKEN.length(); i++) {
+        if (text.startsWith(UPDATE_RESULT_TOKEN, i)) {
+          map.put(UPDATEDOMAINRESULT, text.substring(i + UPDATE_RESULT_TOKEN.length(), lineEnd));
+          return;
         }
-        line = reader.readLine();
       }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
     }
 
-    return map;
-  }
+    private boolean isFileStart() {
+      return isMarkerLine() && !isEofLine();
+    }
+
+    private boolean isMarkerLine() {
+      return text.startsWith(MARKER, lineStart);
+    }
 
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
+    private boolean isEofLine() {
+      return lineEnd - lineStart >= EOF_MARKER.length() && text.startsWith(EOF_MARKER, lineEnd - EOF_MARKER.length());
+    }
+
+    private void readFile(String fileName) {
+      int contentStart = nextLineStart;
+      while (nextLine()) {
+        if (isMarkerLine() && isEofLine()) {
+          map.put(fileName, getTrimmedContent(contentStart, lineStart));
           return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
         }
-        line = reader.readLine();
       }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
     }
-  }
 
-  static String extractFilename(String line) {
-    int lastSlash = line.lastIndexOf('/');
-    return line.substring(lastSlash + 1);
+    private String getTrimmedContent(int start, int end) {
+      while (start < end && text.charAt(start) <= ' ') {
+        start++;
+      }
+      while (end > start && text.charAt(end - 1) <= ' ') {
+        end--;
+      }
+      return requiresLineSeparatorConversion(start, end)
+          ? text.substring(start, end).lines().collect(Collectors.joining(lineSeparator()))
+          : text.substring(start, end);
+    }
+
+    // Lines in the contents have always been joined with the platform line separator
+    private boolean requiresLineSeparatorConversion(int start, int end) {
+      if (!"\n".equals(lineSeparator())) {
+        return true;
+      }
+      for (int i = start; i < end; i++) {
+        if (text.charAt(i) == '\r') {
+          return true;
+        }
+      }
+      return false;
+    }
   }
 
   /**
@@ -261,7 +329,9 @@ public class ConfigMapHelper {
 
     protected final V1ConfigMap createModel(Map<String, String> data) {
       return AnnotationHelper.withSha256Hash(
-          new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data), data);
+          new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata())
+              .data(ConfigMapCompression.getTextData(data))
+              .binaryData(ConfigMapCompression.getBinaryData(data)), data);
     }
 
     private V1ObjectMeta createMetadata() {
@@ -299,7 +369,9 @@ public class ConfigMapHelper {
 
     V1ConfigMap withoutTransientData(V1ConfigMap originalMap) {
       if (originalMap != null && originalMap.getData() != null) {
-        originalMap.setData(withoutTransientEntries(originalMap.getData()));
+        return new V1ConfigMapBuilder(originalMap)
+            .withData(withoutTransientEntries(new HashMap<>(originalMap.getData())))
+            .build();
       }
       return originalMap;
     }
@@ -313,6 +385,28 @@ public class ConfigMapHelper {
       return false;
     }
 
+    /**
+     * Creates the step which brings an existing config map, whose contents are outdated, up to date.
+     * By default, replaces the map. Subclasses may override it to update only what has changed.
+     * @param existingMap the config map read from Kubernetes
+     * @param next the step to run after the config map is updated
+     */
+    Step updateOutdatedMap(V1ConfigMap existingMap, Step next) {
+      return new CallBuilder().replaceConfigMapAsync(name, namespace, getModel(), new ReplaceResponseStep(next));
+    }
+
+    /**
+     * Creates a step to apply a JSON patch to the existing config map. A failure is handled as a conflict.
+     * @param existingMap the config map read from Kubernetes
+     * @param patch the patch to apply
+     * @param next the step to run after the config map is patched
+     */
+    Step patchOutdatedMap(V1ConfigMap existingMap, JsonPatchBuilder patch, Step next) {
+      return new CallBuilder().patchConfigMapAsync(name, namespace,
+          getDomainUidLabel(Optional.of(existingMap).map(V1ConfigMap::getMetadata).orElse(null)),
+          new V1Patch(patch.build().toString()), new OutdatedMapPatchResponseStep(next));
+    }
+
     class ReadResponseStep extends DefaultResponseStep<V1ConfigMap> {
       ReadResponseStep(Step next) {
         super(next);
@@ -329,7 +423,7 @@ public class ConfigMapHelper {
         if (existingMap == null) {
           return doNext(createConfigMap(getNext()), packet);
         } else if (isOutdated(existingMap)) {
-          return doNext(replaceConfigMap(getNext()), packet);
+          return doNext(updateOutdatedMap(existingMap, getNext()), packet);
         } else if (mustPatchCurrentMap(existingMap)) {
           return doNext(patchCurrentMap(existingMap, getNext()), packet);
         } else if (mustPatchImageHashInMap(existingMap, packet)) {
@@ -354,16 +448,6 @@ public class ConfigMapHelper {
         LOGGER.fine(MessageKeys.CM_EXISTS, getResourceName(), namespace);
       }
 
-      private ResponseStep<V1ConfigMap> createReplaceResponseStep(Step next) {
-        return new ReplaceResponseStep(next);
-      }
-
-      private Step replaceConfigMap(Step next) {
-        return new CallBuilder().replaceConfigMapAsync(name, namespace,
-                                        model,
-                                        createReplaceResponseStep(next));
-      }
-
       private Map<String,String> getLabels() {
         return Collections.unmodifiableMap(labels);
       }
@@ -372,8 +456,10 @@ public class ConfigMapHelper {
         return KubernetesUtils.isMissingValues(getMapLabels(currentMap), getLabels());
       }
 
+      // Only the map which holds the image hash needs it updated, rather than every map in a split
       private boolean mustPatchImageHashInMap(V1ConfigMap currentMap, Packet packet) {
-        return (currentMap.getData() != null) && Optional.ofNullable((String)packet.get(DOMAIN_INPUTS_HASH))
+        return (currentMap.getData() != null) && contents.containsKey(DOMAIN_INPUTS_HASH)
+                && Optional.ofNullable((String)packet.get(DOMAIN_INPUTS_HASH))
                 .map(hash -> !hash.equals(currentMap.getData().get(DOMAIN_INPUTS_HASH))).orElse(false);
       }
 
@@ -454,6 +540,24 @@ public class ConfigMapHelper {
     }
 
 
+    private class OutdatedMapPatchResponseStep extends ResponseStep<V1ConfigMap> {
+      OutdatedMapPatchResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        return super.onFailure(conflictStep, packet, callResponse);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        LOGGER.info(MessageKeys.CM_PATCHED, getResourceName(), namespace);
+        recordCurrentMap(packet, callResponse.getResult());
+        return doNext(packet);
+      }
+    }
+
     private class PatchResponseStep extends ResponseStep<V1ConfigMap> {
 
       PatchResponseStep(Step next) {
@@ -529,19 +633,16 @@ public class ConfigMapHelper {
 
     private void parseIntrospectorResult() {
       String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
-      Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
-              .map(t -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, convertToJson(t)));
-
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
-
+      data = ConfigMapHelper.parseIntrospectorResult(result);
       wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
             .map(this::getDomainTopology)
             .map(DomainTopology::getDomain)
             .orElse(null);
 
+      LOGGER.fine("================");
+      LOGGER.fine(data.toString());
+      LOGGER.fine("================");
+
       String updateDomainResult = data.get(UPDATEDOMAINRESULT);
       if (updateDomainResult != null) {
         LOGGER.fine("ConfigMapHelper.apply: MII Dynamic update result " + updateDomainResult);
@@ -556,8 +657,8 @@ public class ConfigMapHelper {
       }
     }
 
-    public static String convertToJson(String yaml) {
-      return new Gson().toJson(new Yaml().load(yaml), LinkedHashMap.class);
+    private static String toJson(Object loadedYaml) {
+      return new Gson().toJson(loadedYaml, LinkedHashMap.class);
     }
 
     boolean isTopologyNotValid() {
@@ -568,6 +669,7 @@ public class ConfigMapHelper {
       ScanCache.INSTANCE.registerScan(
             info.getNamespace(), info.getDomainUid(), new Scan(wlsDomainConfig, SystemClock.now()));
       packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
+      packet.remove(ProcessingConstants.INTROSPECTOR_CONFIG_MAP_VERSION);
 
       copyFileToPacketIfPresent(DOMAINZIP_HASH, DOMAINZIP_HASH);
       copyFileToPacketIfPresent(SECRETS_MD_5, SECRETS_MD_5);
@@ -602,13 +704,18 @@ public class ConfigMapHelper {
 
       @Override
       public NextAction apply(Packet packet) {
-        Collection<StepAndPacket> startDetails = splitter.split(data).stream()
+        Collection<StepAndPacket> startDetails = splitter.split(getDataToStore()).stream()
               .map(c -> c.createStepAndPacket(packet))
               .collect(Collectors.toList());
         packet.put(NUM_CONFIG_MAPS, Integer.toString(startDetails.size()));
         return doForkJoin(getNext(), packet, startDetails);
       }
 
+      private Map<String, String> getDataToStore() {
+        return TuningParameters.getInstance().isIntrospectorConfigMapCompressionEnabled()
+            ? ConfigMapCompression.compressEntries(data, List.of(DOMAIN_ZIP, PRIMORDIAL_DOMAIN_ZIP))
+            : data;
+      }
     }
 
     private IntrospectorConfigMapContext createIntrospectorConfigMapContext() {
@@ -641,9 +748,12 @@ public class ConfigMapHelper {
       return wlsDomainConfig;
     }
 
+    // The topology is loaded only once, and used both to create its JSON form and to build the domain configuration
     private DomainTopology getDomainTopology(String topologyYaml) {
       LOGGER.fine("topology.yaml: " + topologyYaml);
-      return DomainTopology.parseDomainTopologyYaml(topologyYaml, this::reportValidationErrors);
+      final Object loadedYaml = new Yaml().load(topologyYaml);
+      data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, toJson(loadedYaml));
+      return DomainTopology.fromLoadedYaml(loadedYaml, this::reportValidationErrors);
     }
 
     private void reportValidationErrors(List<String> validationErrors) {
@@ -683,6 +793,8 @@ public class ConfigMapHelper {
   public static class IntrospectorConfigMapContext extends ConfigMapContext implements SplitterTarget {
 
     private boolean patchOnly;
+    private Map<String, String> existingData;
+    private Map<String, String> existingBinaryData;
 
     IntrospectorConfigMapContext(Step conflictStep, DomainPresenceInfo info,
                                  Map<String, String> data, int index) {
@@ -719,6 +831,89 @@ public class ConfigMapHelper {
       return key.startsWith(SIT_CONFIG_FILE_PREFIX);
     }
 
+    @Override
+    V1ConfigMap withoutTransientData(V1ConfigMap originalMap) {
+      Optional.ofNullable(originalMap).ifPresent(this::recordExistingEntries);
+      return super.withoutTransientData(originalMap);
+    }
+
+    private void recordExistingEntries(V1ConfigMap existingMap) {
+      existingData = existingMap.getData();
+      existingBinaryData = encode(existingMap.getBinaryData());
+    }
+
+    // Patches only the entries whose contents have changed, rather than writing the entire map
+    @Override
+    Step updateOutdatedMap(V1ConfigMap existingMap, Step next) {
+      final V1ObjectMeta existingMetadata = Objects.requireNonNull(existingMap.getMetadata());
+      final V1ObjectMeta metadata = Objects.requireNonNull(getModel().getMetadata());
+      final JsonPatchBuilder patch = Json.createPatchBuilder();
+
+      addChangedEntries(patch, "/data", existingData, getModel().getData());
+      addChangedEntries(patch, "/binaryData", existingBinaryData, encode(getModel().getBinaryData()));
+      addChangedMetadata(patch, "/metadata/labels", existingMetadata.getLabels(), metadata.getLabels());
+      addChangedMetadata(patch, "/metadata/annotations", existingMetadata.getAnnotations(), metadata.getAnnotations());
+      return patchOutdatedMap(existingMap, patch, next);
+    }
+
+    private void addChangedEntries(
+        JsonPatchBuilder patch, String path, Map<String, String> current, Map<String, String> required) {
+      if (isEmpty(required)) {
+        if (!isEmpty(current)) {
+          patch.remove(path);
+        }
+      } else if (current == null) {
+        patch.add(path, Json.createObjectBuilder(new HashMap<>(required)).build());
+      } else {
+        addChangedValues(patch, path, current, required);
+        current.keySet().stream()
+              .filter(key -> !required.containsKey(key))
+              .forEach(key -> patch.remove(toPatchPath(path, key)));
+      }
+    }
+
+    private void addChangedMetadata(
+        JsonPatchBuilder patch, String path, Map<String, String> current, Map<String, String> required) {
+      if (isEmpty(required)) {
+        return;
+      } else if (current == null) {
+        patch.add(path, Json.createObjectBuilder(new HashMap<>(required)).build());
+      } else {
+        addChangedValues(patch, path, current, required);
+      }
+    }
+
+    private void addChangedValues(
+        JsonPatchBuilder patch, String path, Map<String, String> current, Map<String, String> required) {
+      required.forEach((key, value) -> {
+        if (!current.containsKey(key)) {
+          patch.add(toPatchPath(path, key), value);
+        } else if (!value.equals(current.get(key))) {
+          patch.replace(toPatchPath(path, key), value);
+        }
+      });
+    }
+
+    private boolean isEmpty(Map<String, String> map) {
+      return map == null || map.isEmpty();
+    }
+
+    // Encodes each '~' and '/' in a key, as required for a JSON patch token (RFC 6901)
+    private String toPatchPath(String path, String key) {
+      return path + "/" + key.replace("~", "~0").replace("/", "~1");
+    }
+
+    // Binary data appears in JSON as base64-encoded strings
+    private Map<String, String> encode(Map<String, byte[]> binaryData) {
+      if (binaryData == null) {
+        return null;
+      }
+
+      final Map<String, String> result = new HashMap<>();
+      binaryData.forEach((key, value) -> result.put(key, Base64.getEncoder().encodeToString(value)));
+      return result;
+    }
+
     public Step.StepAndPacket createStepAndPacket(Packet packet) {
       return new Step.StepAndPacket(verifyConfigMap(null), packet.copy());
     }
@@ -898,11 +1093,19 @@ public class ConfigMapHelper {
 
       if (domainTopology != null) {
         recordTopology(packet, packet.getSpi(DomainPresenceInfo.class), domainTopology);
+        recordConfigMapVersion(result, packet);
         recordIntrospectVersionAndGeneration(result, packet);
       }
       return doNext(packet);
     }
 
+    private void recordConfigMapVersion(V1ConfigMap result, Packet packet) {
+      Optional.ofNullable(result.getMetadata()).map(V1ObjectMeta::getResourceVersion)
+          .ifPresentOrElse(
+              version -> packet.put(ProcessingConstants.INTROSPECTOR_CONFIG_MAP_VERSION, version),
+              () -> packet.remove(ProcessingConstants.INTROSPECTOR_CONFIG_MAP_VERSION));
+    }
+
     private void recordIntrospectVersionAndGeneration(V1ConfigMap result, Packet packet) {
       Map<String, String> labels = Optional.ofNullable(result)
               .map(V1ConfigMap::getMetadata)
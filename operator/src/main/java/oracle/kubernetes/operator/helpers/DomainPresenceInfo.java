@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -20,6 +21,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,8 +37,10 @@ import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
+import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.processing.EffectiveClusterSpec;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
@@ -88,6 +92,12 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
   private final List<String> serverNamesFromPodList = Collections.synchronizedList(new ArrayList<>());
   private Map<String, Step.StepAndPacket> serversToRoll = Collections.emptyMap();
+  private final AtomicReference<Pair<String, String>> statusFingerprint = new AtomicReference<>();
+  private final AtomicReference<String> makeRightFingerprint = new AtomicReference<>();
+  private final ConcurrentMap<String, Pair<String, EffectiveServerSpec>> serverSpecs = new ConcurrentHashMap<>();
+  private final AtomicReference<Duration> serverRollDuration = new AtomicReference<>();
+  private final ConcurrentMap<String, Duration> serverStartupDurations = new ConcurrentHashMap<>();
+  private final AtomicReference<OffsetDateTime> predictedRollCompletion = new AtomicReference<>();
 
   /**
    * Create presence for a domain.
@@ -389,6 +399,96 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     getSko(serverName).getHttpRequestFailureCount().getAndIncrement();
   }
 
+  /**
+   * Returns the pod recipe most recently cached for the specified server.
+   *
+   * @param serverName the name of the server
+   * @return the recipe, or null if none has been cached
+   */
+  PodStepContext.PodRecipe getPodRecipe(String serverName) {
+    return getSko(serverName).getPodRecipe().get();
+  }
+
+  /**
+   * Caches the pod recipe for the specified server.
+   *
+   * @param serverName the name of the server
+   * @param podRecipe the recipe to cache
+   */
+  void setPodRecipe(String serverName, PodStepContext.PodRecipe podRecipe) {
+    getSko(serverName).getPodRecipe().set(podRecipe);
+  }
+
+  /**
+   * Returns true if the hash of the specified server's existing pod can be reconciled with the current pod recipe.
+   * Because that check may require hashing many adjusted versions of the recipe, the result is cached under
+   * the specified key, and is only recomputed when the key changes.
+   *
+   * @param serverName the name of the server
+   * @param key a value which identifies both the existing pod and the current recipe
+   * @param compatibilityCheck the check to run if no result is cached for the key
+   */
+  boolean isPodHashCompatible(String serverName, String key, BooleanSupplier compatibilityCheck) {
+    return getSko(serverName).getPodHashCompatibility()
+        .updateAndGet(cached -> isCachedFor(cached, key) ? cached : new Pair<>(key, compatibilityCheck.getAsBoolean()))
+        .getRight();
+  }
+
+  /**
+   * Returns true if an HTTP request may be sent to the specified server. Requests are suspended while the
+   * server's circuit breaker is open, that is, after repeated failures and until its backoff interval has elapsed.
+   *
+   * @param serverName the name of the server
+   */
+  public boolean isHttpRequestAllowed(String serverName) {
+    final HttpCircuitBreaker circuitBreaker = getSko(serverName).getHttpCircuitBreaker();
+    final boolean allowed = circuitBreaker.allowRequest();
+    publishCircuitBreakerState(serverName, circuitBreaker);
+    return allowed;
+  }
+
+  /**
+   * Records a successful HTTP request to an operator-managed server, clearing its failure count
+   * and closing its circuit breaker.
+   *
+   * @param serverName the name of the server
+   */
+  public void recordHttpRequestSuccess(String serverName) {
+    setHttpRequestFailureCount(serverName, 0);
+    updateCircuitBreaker(serverName, HttpCircuitBreaker::recordSuccess);
+  }
+
+  /**
+   * Records a failed HTTP request to an operator-managed server, which may open its circuit breaker.
+   *
+   * @param serverName the name of the server
+   */
+  public void recordHttpRequestFailure(String serverName) {
+    incrementHttpRequestFailureCount(serverName);
+    updateCircuitBreaker(serverName, HttpCircuitBreaker::recordFailure);
+  }
+
+  /**
+   * Closes the circuit breaker for the specified server, so that the next HTTP request will be sent.
+   *
+   * @param serverName the name of the server
+   */
+  public void resetHttpCircuitBreaker(String serverName) {
+    updateCircuitBreaker(serverName, HttpCircuitBreaker::reset);
+  }
+
+  private void updateCircuitBreaker(String serverName, Predicate<HttpCircuitBreaker> update) {
+    final HttpCircuitBreaker circuitBreaker = getSko(serverName).getHttpCircuitBreaker();
+    if (update.test(circuitBreaker)) {
+      publishCircuitBreakerState(serverName, circuitBreaker);
+    }
+  }
+
+  private void publishCircuitBreakerState(String serverName, HttpCircuitBreaker circuitBreaker) {
+    OperatorMetrics.setHttpCircuitBreakerState(
+        getNamespace(), getDomainUid(), serverName, circuitBreaker.getState().getMetricValue());
+  }
+
   /**
    * Returns a collection of the names of the active servers.
    */
@@ -409,7 +509,8 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public void setServerPodFromEvent(String serverName, V1Pod event) {
     updateStatus(serverName, event);
-    getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
+    final V1Pod previous = getSko(serverName).getPod().getAndAccumulate(event, this::getNewerPod);
+    resetCircuitBreakerIfPodChanged(serverName, previous, event);
   }
 
   /**
@@ -423,7 +524,25 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public boolean setServerPodFromEvent(String serverName, V1Pod event, @Nonnull Predicate<V1Pod> podPredicate) {
     updateStatus(serverName, event);
-    return podPredicate.test(getSko(serverName).getPod().getAndAccumulate(event, this::getNewerPod));
+    final V1Pod previous = getSko(serverName).getPod().getAndAccumulate(event, this::getNewerPod);
+    resetCircuitBreakerIfPodChanged(serverName, previous, event);
+    return podPredicate.test(previous);
+  }
+
+  // A new pod, or a change in readiness, means that earlier HTTP failures no longer predict the server's reachability.
+  private void resetCircuitBreakerIfPodChanged(String serverName, V1Pod previous, V1Pod event) {
+    if (previous != event && getNewerPod(previous, event) == event
+          && (isReadinessChanged(previous, event) || !Objects.equals(getUid(previous), getUid(event)))) {
+      resetHttpCircuitBreaker(serverName);
+    }
+  }
+
+  private boolean isReadinessChanged(V1Pod previous, V1Pod event) {
+    return PodHelper.hasReadyStatus(previous) != PodHelper.hasReadyStatus(event);
+  }
+
+  private String getUid(V1Pod pod) {
+    return Optional.ofNullable(getMetadata(pod)).map(V1ObjectMeta::getUid).orElse(null);
   }
 
   private void updateStatus(String serverName, V1Pod event) {
@@ -479,6 +598,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     V1Pod deletedPod = sko.getPod().getAndAccumulate(event, this::getNewerCurrentOrNull);
     if (deletedPod != null) {
       sko.getLastKnownStatus().set(new LastKnownStatus(WebLogicConstants.SHUTDOWN_STATE));
+      resetHttpCircuitBreaker(serverName);
     }
     return deletedPod != null;
   }
@@ -559,8 +679,16 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     return deletedService != null;
   }
 
-  void removeClusterService(String clusterName) {
-    clusterServices.remove(clusterName);
+  V1Service removeClusterService(String clusterName) {
+    return clusterServices.remove(clusterName);
+  }
+
+  /**
+   * Returns the names of the clusters for which services are recorded.
+   * @return a snapshot of the cluster names
+   */
+  public Set<String> getClusterServiceNames() {
+    return new HashSet<>(clusterServices.keySet());
   }
 
   public V1Service getClusterService(String clusterName) {
@@ -732,6 +860,56 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     this.domain.set(domain);
   }
 
+  /**
+   * Returns the fingerprint of the status of the domain, as computed by {@link DomainStatusFingerprint}.
+   * The value is cached by the resource version of the domain, so that it is only recomputed when
+   * the domain resource is updated.
+   *
+   * @return the fingerprint, or null if there is no domain status
+   */
+  public String getStatusFingerprint() {
+    final DomainResource domainResource = getDomain();
+    final DomainStatus status = Optional.ofNullable(domainResource).map(DomainResource::getStatus).orElse(null);
+    final String resourceVersion = Optional.ofNullable(domainResource)
+        .map(DomainResource::getMetadata).map(V1ObjectMeta::getResourceVersion).orElse(null);
+    if (resourceVersion == null) {
+      return DomainStatusFingerprint.of(status);
+    }
+
+    return statusFingerprint.updateAndGet(cached -> isCachedFor(cached, resourceVersion)
+          ? cached
+          : new Pair<>(resourceVersion, DomainStatusFingerprint.of(status))).getRight();
+  }
+
+  /**
+   * Records the {@link ReconciliationFingerprint} of the domain as it is at the end of a successful make-right.
+   */
+  public void recordMakeRightFingerprint() {
+    makeRightFingerprint.set(ReconciliationFingerprint.of(this));
+  }
+
+  /**
+   * Forgets the fingerprint of the last successful make-right, so that the next recheck of the domain will run
+   * a make-right.
+   */
+  public void clearMakeRightFingerprint() {
+    makeRightFingerprint.set(null);
+  }
+
+  /**
+   * Returns true if the domain, its clusters, and the server pods and services seen by the operator are unchanged
+   * since the end of the last successful make-right.
+   */
+  public boolean isUnchangedSinceLastMakeRight() {
+    return Optional.ofNullable(makeRightFingerprint.get())
+        .map(f -> f.equals(ReconciliationFingerprint.of(this)))
+        .orElse(false);
+  }
+
+  private boolean isCachedFor(Pair<String, ?> cached, String key) {
+    return cached != null && key.equals(cached.getLeft());
+  }
+
   /**
    * Gets the Domain UID.
    *
@@ -897,10 +1075,32 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   @Nonnull
   private Set<String> getExpectedRunningManagedServers() {
     return Optional.ofNullable(getServerStartupInfo()).orElse(Collections.emptySet()).stream()
+            .filter(ssi -> !ssi.isWarmStandby())
             .map(ServerStartupInfo::getServerName)
             .collect(Collectors.toSet());
   }
 
+  /**
+   * Returns true if the specified server is to be kept in the ADMIN state as a warm standby for its cluster.
+   * @param serverName the name of the server
+   */
+  public boolean isWarmStandbyServer(String serverName) {
+    return Optional.ofNullable(getServerStartupInfo()).orElse(Collections.emptySet()).stream()
+            .filter(ServerStartupInfo::isWarmStandby)
+            .anyMatch(ssi -> ssi.getServerName().equals(serverName));
+  }
+
+  /**
+   * Returns the number of servers in the specified cluster to keep in the ADMIN state, beyond its replicas,
+   * so that the cluster can be scaled out without waiting for new pods to start.
+   * @param clusterName the name of the cluster
+   */
+  public int getWarmStandbyReplicas(String clusterName) {
+    return Optional.ofNullable(getClusterSpecFromClusterResource(clusterName))
+          .map(ClusterSpec::getWarmStandbyReplicas)
+          .orElse(0);
+  }
+
   public Map<String, Step.StepAndPacket> getServersToRoll() {
     return serversToRoll;
   }
@@ -909,6 +1109,55 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     this.serversToRoll = serversToRoll;
   }
 
+  /**
+   * Returns the typical time recently taken to roll a server in this domain, or null if no roll has been observed.
+   */
+  public Duration getServerRollDuration() {
+    return serverRollDuration.get();
+  }
+
+  /**
+   * Records the time taken to roll one or more servers in this domain. The typical roll time is a moving average,
+   * weighted toward recent rolls, so that it follows changes such as a new image or a slower node.
+   * @param duration the time taken
+   */
+  public void recordServerRollDuration(@Nonnull Duration duration) {
+    serverRollDuration.accumulateAndGet(duration,
+          (average, latest) -> average == null ? latest : average.multipliedBy(3).plus(latest).dividedBy(4));
+  }
+
+  /**
+   * Returns the time the specified server last took to start, or null if it is not known. If the operator has not
+   * observed the server start, this is taken from the annotations of the server's pod, if any, or else from the
+   * status of the server in the domain resource, which is kept while the server has no pod.
+   * @param serverName the name of the server
+   */
+  public Duration getServerStartupDuration(String serverName) {
+    return Optional.ofNullable(serverStartupDurations.get(serverName))
+          .or(() -> Optional.ofNullable(ServerStartupHistory.getRecordedStartupDuration(getServerPod(serverName))))
+          .orElseGet(() -> ServerStartupHistory.getRecordedStartupDuration(getDomain(), serverName));
+  }
+
+  /**
+   * Records the time the specified server took to start.
+   * @param serverName the name of the server
+   * @param duration the time from the creation of its pod until it became ready
+   */
+  public void recordServerStartupDuration(String serverName, @Nonnull Duration duration) {
+    serverStartupDurations.put(serverName, duration);
+  }
+
+  /**
+   * Returns the time by which the roll currently in progress is expected to complete, or null if not known.
+   */
+  public OffsetDateTime getPredictedRollCompletion() {
+    return predictedRollCompletion.get();
+  }
+
+  public void setPredictedRollCompletion(OffsetDateTime predictedRollCompletion) {
+    this.predictedRollCompletion.set(predictedRollCompletion);
+  }
+
   /**
    * Looks up cluster resource for the given cluster name.
    * @param clusterName Cluster name
@@ -1009,7 +1258,31 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public EffectiveServerSpec getServer(@Nonnull String serverName, @Nullable String clusterName) {
     final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
-    return getDomainApi().getServer(serverName, clusterName, clusterSpec);
+    final String key = getServerSpecKey(clusterName, clusterSpec);
+    if (key == null) {
+      return getDomainApi().getServer(serverName, clusterName, clusterSpec);
+    }
+
+    return serverSpecs.compute(serverName, (name, cached) -> isCachedFor(cached, key)
+          ? cached
+          : new Pair<>(key, getDomainApi().getServer(serverName, clusterName, clusterSpec))).getRight();
+  }
+
+  // Resolving an effective server spec requires merging the domain, cluster and server settings, so each is cached
+  // until the domain or cluster resource changes. A spec also captures the cluster replica count, which may be
+  // changed in place by scaling, so that is included in the key. Returns null if the generations are not known.
+  private String getServerSpecKey(@Nullable String clusterName, @Nullable ClusterSpec clusterSpec) {
+    final Long domainGeneration = Optional.ofNullable(getDomain()).map(DomainResource::getMetadata)
+        .map(V1ObjectMeta::getGeneration).orElse(null);
+    final ClusterResource cluster = getClusterResource(clusterName);
+    final Long clusterGeneration = Optional.ofNullable(cluster).map(ClusterResource::getMetadata)
+        .map(V1ObjectMeta::getGeneration).orElse(null);
+    if (domainGeneration == null || (cluster != null && clusterGeneration == null)) {
+      return null;
+    }
+
+    return String.join(":", String.valueOf(domainGeneration), String.valueOf(clusterName),
+        String.valueOf(clusterGeneration), String.valueOf(getDomainApi().getReplicaCount(clusterSpec)));
   }
 
   private PrivateDomainApi getDomainApi() {
@@ -1185,6 +1458,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
 
   /** Details about a specific managed server that will be started up. */
   public static class ServerStartupInfo extends ServerInfo {
+    private final boolean warmStandby;
 
     /**
      * Create server startup info.
@@ -1195,7 +1469,26 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
      */
     public ServerStartupInfo(
         WlsServerConfig serverConfig, String clusterName, EffectiveServerSpec effectiveServerSpec) {
+      this(serverConfig, clusterName, effectiveServerSpec, false);
+    }
+
+    /**
+     * Create server startup info.
+     *
+     * @param serverConfig Server config scan
+     * @param clusterName the name of the cluster
+     * @param effectiveServerSpec the server startup configuration
+     * @param warmStandby true if the server is to be kept in the ADMIN state, ready for the cluster to scale out
+     */
+    public ServerStartupInfo(
+        WlsServerConfig serverConfig, String clusterName, EffectiveServerSpec effectiveServerSpec,
+        boolean warmStandby) {
       super(serverConfig, clusterName, effectiveServerSpec, false);
+      this.warmStandby = warmStandby;
+    }
+
+    public boolean isWarmStandby() {
+      return warmStandby;
     }
   }
 
@@ -0,0 +1,52 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Computes a hash of the fields of a domain status which are meaningful to its readers. Timestamps which merely
+ * record when an observation was made, such as condition transition times and server activation times, are
+ * excluded, so that two statuses which differ only in those values have the same fingerprint. Failure times
+ * are retained, as they control the retry behavior of the operator.
+ */
+public final class DomainStatusFingerprint {
+
+  private static final List<String> OBSERVATION_TIME_FIELDS = List.of("lastTransitionTime", "activationTime");
+
+  private DomainStatusFingerprint() {
+    // no-op
+  }
+
+  /**
+   * Returns the fingerprint of the specified status.
+   * @param status a domain status, may be null
+   * @return a SHA-256 hex string, or null if there is no status
+   */
+  public static String of(DomainStatus status) {
+    return Optional.ofNullable(status)
+        .map(s -> LoggingFactory.getJson().getGson().toJsonTree(s))
+        .map(DomainStatusFingerprint::removeObservationTimes)
+        .map(tree -> DigestUtils.sha256Hex(tree.toString()))
+        .orElse(null);
+  }
+
+  private static JsonElement removeObservationTimes(JsonElement element) {
+    if (element.isJsonArray()) {
+      element.getAsJsonArray().forEach(DomainStatusFingerprint::removeObservationTimes);
+    } else if (element.isJsonObject()) {
+      JsonObject object = element.getAsJsonObject();
+      OBSERVATION_TIME_FIELDS.forEach(object::remove);
+      object.entrySet().forEach(entry -> removeObservationTimes(entry.getValue()));
+    }
+    return element;
+  }
+}
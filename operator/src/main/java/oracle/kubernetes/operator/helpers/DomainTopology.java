@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -43,13 +43,7 @@ public class DomainTopology {
    * @return a valid topology or null
    */
   public static DomainTopology parseDomainTopologyYaml(String topologyYaml, Consumer<List<String>> errorReporter) {
-    final DomainTopology domainTopology = parseDomainTopologyYaml(topologyYaml);
-    if (domainTopology == null || domainTopology.getDomainValid()) {
-      return domainTopology;
-    } else {
-      errorReporter.accept(domainTopology.validationErrors);
-      return null;
-    }
+    return validate(parseDomainTopologyYaml(topologyYaml), errorReporter);
   }
 
   /**
@@ -61,13 +55,28 @@ public class DomainTopology {
     ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
 
     try {
-      DomainTopology domainTopology = mapper.readValue(topologyYaml, DomainTopology.class);
+      return logged(mapper.readValue(topologyYaml, DomainTopology.class));
+    } catch (Exception e) {
+      LOGGER.warning(MessageKeys.CANNOT_PARSE_TOPOLOGY, e);
+    }
 
-      LOGGER.fine(
-          ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+    return null;
+  }
 
-      return domainTopology;
+  /**
+   * Converts a topology which has already been loaded from YAML as a tree of maps, lists and scalars.
+   * If validation errors occur, logs them and returns null.
+   * @param loadedYaml the result of loading the topology YAML
+   * @param errorReporter processing for the validation errors
+   * @return a valid topology or null
+   */
+  public static DomainTopology fromLoadedYaml(Object loadedYaml, Consumer<List<String>> errorReporter) {
+    return validate(convertLoadedYaml(loadedYaml), errorReporter);
+  }
 
+  private static DomainTopology convertLoadedYaml(Object loadedYaml) {
+    try {
+      return logged(new ObjectMapper().convertValue(loadedYaml, DomainTopology.class));
     } catch (Exception e) {
       LOGGER.warning(MessageKeys.CANNOT_PARSE_TOPOLOGY, e);
     }
@@ -75,6 +84,21 @@ public class DomainTopology {
     return null;
   }
 
+  private static DomainTopology validate(DomainTopology domainTopology, Consumer<List<String>> errorReporter) {
+    if (domainTopology == null || domainTopology.getDomainValid()) {
+      return domainTopology;
+    } else {
+      errorReporter.accept(domainTopology.validationErrors);
+      return null;
+    }
+  }
+
+  private static DomainTopology logged(DomainTopology domainTopology) {
+    LOGGER.fine(
+        ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+    return domainTopology;
+  }
+
   /**
    * check if domain is valid.
    * @return true, if valid
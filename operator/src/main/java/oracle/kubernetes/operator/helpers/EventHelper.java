@@ -20,6 +20,7 @@ import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.work.NextAction;
@@ -124,15 +125,21 @@ public class EventHelper {
   public static class CreateEventStep extends Step {
     private final EventData eventData;
     private final DomainNamespaces domainNamespaces;
+    private final boolean writeInline;
 
     CreateEventStep(EventData eventData) {
       this(null, eventData, null);
     }
 
     CreateEventStep(DomainNamespaces domainNamespaces, EventData eventData, Step next) {
+      this(domainNamespaces, eventData, next, false);
+    }
+
+    private CreateEventStep(DomainNamespaces domainNamespaces, EventData eventData, Step next, boolean writeInline) {
       super(next);
       this.eventData = eventData;
       this.domainNamespaces = domainNamespaces;
+      this.writeInline = writeInline;
     }
 
     @Override
@@ -191,19 +198,35 @@ public class EventHelper {
           .count(1);
     }
 
+    // The operator only starts managing a namespace once its start event has been written,
+    // so that write must complete before the next step runs; every other event is written on a separate fiber.
     @Override
     public NextAction apply(Packet packet) {
-      return doNext(createEventAPICall(createEventModel(packet, eventData)), packet);
+      if (writeInline || NAMESPACE_WATCHING_STARTED == eventData.eventItem) {
+        return doNext(createEventAPICall(createEventModel(packet, eventData)), packet);
+      }
+      return doNext(EventRecorder.createDetachedWriteStep(createInlineWrite(), getNext()), packet);
+    }
+
+    private Step createInlineWrite() {
+      return new CreateEventStep(domainNamespaces, eventData, null, true);
     }
 
     private Step createEventAPICall(CoreV1Event event) {
       CoreV1Event existingEvent = getExistingEvent(event);
-      return existingEvent != null ? createReplaceEventCall(event, existingEvent) : createCreateEventCall(event);
+      if (existingEvent == null) {
+        return createCreateEventCall(event);
+      } else if (EventRecorder.getInstance().tryAcquireUpdate(existingEvent)) {
+        return createReplaceEventCall(event, existingEvent);
+      } else {
+        return EventRecorder.getInstance().aggregateRepeat(existingEvent, event.getLastTimestamp(), getNext());
+      }
     }
 
     private Step createCreateEventCall(CoreV1Event event) {
       LOGGER.fine(MessageKeys.CREATING_EVENT, eventData.eventItem);
       event.firstTimestamp(event.getLastTimestamp());
+      OperatorMetrics.recordEventWrite(EventRecorder.CREATE);
       return new CallBuilder()
           .createEventAsync(
               event.getMetadata().getNamespace(),
@@ -213,14 +236,16 @@ public class EventHelper {
 
     private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent) {
       LOGGER.fine(MessageKeys.REPLACING_EVENT, eventData.eventItem);
-      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + 1).orElse(1));
+      final int increment = 1 + EventRecorder.getInstance().takePendingRepeatCount(existingEvent);
+      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + increment).orElse(increment));
       existingEvent.lastTimestamp(event.getLastTimestamp());
+      OperatorMetrics.recordEventWrite(EventRecorder.REPLACE);
       return new CallBuilder()
           .replaceEventAsync(
               existingEvent.getMetadata().getName(),
               existingEvent.getMetadata().getNamespace(),
               existingEvent,
-              new ReplaceEventResponseStep(this, existingEvent, getNext()));
+              new ReplaceEventResponseStep(this, existingEvent, increment, getNext()));
     }
 
     private CoreV1Event getExistingEvent(CoreV1Event event) {
@@ -276,15 +301,18 @@ public class EventHelper {
     private class ReplaceEventResponseStep extends ResponseStep<CoreV1Event> {
       final Step replaceEventStep;
       final CoreV1Event existingEvent;
+      final int increment;
 
-      ReplaceEventResponseStep(Step replaceEventStep, CoreV1Event existingEvent, Step next) {
+      ReplaceEventResponseStep(Step replaceEventStep, CoreV1Event existingEvent, int increment, Step next) {
         super(next);
         this.existingEvent = existingEvent;
         this.replaceEventStep = replaceEventStep;
+        this.increment = increment;
       }
 
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<CoreV1Event> callResponse) {
+        EventRecorder.recordWrite(existingEvent, callResponse.getResult());
         return doNext(packet);
       }
 
@@ -308,7 +336,7 @@ public class EventHelper {
         if (existingEvent == null || existingEvent.getCount() == null) {
           return;
         }
-        existingEvent.count(existingEvent.getCount() - 1);
+        existingEvent.count(existingEvent.getCount() - increment);
       }
 
       Step createRetry(CoreV1Event event) {
@@ -1152,14 +1180,20 @@ public class EventHelper {
 
   public static class CreateClusterResourceEventStep extends Step {
     private final EventData eventData;
+    private final boolean writeInline;
 
     CreateClusterResourceEventStep(EventData eventData) {
       this(eventData, null);
     }
 
     CreateClusterResourceEventStep(EventData eventData, Step next) {
+      this(eventData, next, false);
+    }
+
+    private CreateClusterResourceEventStep(EventData eventData, Step next, boolean writeInline) {
       super(next);
       this.eventData = eventData;
+      this.writeInline = writeInline;
     }
 
     @Override
@@ -1184,17 +1218,31 @@ public class EventHelper {
 
     @Override
     public NextAction apply(Packet packet) {
-      return doNext(createEventAPICall(createEventModel(eventData)), packet);
+      if (writeInline) {
+        return doNext(createEventAPICall(createEventModel(eventData)), packet);
+      }
+      return doNext(EventRecorder.createDetachedWriteStep(createInlineWrite(), getNext()), packet);
+    }
+
+    private Step createInlineWrite() {
+      return new CreateClusterResourceEventStep(eventData, null, true);
     }
 
     private Step createEventAPICall(CoreV1Event event) {
       CoreV1Event existingEvent = getExistingClusterEvent(event);
-      return existingEvent != null ? createReplaceEventCall(event, existingEvent) : createCreateEventCall(event);
+      if (existingEvent == null) {
+        return createCreateEventCall(event);
+      } else if (EventRecorder.getInstance().tryAcquireUpdate(existingEvent)) {
+        return createReplaceEventCall(event, existingEvent);
+      } else {
+        return EventRecorder.getInstance().aggregateRepeat(existingEvent, event.getLastTimestamp(), getNext());
+      }
     }
 
     private Step createCreateEventCall(CoreV1Event event) {
       LOGGER.fine(MessageKeys.CREATING_EVENT, eventData.eventItem);
       event.firstTimestamp(event.getLastTimestamp());
+      OperatorMetrics.recordEventWrite(EventRecorder.CREATE);
       return new CallBuilder()
           .createEventAsync(
               event.getMetadata().getNamespace(),
@@ -1204,14 +1252,16 @@ public class EventHelper {
 
     private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent) {
       LOGGER.fine(MessageKeys.REPLACING_EVENT, eventData.eventItem);
-      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + 1).orElse(1));
+      final int increment = 1 + EventRecorder.getInstance().takePendingRepeatCount(existingEvent);
+      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + increment).orElse(increment));
       existingEvent.lastTimestamp(event.getLastTimestamp());
+      OperatorMetrics.recordEventWrite(EventRecorder.REPLACE);
       return new CallBuilder()
           .replaceEventAsync(
               existingEvent.getMetadata().getName(),
               existingEvent.getMetadata().getNamespace(),
               existingEvent,
-              new ReplaceClusterResourceEventResponseStep(this, existingEvent, getNext()));
+              new ReplaceClusterResourceEventResponseStep(this, existingEvent, increment, getNext()));
     }
 
     private CoreV1Event getExistingClusterEvent(CoreV1Event event) {
@@ -1233,16 +1283,19 @@ public class EventHelper {
     private class ReplaceClusterResourceEventResponseStep extends ResponseStep<CoreV1Event> {
       final Step replaceClusterEventStep;
       final CoreV1Event existingClusterEvent;
+      final int increment;
 
       ReplaceClusterResourceEventResponseStep(Step replaceClusterEventStep, CoreV1Event existingClusterEvent,
-          Step next) {
+          int increment, Step next) {
         super(next);
         this.existingClusterEvent = existingClusterEvent;
         this.replaceClusterEventStep = replaceClusterEventStep;
+        this.increment = increment;
       }
 
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<CoreV1Event> callResponse) {
+        EventRecorder.recordWrite(existingClusterEvent, callResponse.getResult());
         return doNext(packet);
       }
 
@@ -1263,7 +1316,7 @@ public class EventHelper {
         if (existingClusterEvent == null || existingClusterEvent.getCount() == null) {
           return;
         }
-        existingClusterEvent.count(existingClusterEvent.getCount() - 1);
+        existingClusterEvent.count(existingClusterEvent.getCount() - increment);
       }
 
       Step createClusterEventRetryStep(CoreV1Event event) {
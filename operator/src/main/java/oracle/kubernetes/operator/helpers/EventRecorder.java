@@ -0,0 +1,278 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import jakarta.json.Json;
+import jakarta.json.JsonPatchBuilder;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Limits the rate at which the operator updates the repeated Kubernetes events about any one involved object,
+ * much as the event correlator of the Kubernetes client libraries does. Within each aggregation window, the first
+ * repeats of events about an object are written as they occur; further repeats only add to a pending count, and a
+ * separate fiber writes the accumulated count and latest timestamp of each affected event with a single patch when
+ * the window ends. Event writes run on fibers of their own, so that the fiber which reported an event does not
+ * wait for any of them.
+ */
+public class EventRecorder {
+
+  static final String CREATE = "create";
+  static final String REPLACE = "replace";
+  static final String PATCH = "patch";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static EventRecorder instance = new EventRecorder();
+
+  private final Map<String, UpdateWindow> updateWindows = new ConcurrentHashMap<>();
+  private final Map<String, PendingRepeats> pendingRepeats = new ConcurrentHashMap<>();
+
+  public static EventRecorder getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns true if the operator may now update the specified existing event; if so, the update is counted
+   * against the limit for the event's involved object.
+   * @param existingEvent an event previously written by the operator
+   */
+  boolean tryAcquireUpdate(CoreV1Event existingEvent) {
+    final int limit = TuningParameters.getInstance().getMaxEventUpdatesPerObject();
+    if (limit <= 0) {
+      return true;
+    }
+
+    updateWindows.values().removeIf(UpdateWindow::hasEnded);
+    final UpdateWindow window = updateWindows.compute(getInvolvedObjectKey(existingEvent), this::getCurrentWindow);
+    return window.tryAcquire(limit);
+  }
+
+  private UpdateWindow getCurrentWindow(String key, UpdateWindow window) {
+    return window == null ? new UpdateWindow() : window;
+  }
+
+  /**
+   * Records a repeat of the specified existing event which is not to be written now.
+   * @param existingEvent an event previously written by the operator
+   * @param timestamp the time of the repeat
+   * @param next the next step to run
+   * @return a step which ensures that the repeat will be written when the current window ends, then runs the next
+   */
+  Step aggregateRepeat(@Nonnull CoreV1Event existingEvent, OffsetDateTime timestamp, Step next) {
+    OperatorMetrics.incrementEventRepeatsAggregated();
+    final long delaySeconds = getSecondsUntilWindowEnds(existingEvent);
+    final PendingRepeats pending
+        = pendingRepeats.computeIfAbsent(getEventKey(existingEvent), k -> new PendingRepeats());
+    if (pending.add(timestamp, delaySeconds)) {
+      return createDetachedWriteStep(new DelayStep(delaySeconds, new FlushStep(existingEvent)), next);
+    } else {
+      return next;
+    }
+  }
+
+  /**
+   * Creates a step which starts the specified write on a separate fiber, then runs the next step without waiting
+   * for the write to complete.
+   * @param write the steps which write an event
+   * @param next the next step to run
+   */
+  static Step createDetachedWriteStep(Step write, Step next) {
+    return new DetachedWriteStep(write, next);
+  }
+
+  /**
+   * Copies the resource version returned by a write of an event to the cached copy of that event, so that a further
+   * replace of the event made before the event watcher reports the change does not fail with a conflict.
+   * @param cachedEvent the cached event which was written
+   * @param writtenEvent the event returned by the write, may be null
+   */
+  static void recordWrite(CoreV1Event cachedEvent, CoreV1Event writtenEvent) {
+    Optional.ofNullable(writtenEvent).map(CoreV1Event::getMetadata).map(V1ObjectMeta::getResourceVersion)
+        .ifPresent(version -> cachedEvent.getMetadata().resourceVersion(version));
+  }
+
+  private long getSecondsUntilWindowEnds(CoreV1Event existingEvent) {
+    return Optional.ofNullable(updateWindows.get(getInvolvedObjectKey(existingEvent)))
+        .map(UpdateWindow::getSecondsRemaining)
+        .orElse(1L);
+  }
+
+  /**
+   * Removes and returns the number of repeats of the specified event which have not yet been written.
+   * @param existingEvent an event previously written by the operator
+   */
+  int takePendingRepeatCount(CoreV1Event existingEvent) {
+    return Optional.ofNullable(pendingRepeats.remove(getEventKey(existingEvent)))
+        .map(PendingRepeats::getCount)
+        .orElse(0);
+  }
+
+  private static String getEventKey(CoreV1Event event) {
+    return Optional.ofNullable(event.getMetadata())
+        .map(metadata -> metadata.getNamespace() + "/" + metadata.getName())
+        .orElse("");
+  }
+
+  private static String getInvolvedObjectKey(CoreV1Event event) {
+    final V1ObjectReference involvedObject = event.getInvolvedObject();
+    return involvedObject == null
+        ? getEventKey(event)
+        : involvedObject.getKind() + "/" + involvedObject.getNamespace() + "/" + involvedObject.getName();
+  }
+
+  private static class UpdateWindow {
+    private final OffsetDateTime end = SystemClock.now().plusSeconds(getWindowSeconds());
+    private int numUpdates;
+
+    private static int getWindowSeconds() {
+      return Math.max(1, TuningParameters.getInstance().getEventAggregationWindowSeconds());
+    }
+
+    boolean hasEnded() {
+      return !SystemClock.now().isBefore(end);
+    }
+
+    synchronized boolean tryAcquire(int limit) {
+      if (numUpdates >= limit) {
+        return false;
+      }
+      numUpdates++;
+      return true;
+    }
+
+    long getSecondsRemaining() {
+      return Math.max(1, Duration.between(SystemClock.now(), end).toSeconds());
+    }
+  }
+
+  private static class PendingRepeats {
+    private int count;
+    private OffsetDateTime lastTimestamp;
+    private OffsetDateTime flushTime;
+
+    // Returns true if a write of the pending repeats must be scheduled: either none is, or the scheduled
+    // write is well overdue, as happens when the fiber which was to make it has been cancelled.
+    synchronized boolean add(OffsetDateTime timestamp, long delaySeconds) {
+      count++;
+      if (timestamp != null) {
+        lastTimestamp = timestamp;
+      }
+
+      final OffsetDateTime now = SystemClock.now();
+      if (flushTime != null && !now.isAfter(flushTime.plusSeconds(delaySeconds))) {
+        return false;
+      }
+      flushTime = now.plusSeconds(delaySeconds);
+      return true;
+    }
+
+    synchronized int getCount() {
+      return count;
+    }
+
+    synchronized OffsetDateTime getLastTimestamp() {
+      return lastTimestamp;
+    }
+  }
+
+  // Starts a separate fiber to perform a write, and continues without waiting for it. The current fiber is not
+  // suspended, so that the write does not delay it behind other fibers.
+  private static class DetachedWriteStep extends Step {
+    private final Step write;
+
+    DetachedWriteStep(Step write, Step next) {
+      super(next);
+      this.write = write;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Fiber.getCurrentIfSet().createChildFiber().start(write, packet.copy(), null);
+      return doNext(packet);
+    }
+  }
+
+  private static class DelayStep extends Step {
+    private final long delaySeconds;
+
+    DelayStep(long delaySeconds, Step next) {
+      super(next);
+      this.delaySeconds = delaySeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(getNext(), packet, delaySeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  private class FlushStep extends Step {
+    private final CoreV1Event existingEvent;
+
+    FlushStep(CoreV1Event existingEvent) {
+      this.existingEvent = existingEvent;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final PendingRepeats pending = pendingRepeats.remove(getEventKey(existingEvent));
+      if (pending == null) {
+        return doNext(packet);
+      }
+
+      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).orElse(1) + pending.getCount());
+      Optional.ofNullable(pending.getLastTimestamp()).ifPresent(existingEvent::lastTimestamp);
+      return doNext(createPatchStep(existingEvent.getMetadata()), packet);
+    }
+
+    private Step createPatchStep(V1ObjectMeta metadata) {
+      final JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+      patchBuilder.add("/count", existingEvent.getCount());
+      Optional.ofNullable(existingEvent.getLastTimestamp())
+          .ifPresent(t -> patchBuilder.add("/lastTimestamp", t.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)));
+      OperatorMetrics.recordEventWrite(PATCH);
+      return new CallBuilder().patchEventAsync(metadata.getName(), metadata.getNamespace(),
+          new V1Patch(patchBuilder.build().toString()), new PatchEventResponseStep(existingEvent));
+    }
+  }
+
+  // A failure to record the repeats is ignored; the next repeat of the event will include them in its count.
+  private static class PatchEventResponseStep extends ResponseStep<CoreV1Event> {
+    private final CoreV1Event existingEvent;
+
+    PatchEventResponseStep(CoreV1Event existingEvent) {
+      this.existingEvent = existingEvent;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<CoreV1Event> callResponse) {
+      recordWrite(existingEvent, callResponse.getResult());
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<CoreV1Event> callResponse) {
+      return doNext(packet);
+    }
+  }
+}
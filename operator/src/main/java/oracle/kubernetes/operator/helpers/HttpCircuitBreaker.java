@@ -0,0 +1,118 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A circuit breaker for HTTP requests to a single WebLogic server. After a number of consecutive failures,
+ * the circuit opens and requests are skipped until a backoff interval has elapsed. A single probe request
+ * is then permitted (half-open); if it succeeds the circuit closes, otherwise it reopens with a doubled backoff.
+ */
+class HttpCircuitBreaker {
+
+  enum State {
+    CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+    private final int metricValue;
+
+    State(int metricValue) {
+      this.metricValue = metricValue;
+    }
+
+    int getMetricValue() {
+      return metricValue;
+    }
+  }
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long backoffSeconds;
+  private OffsetDateTime nextAttemptTime;
+
+  synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * Returns true if a request may be sent to the server. When the backoff interval of an open circuit has
+   * elapsed, the circuit moves to half-open and the caller is permitted to send a single probe request.
+   */
+  synchronized boolean allowRequest() {
+    switch (state) {
+      case CLOSED:
+        return true;
+      case OPEN:
+      case HALF_OPEN:
+        if (SystemClock.now().isBefore(nextAttemptTime)) {
+          return false;
+        }
+        // a half-open probe which never completed is treated as having timed out, so a new probe is permitted
+        state = State.HALF_OPEN;
+        nextAttemptTime = SystemClock.now().plusSeconds(backoffSeconds);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Records a successful request, closing the circuit.
+   * @return true if the state of the circuit changed
+   */
+  synchronized boolean recordSuccess() {
+    return reset();
+  }
+
+  /**
+   * Records a failed request, opening the circuit if the failure threshold has been reached
+   * or if this was a half-open probe.
+   * @return true if the state of the circuit changed
+   */
+  synchronized boolean recordFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN) {
+      open(Math.min(backoffSeconds * 2, getMaxBackoffSeconds()));
+      return true;
+    } else if (state == State.CLOSED && consecutiveFailures >= getFailureThreshold()) {
+      open(getInitialBackoffSeconds());
+      return true;
+    }
+    return false;
+  }
+
+  private void open(long backoffSeconds) {
+    this.state = State.OPEN;
+    this.backoffSeconds = backoffSeconds;
+    this.nextAttemptTime = SystemClock.now().plusSeconds(backoffSeconds);
+  }
+
+  /**
+   * Closes the circuit and clears the failure history.
+   * @return true if the state of the circuit changed
+   */
+  synchronized boolean reset() {
+    final boolean changed = state != State.CLOSED;
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+    backoffSeconds = 0;
+    nextAttemptTime = null;
+    return changed;
+  }
+
+  private int getFailureThreshold() {
+    return TuningParameters.getInstance().getHttpCircuitBreakerFailureThreshold();
+  }
+
+  private long getInitialBackoffSeconds() {
+    return TuningParameters.getInstance().getHttpCircuitBreakerInitialBackoffSeconds();
+  }
+
+  private long getMaxBackoffSeconds() {
+    return TuningParameters.getInstance().getHttpCircuitBreakerMaxBackoffSeconds();
+  }
+}
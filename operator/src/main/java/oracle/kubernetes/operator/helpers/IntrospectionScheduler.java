@@ -0,0 +1,300 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Limits the number of introspector jobs which may run at once, both across the operator and within each namespace.
+ * A domain must hold a permit from this scheduler before it creates an introspector job; if none is available,
+ * its fiber is suspended until another domain releases one. Waiting domains which have never been introspected
+ * are granted permits before those which are being re-introspected, and each group is served in arrival order.
+ *
+ * <p>Permits are held per domain, so a new make-right for a domain which already holds a permit takes it over.
+ * The fiber which was granted the permit records it in its packet, and only that fiber may release it: once the
+ * introspection results have been processed, and in any case when its make-right operation completes.
+ * A permit whose fiber was cancelled before releasing it is released when another make-right of the domain
+ * completes, or when the domain is removed.
+ */
+public final class IntrospectionScheduler {
+
+  private static final AtomicLong REQUEST_SEQUENCE = new AtomicLong();
+  private static final String PERMIT = "introspectionPermit";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static IntrospectionScheduler instance = new IntrospectionScheduler();
+
+  private final Map<String, Permit> permitHolders = new HashMap<>();
+  private final Map<String, Integer> namespacePermits = new HashMap<>();
+  private final Map<String, Request> requestsByDomain = new HashMap<>();
+  private final NavigableSet<Request> waitingRequests = new TreeSet<>(
+        Comparator.comparing(Request::isReintrospection).thenComparingLong(Request::getSequence));
+
+  IntrospectionScheduler() {
+    // no-op
+  }
+
+  public static IntrospectionScheduler getInstance() {
+    return instance;
+  }
+
+  /**
+   * Creates a step which obtains an introspection permit for the domain in the packet before proceeding.
+   * @param firstIntrospection true if the domain has not yet been introspected
+   */
+  static Step createAcquirePermitStep(boolean firstIntrospection) {
+    return new AcquirePermitStep(firstIntrospection);
+  }
+
+  /**
+   * Creates a step which releases any introspection permit held by the domain in the packet.
+   * @param next the next step to run
+   */
+  static Step createReleasePermitStep(Step next) {
+    return new ReleasePermitStep(next);
+  }
+
+  /**
+   * Releases the introspection permit recorded in the specified packet, if its domain still holds it, allowing
+   * the next waiting domain to proceed. Also releases a permit left held by a fiber of the same domain which has
+   * since finished or been cancelled.
+   * @param packet the packet of a fiber processing a domain
+   */
+  public void release(Packet packet) {
+    final Permit permit = (Permit) packet.remove(PERMIT);
+    DomainPresenceInfo.fromPacket(packet).ifPresent(info -> release(info.getNamespace(), info.getDomainUid(), permit));
+  }
+
+  private void release(String namespace, String domainUid, Permit permit) {
+    synchronized (this) {
+      final Permit heldPermit = permitHolders.get(toDomainKey(namespace, domainUid));
+      if (heldPermit != null && (heldPermit == permit || heldPermit.isAbandoned())) {
+        releaseDomainPermit(namespace, domainUid);
+      }
+    }
+    grantWaitingRequests();
+  }
+
+  private void releaseDomainPermit(String namespace, String domainUid) {
+    if (permitHolders.remove(toDomainKey(namespace, domainUid)) != null) {
+      namespacePermits.computeIfPresent(namespace, (ns, count) -> count > 1 ? count - 1 : null);
+    }
+  }
+
+  /**
+   * Releases any introspection permit held by the specified domain, and abandons any request it is waiting on.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public void removeDomain(String namespace, String domainUid) {
+    synchronized (this) {
+      Request request = requestsByDomain.remove(toDomainKey(namespace, domainUid));
+      if (request != null) {
+        waitingRequests.remove(request);
+      }
+      releaseDomainPermit(namespace, domainUid);
+    }
+    grantWaitingRequests();
+  }
+
+  private static String toDomainKey(String namespace, String domainUid) {
+    return namespace + "/" + domainUid;
+  }
+
+  // Grants the request at once if a permit is available; otherwise adds it to the waiting requests, replacing
+  // any earlier request from the same domain, as that request was made by a make-right which has since been replaced.
+  private void acquire(Request request) {
+    boolean granted;
+    synchronized (this) {
+      granted = tryGrant(request);
+      if (!granted) {
+        Request replaced = requestsByDomain.put(request.domainKey, request);
+        if (replaced != null) {
+          waitingRequests.remove(replaced);
+        }
+        waitingRequests.add(request);
+      }
+      recordQueueMetrics();
+    }
+
+    if (granted) {
+      request.proceed();
+    }
+  }
+
+  // A request from a domain which already holds a permit takes it over, as it comes from a later make-right.
+  private boolean tryGrant(Request request) {
+    if (permitHolders.containsKey(request.domainKey)) {
+      permitHolders.put(request.domainKey, request.createPermit());
+      return true;
+    } else if (!hasAvailablePermit(request.namespace)) {
+      return false;
+    } else {
+      permitHolders.put(request.domainKey, request.createPermit());
+      namespacePermits.merge(request.namespace, 1, Integer::sum);
+      return true;
+    }
+  }
+
+  private boolean hasAvailablePermit(String namespace) {
+    return isBelowLimit(permitHolders.size(), getMaxConcurrentIntrospections())
+          && isBelowLimit(namespacePermits.getOrDefault(namespace, 0), getMaxConcurrentIntrospectionsPerNamespace());
+  }
+
+  private boolean isBelowLimit(int count, int limit) {
+    return limit <= 0 || count < limit;
+  }
+
+  private int getMaxConcurrentIntrospections() {
+    return TuningParameters.getInstance().getMaxConcurrentIntrospections();
+  }
+
+  private int getMaxConcurrentIntrospectionsPerNamespace() {
+    return TuningParameters.getInstance().getMaxConcurrentIntrospectionsPerNamespace();
+  }
+
+  // Grants permits to waiting requests in priority order. A request which cannot be granted because its namespace
+  // is at its limit does not block requests from other namespaces.
+  private void grantWaitingRequests() {
+    for (Request request : selectGrantableRequests()) {
+      request.proceed();
+    }
+  }
+
+  private synchronized List<Request> selectGrantableRequests() {
+    final List<Request> granted = new ArrayList<>();
+    final Iterator<Request> iterator = waitingRequests.iterator();
+    while (iterator.hasNext()) {
+      final Request request = iterator.next();
+      if (tryGrant(request)) {
+        iterator.remove();
+        requestsByDomain.remove(request.domainKey, request);
+        granted.add(request);
+      }
+    }
+    recordQueueMetrics();
+    return granted;
+  }
+
+  private void recordQueueMetrics() {
+    OperatorMetrics.setIntrospectionsQueued(waitingRequests.size());
+    OperatorMetrics.setIntrospectionsRunning(permitHolders.size());
+  }
+
+  synchronized int getNumWaitingRequests() {
+    return waitingRequests.size();
+  }
+
+  synchronized int getNumPermitsHeld() {
+    return permitHolders.size();
+  }
+
+  // A permit granted to a fiber. The fiber is null if the permit was not granted from within a fiber.
+  private static class Permit {
+    private final Fiber holder;
+
+    Permit(Fiber holder) {
+      this.holder = holder;
+    }
+
+    boolean isAbandoned() {
+      return holder == null || holder.isFinished();
+    }
+  }
+
+  private static class Request {
+    private final String namespace;
+    private final String domainKey;
+    private final boolean reintrospection;
+    private final long sequence = REQUEST_SEQUENCE.incrementAndGet();
+    private final OffsetDateTime requestTime = SystemClock.now();
+    private final Packet packet;
+    private final Fiber requestingFiber;
+    private final AsyncFiber suspendedFiber;
+    private Permit permit;
+
+    Request(Packet packet, boolean firstIntrospection, Fiber requestingFiber, AsyncFiber suspendedFiber) {
+      final DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
+      this.namespace = info.getNamespace();
+      this.domainKey = toDomainKey(info.getNamespace(), info.getDomainUid());
+      this.reintrospection = !firstIntrospection;
+      this.packet = packet;
+      this.requestingFiber = requestingFiber;
+      this.suspendedFiber = suspendedFiber;
+    }
+
+    Permit createPermit() {
+      permit = new Permit(requestingFiber);
+      return permit;
+    }
+
+    boolean isReintrospection() {
+      return reintrospection;
+    }
+
+    long getSequence() {
+      return sequence;
+    }
+
+    void proceed() {
+      OperatorMetrics.observeIntrospectionWaitTime(getWaitSeconds());
+      packet.put(PERMIT, permit);
+      suspendedFiber.resume(packet);
+    }
+
+    private double getWaitSeconds() {
+      return Duration.between(requestTime, SystemClock.now()).toMillis() / 1000.0;
+    }
+  }
+
+  private static class AcquirePermitStep extends Step {
+    private final boolean firstIntrospection;
+
+    AcquirePermitStep(boolean firstIntrospection) {
+      this.firstIntrospection = firstIntrospection;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final Fiber requestingFiber = Fiber.getCurrentIfSet();
+      return doSuspend(fiber -> getInstance().acquire(createRequest(packet, requestingFiber, fiber)));
+    }
+
+    private Request createRequest(Packet packet, Fiber requestingFiber, AsyncFiber fiber) {
+      return new Request(packet, firstIntrospection, requestingFiber, fiber);
+    }
+  }
+
+  private static class ReleasePermitStep extends Step {
+
+    ReleasePermitStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      getInstance().release(packet);
+      return doNext(packet);
+    }
+  }
+}
@@ -0,0 +1,229 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Reads the log of a running introspector job incrementally, so that its messages reach the operator log while the
+ * job runs, rather than only once it has completed. A separate fiber periodically reads the lines written since its
+ * previous read, with their timestamps, and passes those it has not already seen to an {@link IntrospectorLogParser}.
+ * It stops when told to, when the introspector container terminates or its pod disappears, or when the job deadline
+ * passes. The complete log is still read once the job completes, as it holds the introspection results.
+ */
+final class IntrospectorLogFollower {
+
+  static final int POLL_INTERVAL_SECONDS = 5;
+
+  // Added to the time since the last line seen, to allow for a difference between the operator and node clocks.
+  private static final int SINCE_MARGIN_SECONDS = 30;
+
+  private final String namespace;
+  private final String domainUid;
+  private final String jobName;
+  private final OffsetDateTime deadline;
+  private final Consumer<String> messageConsumer;
+  private final IntrospectorLogParser parser;
+  private boolean stopped;
+  private int numForwardedMessages;
+  private OffsetDateTime lastLineTime;
+  private boolean podFound;
+
+  /**
+   * Creates a follower for the log of the introspector container of the specified job.
+   * @param namespace the namespace of the job
+   * @param domainUid the UID of the domain being introspected
+   * @param jobName the name of the job, which is also the name of its introspector container
+   * @param activeDeadlineSeconds the number of seconds after which the job will be stopped
+   * @param messageConsumer a consumer for the complete log messages
+   */
+  IntrospectorLogFollower(String namespace, String domainUid, String jobName, long activeDeadlineSeconds,
+                          Consumer<String> messageConsumer) {
+    this.namespace = namespace;
+    this.domainUid = domainUid;
+    this.jobName = jobName;
+    this.deadline = SystemClock.now().plusSeconds(activeDeadlineSeconds);
+    this.messageConsumer = messageConsumer;
+    this.parser = new IntrospectorLogParser(JobHelper.INTROSPECTOR_LOG_PREFIX, this::forwardMessage);
+  }
+
+  /**
+   * Creates a step which starts following the log on a separate fiber, then runs the next step without waiting.
+   * @param next the next step to run
+   */
+  Step createStartStep(Step next) {
+    return new StartStep(next);
+  }
+
+  /**
+   * Stops following the log.
+   * @return the number of messages passed to the message consumer, which are the first messages of the log
+   */
+  synchronized int stop() {
+    stopped = true;
+    return numForwardedMessages;
+  }
+
+  private synchronized boolean isDone() {
+    return stopped || SystemClock.now().isAfter(deadline);
+  }
+
+  private void forwardMessage(String message) {
+    numForwardedMessages++;
+    messageConsumer.accept(message);
+  }
+
+  // Parses the lines of a timestamped log which were written after the last line seen by the previous read.
+  private synchronized void processLog(String log) {
+    if (stopped) {
+      return;
+    }
+
+    final OffsetDateTime previousLineTime = lastLineTime;
+    for (String line : log.split("\n")) {
+      final int separator = line.indexOf(' ');
+      final OffsetDateTime lineTime = separator < 0 ? null : getLineTime(line.substring(0, separator));
+      if (lineTime != null && (previousLineTime == null || lineTime.isAfter(previousLineTime))) {
+        lastLineTime = lineTime;
+        parser.parse(line.substring(separator + 1) + "\n");
+      }
+    }
+  }
+
+  private OffsetDateTime getLineTime(String timestamp) {
+    try {
+      return OffsetDateTime.parse(timestamp);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private synchronized Integer getSinceSeconds() {
+    return Optional.ofNullable(lastLineTime)
+        .map(time -> Duration.between(time, SystemClock.now()).getSeconds() + SINCE_MARGIN_SECONDS)
+        .map(seconds -> (int) Math.max(seconds, 1))
+        .orElse(null);
+  }
+
+  private class StartStep extends Step {
+
+    StartStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> {
+        fiber.createChildFiber().start(new PollStep(), packet.copy(), null);
+        fiber.resume(packet);
+      });
+    }
+  }
+
+  private class PollStep extends Step {
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (isDone()) {
+        return doEnd(packet);
+      }
+
+      return doNext(new CallBuilder()
+          .withLabelSelectors(LabelConstants.JOBNAME_LABEL + "=" + jobName)
+          .listPodAsync(namespace, new PodListResponseStep()), packet);
+    }
+  }
+
+  private class PodListResponseStep extends ResponseStep<V1PodList> {
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
+      final V1Pod jobPod = getJobPod(callResponse.getResult());
+      if (jobPod == null && podFound) {
+        return doEnd(packet);
+      } else if (jobPod == null) {
+        return doDelay(new PollStep(), packet, POLL_INTERVAL_SECONDS, SECONDS);
+      }
+
+      podFound = true;
+      final V1ContainerState state = getIntrospectorContainerState(jobPod);
+      if (state == null || (state.getRunning() == null && state.getTerminated() == null)) {
+        return doDelay(new PollStep(), packet, POLL_INTERVAL_SECONDS, SECONDS);
+      }
+      return doNext(createReadLogStep(jobPod.getMetadata().getName(), state.getTerminated() != null), packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1PodList> callResponse) {
+      return doDelay(new PollStep(), packet, POLL_INTERVAL_SECONDS, SECONDS);
+    }
+
+    private V1Pod getJobPod(V1PodList podList) {
+      return Optional.ofNullable(podList).map(V1PodList::getItems).orElse(Collections.emptyList()).stream()
+          .filter(pod -> getName(pod).startsWith(jobName))
+          .findFirst()
+          .orElse(null);
+    }
+
+    private String getName(V1Pod pod) {
+      return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getName).orElse("");
+    }
+
+    private V1ContainerState getIntrospectorContainerState(V1Pod jobPod) {
+      return Optional.ofNullable(jobPod.getStatus())
+          .map(V1PodStatus::getContainerStatuses).orElse(Collections.emptyList()).stream()
+          .filter(status -> jobName.equals(status.getName()))
+          .findFirst()
+          .map(V1ContainerStatus::getState)
+          .orElse(null);
+    }
+
+    private Step createReadLogStep(String podName, boolean containerTerminated) {
+      return new CallBuilder()
+          .withContainerName(jobName)
+          .withSinceSeconds(getSinceSeconds())
+          .withTimestamps(true)
+          .readPodLogAsync(podName, namespace, domainUid, new ReadLogResponseStep(containerTerminated));
+    }
+  }
+
+  private class ReadLogResponseStep extends ResponseStep<String> {
+    private final boolean containerTerminated;
+
+    ReadLogResponseStep(boolean containerTerminated) {
+      this.containerTerminated = containerTerminated;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
+      Optional.ofNullable(callResponse.getResult()).ifPresent(IntrospectorLogFollower.this::processLog);
+      return containerTerminated ? doEnd(packet) : doDelay(new PollStep(), packet, POLL_INTERVAL_SECONDS, SECONDS);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<String> callResponse) {
+      return doDelay(new PollStep(), packet, POLL_INTERVAL_SECONDS, SECONDS);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.function.Consumer;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
+
+/**
+ * A single-pass parser for the log of an introspector job, which may be given the log in arbitrary pieces.
+ * Each log message starts with '@[' and continues up to the next line which starts a message or a file; it is passed
+ * to the message consumer, with the specified prefix, as soon as it is known to be complete. Lines before the first
+ * message are ignored, as are the contents of the files written between '>>>' markers, which are parsed separately
+ * when the introspector config map is built.
+ */
+final class IntrospectorLogParser {
+
+  private static final String MESSAGE_START = "@[";
+  private static final String FILE_MARKER = ">>>";
+  private static final String EOF_MARKER = "EOF";
+  private static final String UPDATE_RESULT_TOKEN = ">>>  updatedomainResult=";
+
+  private final String messagePrefix;
+  private final Consumer<String> messageConsumer;
+  private final StringBuilder partialLine = new StringBuilder();
+  private StringBuilder message;
+  private boolean inFile;
+  private boolean introspectionComplete;
+
+  IntrospectorLogParser(String messagePrefix, Consumer<String> messageConsumer) {
+    this.messagePrefix = messagePrefix;
+    this.messageConsumer = messageConsumer;
+  }
+
+  /**
+   * Parses the next piece of the log. A line which is not terminated is held until the rest of it is received.
+   * @param text the next piece of the log
+   * @return this parser
+   */
+  IntrospectorLogParser parse(String text) {
+    int lineStart = 0;
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) == '\n') {
+        partialLine.append(text, lineStart, i);
+        processLine(removeTrailingReturn(partialLine).toString());
+        partialLine.setLength(0);
+        lineStart = i + 1;
+      }
+    }
+    partialLine.append(text, lineStart, text.length());
+    return this;
+  }
+
+  /**
+   * Indicates that the entire log has been parsed, so that the final line and message may be processed.
+   * @return this parser
+   */
+  IntrospectorLogParser complete() {
+    if (partialLine.length() > 0) {
+      processLine(removeTrailingReturn(partialLine).toString());
+      partialLine.setLength(0);
+    }
+    reportMessage();
+    return this;
+  }
+
+  /**
+   * Returns true if the log outside of any file contents reports that the domain introspection is complete.
+   */
+  boolean isIntrospectionComplete() {
+    return introspectionComplete;
+  }
+
+  private StringBuilder removeTrailingReturn(StringBuilder line) {
+    if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+      line.setLength(line.length() - 1);
+    }
+    return line;
+  }
+
+  private void processLine(String line) {
+    if (inFile) {
+      inFile = !isFileEnd(line);
+    } else if (isFileStart(line)) {
+      reportMessage();
+      inFile = !isFileEnd(line);
+    } else {
+      introspectionComplete |= line.contains(DOMAIN_INTROSPECTION_COMPLETE);
+      if (line.startsWith(MESSAGE_START)) {
+        reportMessage();
+        message = new StringBuilder(messagePrefix).append(line.trim());
+      } else if (message != null) {
+        message.append(System.lineSeparator()).append(line.trim());
+      }
+    }
+  }
+
+  // The result of an online update is reported on a marker line which does not start a file
+  private boolean isFileStart(String line) {
+    return line.startsWith(FILE_MARKER) && !line.startsWith(UPDATE_RESULT_TOKEN);
+  }
+
+  private boolean isFileEnd(String line) {
+    return line.startsWith(FILE_MARKER) && line.endsWith(EOF_MARKER);
+  }
+
+  private void reportMessage() {
+    if (message != null) {
+      messageConsumer.accept(message.toString());
+      message = null;
+    }
+  }
+}
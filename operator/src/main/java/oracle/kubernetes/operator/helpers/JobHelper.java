@@ -64,10 +64,10 @@ import static oracle.kubernetes.operator.DomainStatusUpdater.createIntrospection
 import static oracle.kubernetes.operator.DomainStatusUpdater.createRemoveSelectedFailuresStep;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPEC_GENERATION;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECT_REQUESTED;
 import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTOR_JOB_FAILURE_THROWABLE;
+import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTOR_LOG_FOLLOWER;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_FLUENTD_CONTAINER_TERMINATED;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_INTROSPECT_CONTAINER_TERMINATED;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_INTROSPECT_CONTAINER_TERMINATED_MARKER;
@@ -453,11 +453,19 @@ public class JobHelper {
       return Step.chain(deleteIntrospectorJob(), createIntrospectionSteps(next));
     }
 
+    // Waits for a permit from the introspection scheduler before creating the job, and releases it
+    // once the introspection results have been processed.
     private Step createIntrospectionSteps(Step next) {
       return Step.chain(
+              IntrospectionScheduler.createAcquirePermitStep(isFirstIntrospection()),
               readExistingIntrospectorConfigMap(),
               createNewJob(),
-              processExistingIntrospectorJob(next));
+              new StartLogFollowerStep(),
+              processExistingIntrospectorJob(IntrospectionScheduler.createReleasePermitStep(next)));
+    }
+
+    private boolean isFirstIntrospection() {
+      return getDomainTopology() == null;
     }
 
     // Returns a chain of steps which read the job pod and decide how to handle it.
@@ -477,10 +485,31 @@ public class JobHelper {
       return new ReadPodLogStep();
     }
 
+    // Starts reading the log of the new job while it runs, so that its messages are reported as they are written.
+    private class StartLogFollowerStep extends Step {
+
+      @Override
+      public NextAction apply(Packet packet) {
+        stopLogFollower(packet);
+        final IntrospectorLogFollower follower = new IntrospectorLogFollower(getNamespace(), getDomainUid(),
+            getJobName(), getActiveDeadlineSeconds(), ReadPodLogResponseStep::logToOperator);
+        packet.put(INTROSPECTOR_LOG_FOLLOWER, follower);
+        return doNext(follower.createStartStep(getNext()), packet);
+      }
+    }
+
+    // Stops any follower of the job log, and returns the number of messages which it has already reported.
+    private static int stopLogFollower(Packet packet) {
+      return Optional.ofNullable((IntrospectorLogFollower) packet.remove(INTROSPECTOR_LOG_FOLLOWER))
+          .map(IntrospectorLogFollower::stop)
+          .orElse(0);
+    }
+
     private class ReadPodLogStep extends Step {
 
       @Override
       public NextAction apply(Packet packet) {
+        final int numReportedMessages = stopLogFollower(packet);
         String containerName;
         V1Pod jobPod = (V1Pod) packet.get(ProcessingConstants.JOB_POD);
         V1ContainerStatus status = getJobPodContainerStatus(jobPod);
@@ -492,7 +521,8 @@ public class JobHelper {
 
         String jobPodName = JobHelper.getName(jobPod);
 
-        return doNext(readDomainIntrospectorPodLog(jobPodName, containerName, getNext()), packet);
+        return doNext(readDomainIntrospectorPodLog(jobPodName, containerName, numReportedMessages, getNext()),
+            packet);
       }
 
       private V1ContainerStatus getJobPodContainerStatus(V1Pod jobPod) {
@@ -524,11 +554,13 @@ public class JobHelper {
         return Optional.ofNullable(jobPod.getStatus()).map(s -> s.getInitContainerStatuses()).orElse(null);
       }
 
-      private Step readDomainIntrospectorPodLog(String jobPodName, String containerName, Step next) {
+      private Step readDomainIntrospectorPodLog(String jobPodName, String containerName, int numReportedMessages,
+                                                Step next) {
         return new CallBuilder()
                 .withContainerName(containerName)
                 .readPodLogAsync(
-                        jobPodName, getNamespace(), getDomainUid(), new ReadPodLogResponseStep(next));
+                        jobPodName, getNamespace(), getDomainUid(),
+                        new ReadPodLogResponseStep(numReportedMessages, next));
       }
     }
 
@@ -552,22 +584,26 @@ public class JobHelper {
 
     private static class ReadPodLogResponseStep extends ResponseStep<String> {
       public static final String INTROSPECTION_FAILED = "INTROSPECTION_FAILED";
-      private StringBuilder logMessage = new StringBuilder();
       private final List<String> severeStatuses = new ArrayList<>();
+      private final int numReportedMessages;
+      private int numParsedMessages;
 
-      ReadPodLogResponseStep(Step nextStep) {
+      ReadPodLogResponseStep(int numReportedMessages, Step nextStep) {
         super(nextStep);
+        this.numReportedMessages = numReportedMessages;
       }
 
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
-        Optional.ofNullable(callResponse.getResult()).ifPresent(result -> processIntrospectionResult(packet, result));
+        final boolean introspectionComplete = Optional.ofNullable(callResponse.getResult())
+            .map(result -> processIntrospectionResult(packet, result))
+            .orElse(false);
 
         addFluentdContainerLogAsSevereStatus(packet);
 
         final V1Job domainIntrospectorJob = packet.getValue(DOMAIN_INTROSPECTOR_JOB);
         if (severeStatuses.isEmpty()) {
-          if (!isDomainIntrospectionComplete(callResponse)) {
+          if (!introspectionComplete) {
             LOGGER.severe(DOMAIN_INTROSPECTION_INCOMPLETE, callResponse.getResult());
             severeStatuses.add(LOGGER.formatMessage(DOMAIN_INTROSPECTION_INCOMPLETE, callResponse.getResult()));
             return handleFailure(packet, domainIntrospectorJob);
@@ -578,12 +614,6 @@ public class JobHelper {
         }
       }
 
-      @Nonnull
-      private Boolean isDomainIntrospectionComplete(CallResponse<String> callResponse) {
-        return Optional.ofNullable(callResponse).map(CallResponse::getResult)
-            .map(r -> r.contains(DOMAIN_INTROSPECTION_COMPLETE)).orElse(false);
-      }
-
       // Note: fluentd container log can be huge, may not be a good idea to read the container log.
       //  Just set a flag and let the user know they can check the container log to determine unlikely
       //  starting error, most likely a very bad formatted configuration.
@@ -592,11 +622,13 @@ public class JobHelper {
             .ifPresent(severeStatuses::add);
       }
 
-      private void processIntrospectionResult(Packet packet, String result) {
+      // Returns true if the log reports that the domain introspection is complete.
+      private boolean processIntrospectionResult(Packet packet, String result) {
         LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
-        convertJobLogsToOperatorLogs(result);
+        final boolean introspectionComplete = convertJobLogsToOperatorLogs(result);
         packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
         MakeRightDomainOperation.recordInspection(packet);
+        return introspectionComplete;
       }
 
       private NextAction handleFailure(Packet packet, V1Job domainIntrospectorJob) {
@@ -631,32 +663,32 @@ public class JobHelper {
               .orElse(OffsetDateTime.now());
       }
 
-      // Parse log messages out of a Job Log
+      // Parse log messages out of a Job Log in a single pass
       //  - assumes each job log message starts with '@['
       //  - assumes any lines that don't start with '@[' are part
-      //    of the previous log message
+      //    of the previous log message, up to the start of a file
       //  - ignores all lines in the log up to the first line that starts with '@['
-      private void convertJobLogsToOperatorLogs(String jobLogs) {
-        for (String line : jobLogs.split(EOL_PATTERN)) {
-          if (line.startsWith("@[")) {
-            logToOperator();
-            logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-          } else if (logMessage.length() > 0) {
-            logMessage.append(System.lineSeparator()).append(line.trim());
-          }
+      //  - ignores the contents of files, which are parsed when the introspector config map is built
+      private boolean convertJobLogsToOperatorLogs(String jobLogs) {
+        return new IntrospectorLogParser(INTROSPECTOR_LOG_PREFIX, this::processLogMessage)
+            .parse(jobLogs)
+            .complete()
+            .isIntrospectionComplete();
+      }
+
+      // Records a severe message as a failure, and logs each message not already reported by the log follower.
+      private void processLogMessage(String logMsg) {
+        if (getLogLevel(logMsg).equals("SEVERE")) {
+          addSevereStatus(logMsg);
         }
-        logToOperator();
-      }
-
-      private void logToOperator() {
-        if (logMessage.length() == 0) {
-          return;
+        if (numParsedMessages++ >= numReportedMessages) {
+          logToOperator(logMsg);
         }
+      }
 
-        String logMsg = logMessage.toString();
+      static void logToOperator(String logMsg) {
         switch (getLogLevel(logMsg)) {
           case "SEVERE":
-            addSevereStatus(logMsg); // fall through
           case "ERROR":
             LOGGER.severe(logMsg);
             break;
@@ -684,12 +716,12 @@ public class JobHelper {
         severeStatuses.add(logMsg.substring(index).trim());
       }
 
-      private String getLogLevel(String logMsg) {
+      private static String getLogLevel(String logMsg) {
         String regExp = ".*\\[(SEVERE|ERROR|WARNING|INFO|FINE|FINER|FINEST)].*";
         return getFirstLine(logMsg).toUpperCase().replaceAll(regExp, "$1");
       }
 
-      private String getFirstLine(String logMsg) {
+      private static String getFirstLine(String logMsg) {
         return logMsg.split(EOL_PATTERN)[0];
       }
 
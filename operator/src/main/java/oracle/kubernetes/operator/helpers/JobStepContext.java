@@ -383,7 +383,7 @@ public class JobStepContext extends BasePodStepContext {
           .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true"));
   }
 
-  private long getActiveDeadlineSeconds() {
+  long getActiveDeadlineSeconds() {
     return getIntrospectorJobActiveDeadlineSeconds()
           + (TuningParameters.getInstance().getActiveDeadlineIncrementSeconds() * getNumDeadlineIncreases());
   }
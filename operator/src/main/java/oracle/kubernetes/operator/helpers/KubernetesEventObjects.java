@@ -1,46 +1,193 @@
-// Copyright (c) 2021, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.Optional;
 
 import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ObjectReference;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
 
-/** Kubernetes event objects that are generated by the operator and associated with a namespace resource or
- * a domain resource. */
+/**
+ * Kubernetes event objects that are generated by the operator and associated with a namespace resource or
+ * a domain resource. Only the fields which the operator needs to recognize a repeated event and to update its
+ * count are kept. The number of events kept is bounded, and events which have not been written or seen updated
+ * for longer than the time for which Kubernetes normally retains them are forgotten. Excess events are removed
+ * when an event is recorded and, for caches which are no longer written, by a periodic call to
+ * {@link #removeExpiredEvents()}; lookups merely ignore expired events.
+ */
 public class KubernetesEventObjects {
-  private final Map<EventIdentifier, CoreV1Event> events = new ConcurrentHashMap<>();
 
-  public int size() {
+  // Rough heap sizes, in bytes, of the objects held for each event, excluding the contents of its strings.
+  private static final int ENTRY_OVERHEAD = 400;
+  private static final int BYTES_PER_CHAR = 2;
+
+  private static final int DEFAULT_MAX_CACHED_EVENTS = 500;
+  private static final int DEFAULT_CACHED_EVENT_EXPIRY_SECONDS = 3600;
+
+  // Kept in order of the most recent update, so that the first entries are the first to expire or be evicted.
+  private final LinkedHashMap<EventKey, Entry> events = new LinkedHashMap<>();
+
+  public synchronized int size() {
     return events.size();
   }
 
-  public void remove(CoreV1Event event) {
-    events.remove(new EventIdentifier(event));
+  public synchronized void remove(CoreV1Event event) {
+    Optional.ofNullable(events.remove(new EventKey(event))).ifPresent(this::recordRemoval);
+  }
+
+  /**
+   * Records the specified event, replacing any previously recorded event with the same involved object,
+   * reason and message.
+   * @param event an event generated by the operator
+   */
+  public synchronized void update(CoreV1Event event) {
+    final EventKey key = new EventKey(event);
+    Optional.ofNullable(events.remove(key)).ifPresent(this::recordRemoval);
+    final Entry entry = new Entry(event);
+    events.put(key, entry);
+    OperatorMetrics.adjustCachedEvents(1, entry.heapBytes);
+    removeExcessEntries();
+  }
+
+  /**
+   * Returns the recorded event with the same involved object, reason and message as the specified event,
+   * or null if there is none. The caller may update the count and timestamp of the returned event.
+   * @param event a candidate event
+   */
+  public synchronized CoreV1Event getExistingEvent(CoreV1Event event) {
+    final OffsetDateTime expiryTime = getExpiryTime();
+    return Optional.ofNullable(events.get(new EventKey(event)))
+        .filter(entry -> !entry.updateTime.isBefore(expiryTime))
+        .map(entry -> entry.event)
+        .orElse(null);
+  }
+
+  /**
+   * Forgets all recorded events which have not been written or seen updated within the expiry time.
+   */
+  public synchronized void removeExpiredEvents() {
+    removeEntries(getExpiryTime(), 0);
+  }
+
+  /**
+   * Forgets all recorded events. Called when the owner of these events is no longer managed.
+   */
+  public synchronized void clear() {
+    events.values().forEach(this::recordRemoval);
+    events.clear();
+  }
+
+  private void removeExcessEntries() {
+    removeEntries(getExpiryTime(), getMaxCachedEvents());
+  }
+
+  // Removes expired entries and, if maxEntries is positive, the least recently updated entries beyond that number.
+  private void removeEntries(OffsetDateTime expiryTime, int maxEntries) {
+    final Iterator<Entry> iterator = events.values().iterator();
+    while (iterator.hasNext()) {
+      final Entry entry = iterator.next();
+      if (!entry.updateTime.isBefore(expiryTime) && (maxEntries <= 0 || events.size() <= maxEntries)) {
+        break;
+      }
+      iterator.remove();
+      recordRemoval(entry);
+    }
+  }
+
+  private static int getMaxCachedEvents() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMaxCachedEventsPerResource)
+        .orElse(DEFAULT_MAX_CACHED_EVENTS);
+  }
+
+  private static OffsetDateTime getExpiryTime() {
+    return SystemClock.now().minusSeconds(Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getCachedEventExpirySeconds)
+        .orElse(DEFAULT_CACHED_EVENT_EXPIRY_SECONDS));
+  }
+
+  private void recordRemoval(Entry entry) {
+    OperatorMetrics.adjustCachedEvents(-1, -entry.heapBytes);
   }
 
-  public void update(CoreV1Event event) {
-    events.put(new EventIdentifier(event), event);
+  private static int charBytes(String value) {
+    return Optional.ofNullable(value).map(String::length).orElse(0) * BYTES_PER_CHAR;
   }
 
-  public CoreV1Event getExistingEvent(CoreV1Event event) {
-    return events.get(new EventIdentifier(event));
+  // A copy of the fields of an event needed to match it and to replace it with an updated count.
+  private static class Entry {
+    private final CoreV1Event event;
+    private final long heapBytes;
+    private final OffsetDateTime updateTime = SystemClock.now();
+
+    Entry(CoreV1Event event) {
+      this.event = new CoreV1Event()
+          .metadata(copyMetadata(event.getMetadata()))
+          .reportingComponent(event.getReportingComponent())
+          .reportingInstance(event.getReportingInstance())
+          .firstTimestamp(event.getFirstTimestamp())
+          .lastTimestamp(event.getLastTimestamp())
+          .type(event.getType())
+          .reason(event.getReason())
+          .message(event.getMessage())
+          .involvedObject(event.getInvolvedObject())
+          .count(event.getCount());
+      this.heapBytes = estimateHeapBytes(this.event);
+    }
+
+    private static V1ObjectMeta copyMetadata(V1ObjectMeta metadata) {
+      return Optional.ofNullable(metadata)
+          .map(m -> new V1ObjectMeta()
+              .name(m.getName())
+              .namespace(m.getNamespace())
+              .resourceVersion(m.getResourceVersion())
+              .labels(m.getLabels()))
+          .orElse(null);
+    }
+
+    private static long estimateHeapBytes(CoreV1Event event) {
+      long bytes = ENTRY_OVERHEAD + charBytes(event.getMessage()) + charBytes(event.getReason());
+      if (event.getMetadata() != null) {
+        bytes += charBytes(event.getMetadata().getName()) + charBytes(event.getMetadata().getNamespace());
+        for (Map.Entry<String, String> label : Optional.ofNullable(event.getMetadata().getLabels())
+            .orElse(Map.of()).entrySet()) {
+          bytes += charBytes(label.getKey()) + charBytes(label.getValue());
+        }
+      }
+      return bytes;
+    }
   }
 
-  private static class EventIdentifier {
-    V1ObjectReference involvedObject;
-    String reason;
-    String message;
+  // Identifies an event by its involved object, reason and message. The hash code is computed once, and
+  // the involved object is compared only by the fields which the operator sets.
+  private static class EventKey {
+    private final String kind;
+    private final String namespace;
+    private final String name;
+    private final String uid;
+    private final String reason;
+    private final String message;
+    private final int hash;
 
-    EventIdentifier(CoreV1Event event) {
-      this.involvedObject = event.getInvolvedObject();
+    EventKey(CoreV1Event event) {
+      final Optional<V1ObjectReference> involvedObject = Optional.ofNullable(event.getInvolvedObject());
+      this.kind = involvedObject.map(V1ObjectReference::getKind).orElse(null);
+      this.namespace = involvedObject.map(V1ObjectReference::getNamespace).orElse(null);
+      this.name = involvedObject.map(V1ObjectReference::getName).orElse(null);
+      this.uid = involvedObject.map(V1ObjectReference::getUid).orElse(null);
       this.reason = event.getReason();
       this.message = event.getMessage();
+      this.hash = Objects.hash(kind, namespace, name, uid, reason, message);
     }
 
     @Override
@@ -53,22 +200,20 @@ public class KubernetesEventObjects {
         return false;
       }
 
-      EventIdentifier that = (EventIdentifier) o;
+      EventKey that = (EventKey) o;
 
-      return new EqualsBuilder()
-          .append(involvedObject, that.involvedObject)
-          .append(reason, that.reason)
-          .append(message, that.message)
-          .isEquals();
+      return hash == that.hash
+          && Objects.equals(name, that.name)
+          && Objects.equals(reason, that.reason)
+          && Objects.equals(message, that.message)
+          && Objects.equals(kind, that.kind)
+          && Objects.equals(namespace, that.namespace)
+          && Objects.equals(uid, that.uid);
     }
 
     @Override
     public int hashCode() {
-      return new HashCodeBuilder(17, 37)
-          .append(involvedObject)
-          .append(reason)
-          .append(message)
-          .toHashCode();
+      return hash;
     }
   }
 }
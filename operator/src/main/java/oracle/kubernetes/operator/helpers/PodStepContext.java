@@ -7,6 +7,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,7 @@ import io.kubernetes.client.openapi.models.V1Lifecycle;
 import io.kubernetes.client.openapi.models.V1LifecycleHandler;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodBuilder;
 import io.kubernetes.client.openapi.models.V1PodReadinessGate;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodSpecBuilder;
@@ -66,6 +68,7 @@ import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import oracle.kubernetes.operator.steps.WarmStandbyStep;
 import oracle.kubernetes.operator.tuning.PodTuning;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
@@ -101,6 +104,7 @@ import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABE
 import static oracle.kubernetes.operator.LabelConstants.MII_UPDATED_RESTART_REQUIRED_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.MODEL_IN_IMAGE_DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.LabelConstants.OPERATOR_VERSION;
+import static oracle.kubernetes.operator.LabelConstants.WARM_STANDBY_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE_SUCCESS;
 import static oracle.kubernetes.operator.helpers.AffinityHelper.DOMAIN_UID_VARIABLE;
@@ -156,7 +160,7 @@ public abstract class PodStepContext extends BasePodStepContext {
 
   private static final Set<String> PATCHABLE_OPERATOR_KEYS = Set.of(INTROSPECTION_STATE_LABEL, OPERATOR_VERSION,
       MODEL_IN_IMAGE_DOMAINZIP_HASH, SHA256_ANNOTATION, DOMAIN_OBSERVED_GENERATION_LABEL,
-      CLUSTER_OBSERVED_GENERATION_LABEL);
+      CLUSTER_OBSERVED_GENERATION_LABEL, WARM_STANDBY_LABEL);
 
   private static boolean isCustomerItem(Map.Entry<String, String> entry) {
     return !entry.getKey().startsWith("weblogic.");
@@ -463,10 +467,17 @@ public abstract class PodStepContext extends BasePodStepContext {
     if (addRestartRequiredLabel) {
       result.put(MII_UPDATED_RESTART_REQUIRED_LABEL, "true");
     }
+    if (isWarmStandby()) {
+      result.put(WARM_STANDBY_LABEL, "true");
+    }
 
     return result;
   }
 
+  private boolean isWarmStandby() {
+    return info.isWarmStandbyServer(getServerName());
+  }
+
   private Map<String, String> getNonHashedPodAnnotations() {
     Map<String,String> result = new HashMap<>(getPodAnnotations());
     result.put(SHA256_ANNOTATION, sha256Hash);
@@ -540,9 +551,44 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   V1Pod createPodModel() {
-    final V1Pod podRecipe = createPodRecipe();
-    sha256Hash = AnnotationHelper.createHash(podRecipe);
-    return withNonHashedElements(podRecipe);
+    final PodRecipe podRecipe = getPodRecipe();
+    sha256Hash = podRecipe.getHash();
+    return withNonHashedElements(podRecipe.copyPod());
+  }
+
+  // Building and hashing a pod recipe is expensive, so each server's recipe is cached, and reused until
+  // any of the inputs from which it was built changes.
+  private PodRecipe getPodRecipe() {
+    final String key = getPodRecipeKey();
+    final PodRecipe cached = info.getPodRecipe(getServerName());
+    if (key != null && cached != null && cached.isFor(key)) {
+      return cached;
+    }
+
+    final PodRecipe podRecipe = new PodRecipe(key, createPodRecipe());
+    if (key != null) {
+      info.setPodRecipe(getServerName(), podRecipe);
+    }
+    return podRecipe;
+  }
+
+  // Returns a key which identifies the inputs to the recipe for this server,
+  // or null if they cannot be identified and the recipe must therefore not be cached.
+  private String getPodRecipeKey() {
+    final String domainGeneration = getGeneration(getDomain().getMetadata());
+    final String configMapVersion = packet.getValue(ProcessingConstants.INTROSPECTOR_CONFIG_MAP_VERSION);
+    final ClusterResource cluster = getCluster(getClusterName());
+    final String clusterGeneration = cluster == null ? "" : getGeneration(cluster.getMetadata());
+    if (domainGeneration == null || configMapVersion == null || clusterGeneration == null) {
+      return null;
+    }
+
+    return String.join(":", domainGeneration, clusterGeneration, configMapVersion,
+        String.valueOf(TuningParameters.getInstance().getConfiguredValuesHash()), String.valueOf(productVersion));
+  }
+
+  private String getGeneration(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata).map(V1ObjectMeta::getGeneration).map(String::valueOf).orElse(null);
   }
 
   @Override
@@ -590,6 +636,7 @@ public abstract class PodStepContext extends BasePodStepContext {
   private void updateEnv(List<V1EnvVar> env) {
     updateEnvForShutdown(env);
     updateEnvForStartupMode(env);
+    updateEnvForWarmStandby(env);
     defineConfigOverride(env);
     updateEnvWithDomainSourceType(env);
   }
@@ -626,6 +673,15 @@ public abstract class PodStepContext extends BasePodStepContext {
         .ifPresent(r -> addDefaultEnvVarIfMissing(env, "REPLACE_VARIABLES_IN_JAVA_OPTIONS", Boolean.toString(r)));
   }
 
+  // A warm standby server starts in the ADMIN state, overriding any startup mode specified for the server.
+  // As the variable is not part of the pod hash, the pod keeps it when the server is later resumed,
+  // rather than being rolled.
+  private void updateEnvForWarmStandby(List<V1EnvVar> env) {
+    if (isWarmStandby()) {
+      addOrReplaceEnvVar(env, ServerEnvVars.STARTUP_MODE, WebLogicConstants.ADMIN_STATE);
+    }
+  }
+
   private void defineConfigOverride(List<V1EnvVar> env) {
     if (distributeOverridesDynamically()) {
       addDefaultEnvVarIfMissing(env, ServerEnvVars.DYNAMIC_CONFIG_OVERRIDE, "true");
@@ -1109,6 +1165,9 @@ public abstract class PodStepContext extends BasePodStepContext {
           patchBuilder, "/metadata/labels/", getLabels(currentPod), getNonHashedPodLabels());
       KubernetesUtils.addPatches(
           patchBuilder, "/metadata/annotations/", getAnnotations(currentPod), getNonHashedPodAnnotations());
+      if (hasObsoleteWarmStandbyLabel(currentPod)) {
+        patchBuilder.remove("/metadata/labels/" + WARM_STANDBY_LABEL);
+      }
       return new CallBuilder()
           .patchPodAsync(getPodName(), getNamespace(), getDomainUid(),
               new V1Patch(patchBuilder.build().toString()), patchResponse(next));
@@ -1120,7 +1179,56 @@ public abstract class PodStepContext extends BasePodStepContext {
 
     private boolean mustPatchPod(V1Pod currentPod) {
       return KubernetesUtils.isMissingValues(getLabels(currentPod), getNonHashedPodLabels())
-          || KubernetesUtils.isMissingValues(getAnnotations(currentPod), getPodAnnotations());
+          || KubernetesUtils.isMissingValues(getAnnotations(currentPod), getPodAnnotations())
+          || hasLegacyPodHash(currentPod)
+          || hasObsoleteWarmStandbyLabel(currentPod);
+    }
+
+    // A pod accepted with an unversioned hash is patched with the versioned hash, so it is not rehashed again.
+    private boolean hasLegacyPodHash(V1Pod currentPod) {
+      final String currentHash = AnnotationHelper.getHash(currentPod);
+      return currentHash != null && AnnotationHelper.isLegacyPodHash(currentHash)
+          && !AnnotationHelper.isLegacyPodHash(AnnotationHelper.getHash(getPodModel()));
+    }
+
+    private boolean hasObsoleteWarmStandbyLabel(V1Pod currentPod) {
+      return !isWarmStandby() && getLabels(currentPod).containsKey(WARM_STANDBY_LABEL);
+    }
+
+    // A server which is no longer a warm standby is resumed; one which has become a standby is suspended.
+    private Step withWarmStandbyTransition(V1Pod currentPod, Step next) {
+      if (scan == null) {
+        return next;
+      } else if (isWarmStandby() && isLastKnownState(WebLogicConstants.RUNNING_STATE)) {
+        return WarmStandbyStep.createSuspendStep(scan, next);
+      } else if (!isWarmStandby() && wasStartedAsWarmStandby(currentPod)
+          && isLastKnownState(WebLogicConstants.ADMIN_STATE)) {
+        return WarmStandbyStep.createResumeStep(scan, next);
+      } else {
+        return next;
+      }
+    }
+
+    private boolean wasStartedAsWarmStandby(V1Pod currentPod) {
+      return getLabels(currentPod).containsKey(WARM_STANDBY_LABEL) || hasStartupModeEnvVar(currentPod);
+    }
+
+    // A startup mode which the domain itself specifies does not mark the pod as one started as a warm standby.
+    private boolean hasStartupModeEnvVar(V1Pod currentPod) {
+      return !isStartupModeSpecified(getServerPodEnvironmentVariables())
+          && isStartupModeSpecified(getContainer(currentPod).map(V1Container::getEnv).orElse(null));
+    }
+
+    private boolean isStartupModeSpecified(List<V1EnvVar> env) {
+      return Optional.ofNullable(env).orElse(Collections.emptyList()).stream()
+          .anyMatch(envVar -> ServerEnvVars.STARTUP_MODE.equals(envVar.getName()));
+    }
+
+    private boolean isLastKnownState(String state) {
+      return Optional.ofNullable(info.getLastKnownServerStatus(getServerName()))
+          .map(LastKnownStatus::getStatus)
+          .map(state::equals)
+          .orElse(false);
     }
 
     private void logPodExists() {
@@ -1163,14 +1271,14 @@ public abstract class PodStepContext extends BasePodStepContext {
 
       restoreAffinityContent(recipe, currentPod);
 
-      return AnnotationHelper.createHash(recipe);
+      return AnnotationHelper.createPodHash(recipe, AnnotationHelper.getHash(currentPod));
     }
 
     private String adjustedHash(V1Pod currentPod, List<BiConsumer<V1Pod, V1Pod>> adjustments) {
       V1Pod recipe = createPodRecipe();
       adjustments.forEach(adjustment -> adjustment.accept(recipe, currentPod));
 
-      return AnnotationHelper.createHash(recipe);
+      return AnnotationHelper.createPodHash(recipe, AnnotationHelper.getHash(currentPod));
     }
 
     private void addLegacyPrometheusAnnotationsFrom30(V1Pod pod) {
@@ -1374,18 +1482,47 @@ public abstract class PodStepContext extends BasePodStepContext {
           this::restoreLogHomeLayoutEnvVar,
           this::restoreFluentdVolume,
           this::restoreSecurityContext);
+      // try the smallest combinations first, as a pod usually needs only a few adjustments to match
       return Combinations.of(adjustments)
+          .sorted(Comparator.comparingInt(List::size))
           .map(adjustment -> adjustedHash(currentPod, adjustment))
           .anyMatch(requiredHash::equals);
     }
 
     private boolean hasCorrectPodHash(V1Pod currentPod) {
+      return AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod))
+          || hasLegacyHashOfCurrentRecipe(currentPod)
+          || canAdjustEarlierOperatorHashToMatch(currentPod);
+    }
 
+    // Matching the hash of a pod created by an earlier operator version may require hashing many adjusted recipes,
+    // so the result is cached until either the pod or the recipe changes.
+    private boolean canAdjustEarlierOperatorHashToMatch(V1Pod currentPod) {
+      return Optional.ofNullable(getPodHashCompatibilityKey(currentPod))
+          .map(key -> info.isPodHashCompatible(getServerName(), key, () -> canAdjustHashToMatch(currentPod)))
+          .orElseGet(() -> canAdjustHashToMatch(currentPod));
+    }
+
+    private String getPodHashCompatibilityKey(V1Pod currentPod) {
+      return Optional.ofNullable(currentPod.getMetadata())
+          .filter(metadata -> metadata.getUid() != null && metadata.getResourceVersion() != null)
+          .map(metadata -> String.join(":", metadata.getUid(), metadata.getResourceVersion(),
+              AnnotationHelper.getHash(getPodModel())))
+          .orElse(null);
+    }
+
+    private boolean canAdjustHashToMatch(V1Pod currentPod) {
       return (isLegacyPod(currentPod)
               && canAdjustLegacyHashToMatch(currentPod, AnnotationHelper.getHash(currentPod)))
           || (isPodFromRecentOperator(currentPod)
-              && canAdjustRecentOperatorMajorVersion3HashToMatch(currentPod, AnnotationHelper.getHash(currentPod)))
-          || AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+              && canAdjustRecentOperatorMajorVersion3HashToMatch(currentPod, AnnotationHelper.getHash(currentPod)));
+    }
+
+    // A pod annotated with an unversioned hash by an earlier operator version may still match the current recipe
+    private boolean hasLegacyHashOfCurrentRecipe(V1Pod currentPod) {
+      final String currentHash = AnnotationHelper.getHash(currentPod);
+      return AnnotationHelper.isLegacyPodHash(currentHash)
+          && AnnotationHelper.createPodHash(createPodRecipe(), currentHash).equals(currentHash);
     }
 
     private boolean canUseCurrentPod(V1Pod currentPod) {
@@ -1412,10 +1549,10 @@ public abstract class PodStepContext extends BasePodStepContext {
       } else if (PodHelper.shouldRestartEvictedPod(currentPod)) {
         return doNext(cycleEvictedPodStep(currentPod, getNext()), packet);
       } else if (mustPatchPod(currentPod)) {
-        return doNext(patchCurrentPod(currentPod, getNext()), packet);
+        return doNext(patchCurrentPod(currentPod, withWarmStandbyTransition(currentPod, getNext())), packet);
       } else {
         logPodExists();
-        return doNext(packet);
+        return doNext(withWarmStandbyTransition(currentPod, getNext()), packet);
       }
     }
   }
@@ -1536,11 +1673,14 @@ public abstract class PodStepContext extends BasePodStepContext {
       logPodReplaced();
     }
 
+    // A warm standby server never becomes ready while it is in the ADMIN state, so it is not waited for.
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1Pod> callResponse) {
-      return doNext(
-          packet.getSpi(PodAwaiterStepFactory.class).waitForReady(processResponse(callResponse), getNext()),
-          packet);
+      final V1Pod newPod = processResponse(callResponse);
+      if (isWarmStandby()) {
+        return doNext(packet);
+      }
+      return doNext(packet.getSpi(PodAwaiterStepFactory.class).waitForReady(newPod, getNext()), packet);
     }
   }
 
@@ -1683,4 +1823,30 @@ public abstract class PodStepContext extends BasePodStepContext {
   protected V1ResourceRequirements getResources() {
     return getServerSpec().getResources();
   }
+
+  /** A pod recipe and its hash, along with a key which identifies the inputs from which the recipe was built. */
+  static class PodRecipe {
+    private final String key;
+    private final V1Pod pod;
+    private final String hash;
+
+    PodRecipe(String key, V1Pod pod) {
+      this.key = key;
+      this.pod = pod;
+      this.hash = AnnotationHelper.createPodHash(pod);
+    }
+
+    boolean isFor(String key) {
+      return key.equals(this.key);
+    }
+
+    String getHash() {
+      return hash;
+    }
+
+    // The recipe may be shared, so callers are given a copy which they are free to modify.
+    V1Pod copyPod() {
+      return new V1PodBuilder(pod).build();
+    }
+  }
 }
@@ -0,0 +1,82 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Computes a hash of the state of a domain which a make-right would act upon: the generations and specifications
+ * of the domain and of its cluster resources, the requested introspection version, and the resource versions of
+ * the server pods and services which the operator has seen. If a periodic recheck finds the same fingerprint as was
+ * recorded at the end of the last successful make-right, nothing has changed which that make-right would need to
+ * correct.
+ */
+public final class ReconciliationFingerprint {
+
+  private ReconciliationFingerprint() {
+    // no-op
+  }
+
+  /**
+   * Returns the fingerprint of the specified domain presence.
+   * @param info the presence info for a domain
+   * @return a SHA-256 hex string, or null if there is no domain
+   */
+  public static String of(DomainPresenceInfo info) {
+    final DomainResource domain = info.getDomain();
+    if (domain == null) {
+      return null;
+    }
+
+    final StringBuilder sb = new StringBuilder();
+    sb.append("domain=").append(getGeneration(domain)).append(',')
+        .append(getSpecHash(domain.getSpec()))
+        .append(";introspectVersion=").append(domain.getIntrospectVersion());
+    info.getClusterResources().stream()
+        .sorted(Comparator.comparing(ReconciliationFingerprint::getName))
+        .forEach(cluster -> sb.append(";cluster:").append(getName(cluster)).append('=')
+            .append(getGeneration(cluster)).append(',')
+            .append(getSpecHash(cluster.getSpec())));
+    new TreeSet<>(info.getServerNames()).forEach(name -> appendServer(sb, info, name));
+    new TreeSet<>(info.getClusterServiceNames())
+        .forEach(name -> sb.append(";clusterService:").append(name).append('=')
+            .append(getResourceVersion(info.getClusterService(name))));
+    return DigestUtils.sha256Hex(sb.toString());
+  }
+
+  private static void appendServer(StringBuilder sb, DomainPresenceInfo info, String serverName) {
+    sb.append(";server:").append(serverName)
+        .append("=pod:").append(getResourceVersion(info.getServerPod(serverName)))
+        .append(",service:").append(getResourceVersion(info.getServerService(serverName)))
+        .append(",external:").append(getResourceVersion(info.getExternalService(serverName)));
+  }
+
+  // The JSON form is used as it includes every field of the spec, unlike the YAML dump used for resource hashes.
+  private static String getSpecHash(Object spec) {
+    return DigestUtils.sha256Hex(LoggingFactory.getJson().getGson().toJson(spec));
+  }
+
+  private static String getName(ClusterResource cluster) {
+    return Optional.ofNullable(cluster.getMetadata()).map(V1ObjectMeta::getName).orElse("");
+  }
+
+  private static Long getGeneration(KubernetesObject resource) {
+    return Optional.ofNullable(resource).map(KubernetesObject::getMetadata).map(V1ObjectMeta::getGeneration)
+        .orElse(null);
+  }
+
+  private static String getResourceVersion(KubernetesObject resource) {
+    return Optional.ofNullable(resource).map(KubernetesObject::getMetadata).map(V1ObjectMeta::getResourceVersion)
+        .orElse(null);
+  }
+}
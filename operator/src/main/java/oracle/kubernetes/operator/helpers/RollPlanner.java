@@ -0,0 +1,218 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Limits the number of ready server pods which may be restarted for a roll at once, across all domains managed
+ * by the operator, within each namespace and on each Kubernetes node. Each cluster still honors its own
+ * availability settings; this budget is applied on top of them, so that clusters and domains rolling at the same
+ * time do not together take down more pods than the operator is configured to allow.
+ *
+ * <p>Unlike the {@link IntrospectionScheduler}, a request for a roll permit never waits: the rolling step simply
+ * tries again on its next pass. Permits are held per server, and are released when the server has been rolled,
+ * and in any case when the make-right operation for the domain completes or the domain is removed.
+ *
+ * <p>The planner also estimates how long a roll will take, from the number of servers to roll in each cluster,
+ * the parallelism each cluster allows, the operator-wide budget and the time recently taken to roll a server.
+ */
+public final class RollPlanner {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static RollPlanner instance = new RollPlanner();
+
+  private final Map<String, Permit> permits = new HashMap<>();
+  private final Map<String, Integer> namespacePermits = new HashMap<>();
+  private final Map<String, Integer> nodePermits = new HashMap<>();
+
+  RollPlanner() {
+    // no-op
+  }
+
+  public static RollPlanner getInstance() {
+    return instance;
+  }
+
+  /**
+   * Attempts to obtain a permit to roll the specified server. Returns true if the server already holds a permit.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param serverName the name of the server to roll
+   * @param nodeName the name of the node on which the server's pod is running, if known
+   * @return true if the server may be rolled now
+   */
+  synchronized boolean tryAcquire(String namespace, String domainUid, String serverName, @Nullable String nodeName) {
+    final String serverKey = toServerKey(namespace, domainUid, serverName);
+    if (permits.containsKey(serverKey)) {
+      return true;
+    } else if (!hasAvailablePermit(namespace, nodeName)) {
+      OperatorMetrics.incrementPodRollsDeferred();
+      return false;
+    } else {
+      permits.put(serverKey, new Permit(namespace, domainUid, nodeName));
+      namespacePermits.merge(namespace, 1, Integer::sum);
+      if (nodeName != null) {
+        nodePermits.merge(nodeName, 1, Integer::sum);
+      }
+      recordMetrics();
+      return true;
+    }
+  }
+
+  /**
+   * Releases the roll permit held by the specified server, if any.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param serverName the name of the rolled server
+   * @return the time for which the permit was held, or null if the server held no permit
+   */
+  synchronized Duration release(String namespace, String domainUid, String serverName) {
+    final Permit permit = permits.remove(toServerKey(namespace, domainUid, serverName));
+    if (permit == null) {
+      return null;
+    }
+
+    releaseCounts(permit);
+    recordMetrics();
+    return Duration.between(permit.acquireTime, SystemClock.now());
+  }
+
+  /**
+   * Releases all roll permits held by servers in the specified domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public synchronized void releaseDomain(String namespace, String domainUid) {
+    final Iterator<Permit> iterator = permits.values().iterator();
+    while (iterator.hasNext()) {
+      final Permit permit = iterator.next();
+      if (permit.isForDomain(namespace, domainUid)) {
+        iterator.remove();
+        releaseCounts(permit);
+      }
+    }
+    recordMetrics();
+  }
+
+  private void releaseCounts(Permit permit) {
+    namespacePermits.computeIfPresent(permit.namespace, (ns, count) -> count > 1 ? count - 1 : null);
+    if (permit.nodeName != null) {
+      nodePermits.computeIfPresent(permit.nodeName, (node, count) -> count > 1 ? count - 1 : null);
+    }
+  }
+
+  private static String toServerKey(String namespace, String domainUid, String serverName) {
+    return namespace + "/" + domainUid + "/" + serverName;
+  }
+
+  private boolean hasAvailablePermit(String namespace, String nodeName) {
+    return isBelowLimit(permits.size(), getMaxConcurrentPodRolls())
+          && isBelowLimit(namespacePermits.getOrDefault(namespace, 0), getMaxConcurrentPodRollsPerNamespace())
+          && (nodeName == null || isBelowNodeLimit(nodeName));
+  }
+
+  private boolean isBelowNodeLimit(String nodeName) {
+    return isBelowLimit(nodePermits.getOrDefault(nodeName, 0), getMaxConcurrentPodRollsPerNode());
+  }
+
+  private static boolean isBelowLimit(int count, int limit) {
+    return limit <= 0 || count < limit;
+  }
+
+  private static int getMaxConcurrentPodRolls() {
+    return TuningParameters.getInstance().getMaxConcurrentPodRolls();
+  }
+
+  private static int getMaxConcurrentPodRollsPerNamespace() {
+    return TuningParameters.getInstance().getMaxConcurrentPodRollsPerNamespace();
+  }
+
+  private static int getMaxConcurrentPodRollsPerNode() {
+    return TuningParameters.getInstance().getMaxConcurrentPodRollsPerNode();
+  }
+
+  private void recordMetrics() {
+    OperatorMetrics.setPodRollsRunning(permits.size());
+  }
+
+  synchronized int getNumPermitsHeld() {
+    return permits.size();
+  }
+
+  /**
+   * Estimates the time needed to roll a domain. Clusters roll in parallel, each in waves no larger than its
+   * parallelism, but the operator-wide and per-namespace budgets may force more waves than any one cluster needs.
+   * Servers which may be restarted at once, without regard to cluster availability, need a single wave.
+   *
+   * @param clusteredServers map of cluster names to the number of servers to roll in each cluster
+   * @param clusterParallelism a function returning the number of servers a cluster may roll at once
+   * @param numImmediateRestarts the number of servers which may be restarted at once
+   * @param serverRollDuration the time taken to roll a single server
+   * @return the estimated time to complete the roll
+   */
+  @Nonnull
+  static Duration estimateRollDuration(Map<String, Integer> clusteredServers,
+                                       ToIntFunction<String> clusterParallelism,
+                                       int numImmediateRestarts,
+                                       @Nonnull Duration serverRollDuration) {
+    long waves = numImmediateRestarts > 0 ? 1 : 0;
+    int numClusteredServers = 0;
+    for (Map.Entry<String, Integer> entry : clusteredServers.entrySet()) {
+      waves = Math.max(waves, numWaves(entry.getValue(), clusterParallelism.applyAsInt(entry.getKey())));
+      numClusteredServers += entry.getValue();
+    }
+
+    final int budget = getRollBudget();
+    if (budget > 0) {
+      waves = Math.max(waves, numWaves(numClusteredServers, budget));
+    }
+    return serverRollDuration.multipliedBy(waves);
+  }
+
+  private static long numWaves(int numServers, int parallelism) {
+    final int waveSize = Math.max(1, parallelism);
+    return (numServers + waveSize - 1) / waveSize;
+  }
+
+  // Returns the smallest of the configured operator-wide and per-namespace budgets, or zero if neither is set.
+  private static int getRollBudget() {
+    final int global = getMaxConcurrentPodRolls();
+    final int perNamespace = getMaxConcurrentPodRollsPerNamespace();
+    if (global <= 0 || perNamespace <= 0) {
+      return Math.max(global, perNamespace);
+    } else {
+      return Math.min(global, perNamespace);
+    }
+  }
+
+  private static class Permit {
+    private final String namespace;
+    private final String domainUid;
+    private final String nodeName;
+    private final OffsetDateTime acquireTime = SystemClock.now();
+
+    Permit(String namespace, String domainUid, String nodeName) {
+      this.namespace = namespace;
+      this.domainUid = domainUid;
+      this.nodeName = nodeName;
+    }
+
+    boolean isForDomain(String namespace, String domainUid) {
+      return Objects.equals(this.namespace, namespace) && Objects.equals(this.domainUid, domainUid);
+    }
+  }
+}
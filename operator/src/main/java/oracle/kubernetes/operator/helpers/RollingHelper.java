@@ -1,12 +1,15 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,6 +21,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -30,6 +34,7 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.utils.OperatorUtils;
+import oracle.kubernetes.utils.SystemClock;
 
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 
@@ -37,7 +42,8 @@ import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
  * After the {@link PodHelper} identifies servers that are presently running, but that are using an
  * out-of-date specification, it defers the processing of these servers to the RollingHelper. This
  * class will ensure that a minimum number of cluster members remain up, if possible, throughout the
- * rolling process.
+ * rolling process. Clusters are rolled in parallel, subject to the operator-wide budget maintained by
+ * the {@link RollPlanner}.
  */
 public class RollingHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -101,12 +107,13 @@ public class RollingHelper {
     public NextAction apply(Packet packet) {
       final StepContext context = new StepContext(packet);
       context.classifyRollingEntries(rolling);
+      context.recordPredictedCompletion();
 
       context.createWork(packet);
       if (context.hasNoWork()) {
         return doNext(packet);
       } else {
-        return doForkJoin(getNext(), packet, context.getWork());
+        return doForkJoin(new RollCompletedStep(getNext()), packet, context.getWork());
       }
     }
 
@@ -153,6 +160,29 @@ public class RollingHelper {
         return new ConcurrentLinkedQueue<>();
       }
 
+      // Predicts when the roll will complete, if the time to roll a server in this domain has been observed.
+      private void recordPredictedCompletion() {
+        getInfo().setPredictedRollCompletion(Optional.ofNullable(getInfo().getServerRollDuration())
+              .filter(duration -> hasRollingEntries())
+              .map(this::estimateRollDuration)
+              .map(SystemClock.now()::plus)
+              .orElse(null));
+      }
+
+      private boolean hasRollingEntries() {
+        return !serverRestarts.isEmpty() || !clusteredRestarts.isEmpty();
+      }
+
+      private Duration estimateRollDuration(Duration serverRollDuration) {
+        return RollPlanner.estimateRollDuration(
+              getNumClusteredRestarts(), getInfo()::getMaxUnavailable, serverRestarts.size(), serverRollDuration);
+      }
+
+      private Map<String, Integer> getNumClusteredRestarts() {
+        return clusteredRestarts.entrySet().stream()
+              .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().size()));
+      }
+
       private void createWork(Packet packet) {
         Optional.of(serverRestarts)
               .filter(this::hasRestarts)
@@ -191,6 +221,19 @@ public class RollingHelper {
 
   }
 
+  private static class RollCompletedStep extends Step {
+
+    RollCompletedStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo.fromPacket(packet).ifPresent(info -> info.setPredictedRollCompletion(null));
+      return doNext(packet);
+    }
+  }
+
   private static class ServersThatCanRestartNowStep extends Step {
     private final Collection<StepAndPacket> serversThatCanRestartNow;
 
@@ -220,7 +263,7 @@ public class RollingHelper {
       return clusterName;
     }
 
-    List<String> getServerNames(@Nonnull Queue<StepAndPacket> stepAndPackets) {
+    List<String> getServerNames(@Nonnull Collection<StepAndPacket> stepAndPackets) {
       return stepAndPackets.stream().map(this::getServerName).collect(Collectors.toList());
     }
 
@@ -242,13 +285,10 @@ public class RollingHelper {
       }
 
       int countToRestartNow = readyServers.size() - context.getMinAvailable(clusterName);
-      Collection<StepAndPacket> restarts = new ArrayList<>();
-      for (int i = 0; i < countToRestartNow; i++) {
-        Optional.ofNullable(servers.poll()).ifPresent(restarts::add);
-      }
+      Collection<StepAndPacket> restarts = selectRestarts(context, countToRestartNow);
 
       if (!restarts.isEmpty()) {
-        return doForkJoin(this, packet, restarts);
+        return doForkJoin(new ReleaseRollPermitsStep(getServerNames(restarts), this), packet, restarts);
       } else if (!servers.isEmpty()) {
         return doDelay(this, packet, DELAY_IN_SECONDS, TimeUnit.SECONDS);
       } else {
@@ -256,6 +296,21 @@ public class RollingHelper {
       }
     }
 
+    // Selects, in order, up to the specified number of queued servers for which roll permits can be obtained.
+    // A server whose node is at its limit is skipped, so that it does not hold up servers on other nodes.
+    private Collection<StepAndPacket> selectRestarts(StepContext context, int countToRestartNow) {
+      Collection<StepAndPacket> restarts = new ArrayList<>();
+      Iterator<StepAndPacket> iterator = servers.iterator();
+      while (restarts.size() < countToRestartNow && iterator.hasNext()) {
+        StepAndPacket candidate = iterator.next();
+        if (context.tryAcquireRollPermit(getServerName(candidate))) {
+          iterator.remove();
+          restarts.add(candidate);
+        }
+      }
+      return restarts;
+    }
+
     private static class StepContext extends BaseStepContext {
       private final String clusterName;
 
@@ -289,6 +344,38 @@ public class RollingHelper {
       private boolean isServerReady(String serverName) {
         return getReadyServers().contains(serverName);
       }
+
+      private boolean tryAcquireRollPermit(String serverName) {
+        return RollPlanner.getInstance().tryAcquire(
+              getInfo().getNamespace(), getDomainUid(), serverName, getNodeName(serverName));
+      }
+
+      private String getNodeName(String serverName) {
+        return Optional.ofNullable(getInfo().getServerPod(serverName))
+              .map(V1Pod::getSpec)
+              .map(V1PodSpec::getNodeName)
+              .orElse(null);
+      }
+    }
+  }
+
+  private static class ReleaseRollPermitsStep extends Step {
+    private final List<String> serverNames;
+
+    ReleaseRollPermitsStep(List<String> serverNames, Step next) {
+      super(next);
+      this.serverNames = serverNames;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
+      serverNames.stream()
+            .map(serverName -> RollPlanner.getInstance().release(info.getNamespace(), info.getDomainUid(), serverName))
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder())
+            .ifPresent(info::recordServerRollDuration);
+      return doNext(packet);
     }
   }
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -9,12 +9,16 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.Pair;
 
 /** Kubernetes pods and services associated with a single WebLogic server. */
 class ServerKubernetesObjects {
   private final AtomicReference<V1Pod> pod = new AtomicReference<>(null);
   private final AtomicBoolean isPodBeingDeleted = new AtomicBoolean(false);
   private final AtomicInteger httpRequestFailureCount = new AtomicInteger(0);
+  private final HttpCircuitBreaker httpCircuitBreaker = new HttpCircuitBreaker();
+  private final AtomicReference<Pair<String, Boolean>> podHashCompatibility = new AtomicReference<>();
+  private final AtomicReference<PodStepContext.PodRecipe> podRecipe = new AtomicReference<>();
   private final AtomicReference<LastKnownStatus> lastKnownStatus = new AtomicReference<>(null);
   private final AtomicReference<V1Service> service = new AtomicReference<>(null);
   private final AtomicReference<V1Service> externalService = new AtomicReference<>();
@@ -44,6 +48,29 @@ class ServerKubernetesObjects {
     return httpRequestFailureCount;
   }
 
+  HttpCircuitBreaker getHttpCircuitBreaker() {
+    return httpCircuitBreaker;
+  }
+
+  /**
+   * The cached result of comparing the hash of an existing pod with the adjusted hashes of the current recipe,
+   * along with the key which identifies the pod and recipe for which it was computed.
+   *
+   * @return a pair of cache key and result
+   */
+  AtomicReference<Pair<String, Boolean>> getPodHashCompatibility() {
+    return podHashCompatibility;
+  }
+
+  /**
+   * The cached recipe for the server's pod.
+   *
+   * @return the recipe, or null if none has been cached
+   */
+  AtomicReference<PodStepContext.PodRecipe> getPodRecipe() {
+    return podRecipe;
+  }
+
   /**
    * Managed server status.
    *
@@ -0,0 +1,217 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import jakarta.json.Json;
+import jakarta.json.JsonPatchBuilder;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+
+/**
+ * Records how long each managed server took to start, so that the servers which take the longest can be started
+ * first. A start time is measured from the creation of the server's pod until that pod first became ready.
+ * It is kept in the {@link DomainPresenceInfo}, in an annotation on the pod and in the status of the server in the
+ * domain resource, so that it survives a restart of the operator, even when the server has no pod.
+ */
+public class ServerStartupHistory {
+
+  static final String STARTUP_SECONDS_ANNOTATION = "weblogic.startupSeconds";
+
+  private ServerStartupHistory() {
+    // no-op
+  }
+
+  /**
+   * Creates a step which records the start time of the specified server, once its pod is ready.
+   * @param serverName the name of the server
+   * @param next the next step to run
+   */
+  public static Step createRecordStartupStep(String serverName, Step next) {
+    return new RecordStartupStep(serverName, next);
+  }
+
+  /**
+   * Orders the servers to start so that those which have taken the longest to start come first. A server with no
+   * recorded start time is assumed to take the average time of the others; servers with the same expected time
+   * keep their original order.
+   * @param info the presence info for the domain
+   * @param startupInfos the servers to start
+   * @return a new list of the servers, in the order in which they should be started
+   */
+  public static List<ServerStartupInfo> orderLongestFirst(
+        DomainPresenceInfo info, Collection<ServerStartupInfo> startupInfos) {
+    final Map<String, Duration> durations = startupInfos.stream()
+          .map(ServerStartupInfo::getServerName)
+          .distinct()
+          .filter(serverName -> info.getServerStartupDuration(serverName) != null)
+          .collect(Collectors.toMap(serverName -> serverName, info::getServerStartupDuration));
+    if (durations.isEmpty()) {
+      return List.copyOf(startupInfos);
+    }
+
+    final Duration average = getAverage(durations.values());
+    return startupInfos.stream()
+          .sorted(Comparator.comparing(
+                (ServerStartupInfo ssi) -> durations.getOrDefault(ssi.getServerName(), average)).reversed())
+          .collect(Collectors.toList());
+  }
+
+  private static Duration getAverage(Collection<Duration> durations) {
+    return durations.stream().reduce(Duration.ZERO, Duration::plus).dividedBy(durations.size());
+  }
+
+  /**
+   * Returns the start time recorded in the annotations of the specified pod, or null if there is none.
+   * @param pod a server pod
+   */
+  static Duration getRecordedStartupDuration(V1Pod pod) {
+    return Optional.ofNullable(pod)
+          .map(V1Pod::getMetadata)
+          .map(V1ObjectMeta::getAnnotations)
+          .map(annotations -> annotations.get(STARTUP_SECONDS_ANNOTATION))
+          .map(ServerStartupHistory::toDuration)
+          .orElse(null);
+  }
+
+  /**
+   * Returns the start time recorded in the domain status for the specified server, or null if there is none.
+   * @param domain a domain resource
+   * @param serverName the name of the server
+   */
+  static Duration getRecordedStartupDuration(DomainResource domain, String serverName) {
+    return Optional.ofNullable(domain)
+          .map(DomainResource::getStatus)
+          .map(DomainStatus::getServers)
+          .orElse(Collections.emptyList())
+          .stream()
+          .filter(status -> serverName.equals(status.getServerName()))
+          .map(ServerStatus::getStartupSeconds)
+          .filter(Objects::nonNull)
+          .map(Duration::ofSeconds)
+          .findFirst()
+          .orElse(null);
+  }
+
+  private static Duration toDuration(String seconds) {
+    try {
+      return Duration.ofSeconds(Long.parseLong(seconds));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the time from the creation of the specified pod until it became ready, or null if it is not ready.
+   * @param pod a server pod
+   */
+  static Duration measureStartupDuration(V1Pod pod) {
+    final OffsetDateTime creationTime = Optional.ofNullable(pod)
+          .map(V1Pod::getMetadata).map(V1ObjectMeta::getCreationTimestamp).orElse(null);
+    final OffsetDateTime readyTime = getReadyTime(pod);
+    if (creationTime == null || readyTime == null || readyTime.isBefore(creationTime)) {
+      return null;
+    }
+    return Duration.between(creationTime, readyTime);
+  }
+
+  private static OffsetDateTime getReadyTime(V1Pod pod) {
+    if (!PodHelper.hasReadyStatus(pod)) {
+      return null;
+    }
+
+    return Optional.ofNullable(pod.getStatus())
+          .map(V1PodStatus::getConditions)
+          .orElse(Collections.emptyList())
+          .stream()
+          .filter(condition -> "Ready".equals(condition.getType()))
+          .map(V1PodCondition::getLastTransitionTime)
+          .filter(Objects::nonNull)
+          .findFirst()
+          .orElse(null);
+  }
+
+  private static class RecordStartupStep extends Step {
+    private final String serverName;
+
+    RecordStartupStep(String serverName, Step next) {
+      super(next);
+      this.serverName = serverName;
+    }
+
+    @Override
+    protected String getDetail() {
+      return serverName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
+      final V1Pod pod = info.getServerPod(serverName);
+      final Duration recorded = getRecordedStartupDuration(pod);
+      if (recorded != null) {
+        info.recordServerStartupDuration(serverName, recorded);
+        return doNext(packet);
+      }
+
+      final Duration measured = measureStartupDuration(pod);
+      if (measured == null) {
+        return doNext(packet);
+      }
+
+      info.recordServerStartupDuration(serverName, measured);
+      return doNext(createAnnotatePodStep(info, pod, measured), packet);
+    }
+
+    private Step createAnnotatePodStep(DomainPresenceInfo info, @Nonnull V1Pod pod, Duration duration) {
+      final JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+      KubernetesUtils.addPatches(patchBuilder, "/metadata/annotations/", getAnnotations(pod),
+            Map.of(STARTUP_SECONDS_ANNOTATION, String.valueOf(duration.getSeconds())));
+      return new CallBuilder()
+            .patchPodAsync(pod.getMetadata().getName(), info.getNamespace(), info.getDomainUid(),
+                  new V1Patch(patchBuilder.build().toString()), new AnnotatePodResponseStep(getNext()));
+    }
+
+    private Map<String, String> getAnnotations(V1Pod pod) {
+      return Optional.ofNullable(pod.getMetadata())
+            .map(V1ObjectMeta::getAnnotations).orElseGet(Collections::emptyMap);
+    }
+  }
+
+  // The annotation only preserves the start time across operator restarts, so a failure to add it is ignored.
+  private static class AnnotatePodResponseStep extends DefaultResponseStep<V1Pod> {
+
+    AnnotatePodResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Pod> callResponse) {
+      return doNext(packet);
+    }
+  }
+}
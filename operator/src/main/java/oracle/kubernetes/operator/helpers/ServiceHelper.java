@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -14,16 +14,20 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import jakarta.json.Json;
+import jakarta.json.JsonPatchBuilder;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveAdminServerSpec;
@@ -49,6 +53,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.ADMIN_SERVICE_CREATED
 import static oracle.kubernetes.common.logging.MessageKeys.ADMIN_SERVICE_EXISTS;
 import static oracle.kubernetes.common.logging.MessageKeys.ADMIN_SERVICE_REPLACED;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_SERVICE_CREATED;
+import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_SERVICE_DELETED;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_SERVICE_EXISTS;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_SERVICE_REPLACED;
 import static oracle.kubernetes.common.logging.MessageKeys.EXTERNAL_CHANNEL_SERVICE_CREATED;
@@ -57,6 +62,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.EXTERNAL_CHANNEL_SERV
 import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_SERVICE_CREATED;
 import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_SERVICE_EXISTS;
 import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_SERVICE_REPLACED;
+import static oracle.kubernetes.common.logging.MessageKeys.SERVICE_PATCHED;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createKubernetesFailureSteps;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.LabelConstants.forDomainUidSelector;
@@ -73,6 +79,15 @@ public class ServiceHelper {
   private static final String PROTOCOL_TLS = "tls";
   private static final String PROTOCOL_ADMIN = "admin";
 
+  /** An annotation holding the hash of the service spec alone, used to decide whether the service may be patched. */
+  static final String SPEC_SHA256_ANNOTATION = "weblogic.specSha256";
+
+  static final String UNCHANGED = "unchanged";
+  static final String CREATED = "created";
+  static final String PATCHED = "patched";
+  static final String REPLACED = "replaced";
+  static final String DELETED = "deleted";
+
   private ServiceHelper() {
   }
 
@@ -166,6 +181,17 @@ public class ServiceHelper {
     return new ForClusterStep(next);
   }
 
+  /**
+   * Create asynchronous step to delete the service for a cluster which is no longer in the domain topology.
+   *
+   * @param clusterName the name of the cluster
+   * @param next Next processing step
+   * @return Step for cluster service deletion
+   */
+  public static Step deleteForClusterStep(String clusterName, Step next) {
+    return new DeleteClusterServiceStep(clusterName, next);
+  }
+
   static V1Service createClusterServiceModel(Packet packet) {
     return new ClusterStepContext(null, packet).createModel();
   }
@@ -407,6 +433,7 @@ public class ServiceHelper {
     V1Service withNonHashedElements(V1Service service) {
       V1ObjectMeta metadata = service.getMetadata();
       updateForOwnerReference(metadata);
+      metadata.putAnnotationsItem(SPEC_SHA256_ANNOTATION, AnnotationHelper.createHash(service.getSpec()));
       return service;
     }
 
@@ -560,19 +587,71 @@ public class ServiceHelper {
       return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
     }
 
+    // A service whose spec is unchanged differs from its model only in its labels and annotations,
+    // which may be updated in place. The external service is always replaced, so that any NodePort
+    // services which would conflict with its ports are deleted first.
+    private boolean canPatchCurrentService(V1Service model, V1Service current) {
+      return serviceType != EXTERNAL
+          && getSpecHash(current) != null
+          && getSpecHash(current).equals(getSpecHash(model));
+    }
+
+    private static String getSpecHash(V1Service service) {
+      return getAnnotations(service).get(SPEC_SHA256_ANNOTATION);
+    }
+
+    private static Map<String, String> getLabels(V1Service service) {
+      return Optional.ofNullable(service.getMetadata()).map(V1ObjectMeta::getLabels).orElse(Collections.emptyMap());
+    }
+
+    private static Map<String, String> getAnnotations(V1Service service) {
+      return Optional.ofNullable(service.getMetadata())
+          .map(V1ObjectMeta::getAnnotations).orElse(Collections.emptyMap());
+    }
+
     Step verifyService(Step next) {
       V1Service service = getServiceFromRecord();
       if (service == null) {
+        recordReconciliation(CREATED);
         return createNewService(next);
-      } else if (canUseCurrentService(createModel(), service)) {
+      }
+
+      V1Service model = createModel();
+      if (canUseCurrentService(model, service)) {
         logServiceExists();
+        recordReconciliation(UNCHANGED);
         return next;
+      } else if (canPatchCurrentService(model, service)) {
+        recordReconciliation(PATCHED);
+        return patchService(model, service, next);
       } else {
+        recordReconciliation(REPLACED);
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
       }
     }
 
+    void recordReconciliation(String result) {
+      OperatorMetrics.recordServiceReconciliation(serviceType.toString(), result);
+    }
+
+    private Step patchService(V1Service model, V1Service current, Step next) {
+      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+      addMetadataPatches(patchBuilder, "/metadata/labels/", getLabels(current), getLabels(model));
+      addMetadataPatches(patchBuilder, "/metadata/annotations/", getAnnotations(current), getAnnotations(model));
+      return new CallBuilder()
+          .patchServiceAsync(createServiceName(), getNamespace(), getDomainUid(),
+              new V1Patch(patchBuilder.build().toString()), new PatchResponse(next));
+    }
+
+    private void addMetadataPatches(
+        JsonPatchBuilder patchBuilder, String basePath, Map<String, String> current, Map<String, String> required) {
+      current.keySet().stream()
+          .filter(name -> !required.containsKey(name))
+          .forEach(name -> patchBuilder.remove(basePath + name.replace("~", "~0").replace("/", "~1")));
+      KubernetesUtils.addPatches(patchBuilder, basePath, current, required);
+    }
+
     protected abstract void logServiceExists();
 
     private Step createNewService(Step next) {
@@ -697,6 +776,29 @@ public class ServiceHelper {
       }
     }
 
+    private class PatchResponse extends ResponseStep<V1Service> {
+      PatchResponse(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1Service> callResponse) {
+        if (callResponse.getStatusCode() == HTTP_NOT_FOUND) {
+          removeServiceFromRecord();
+          return doNext(createNewService(getNext()), packet);
+        } else {
+          return onFailure(getConflictStep(), packet, callResponse);
+        }
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
+        LOGGER.info(SERVICE_PATCHED, createServiceName(), getDomainUid());
+        addServiceToRecord(callResponse.getResult());
+        return doNext(packet);
+      }
+    }
+
     private class CreateResponse extends ResponseStep<V1Service> {
       private final String messageKey;
 
@@ -757,6 +859,35 @@ public class ServiceHelper {
     }
   }
 
+  private static class DeleteClusterServiceStep extends DeleteServiceStep {
+    private final String clusterName;
+
+    DeleteClusterServiceStep(String clusterName, Step next) {
+      super(null, next);
+      this.clusterName = clusterName;
+    }
+
+    @Override
+    protected String getDetail() {
+      return clusterName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      return doNext(Optional.ofNullable(info.removeClusterService(clusterName))
+            .map(V1Service::getMetadata)
+            .map(metadata -> deleteClusterService(info, metadata))
+            .orElse(getNext()), packet);
+    }
+
+    private Step deleteClusterService(DomainPresenceInfo info, V1ObjectMeta metadata) {
+      LOGGER.info(CLUSTER_SERVICE_DELETED, info.getDomainUid(), clusterName);
+      OperatorMetrics.recordServiceReconciliation(OperatorServiceType.CLUSTER.toString(), DELETED);
+      return deleteService(metadata);
+    }
+  }
+
   private static class ForClusterStep extends ServiceHelperStep {
     ForClusterStep(Step next) {
       super(next);
@@ -904,6 +1035,7 @@ public class ServiceHelper {
       if (info.getDomain().isExternalServiceConfigured()) {
         return super.verifyService(next);
       } else {
+        Optional.ofNullable(getServiceFromRecord()).ifPresent(service -> recordReconciliation(DELETED));
         removeServiceFromRecord();
         return deleteExternalService(next);
       }
@@ -0,0 +1,300 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.Optional;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * Operator-specific metrics, published by the {@link MetricsServer} along with the default JVM metrics.
+ */
+public class OperatorMetrics {
+
+  private static final String NAMESPACE = "namespace";
+  private static final String DOMAIN_UID = "domain_uid";
+  private static final String SERVER_NAME = "server_name";
+  private static final String DETECTED_BY = "detected_by";
+  private static final String OPERATION = "operation";
+  private static final String SERVICE_TYPE = "service_type";
+  private static final String RESULT = "result";
+  private static final String PHASE = "phase";
+
+  static final Gauge HTTP_CIRCUIT_BREAKER_STATE = Gauge.build()
+      .name("wko_http_circuit_breaker_state")
+      .help("State of the HTTP circuit breaker for a WebLogic server: 1 = open, 2 = half-open. "
+          + "Closed circuit breakers are not reported.")
+      .labelNames(NAMESPACE, DOMAIN_UID, SERVER_NAME)
+      .register();
+
+  static final Counter HTTP_REQUESTS_SHORT_CIRCUITED = Counter.build()
+      .name("wko_http_requests_short_circuited_total")
+      .help("Number of HTTP requests to WebLogic servers skipped because the server's circuit breaker was open.")
+      .labelNames(NAMESPACE, DOMAIN_UID)
+      .register();
+
+  static final Counter DOMAIN_STATUS_WRITES_AVOIDED = Counter.build()
+      .name("wko_domain_status_writes_avoided_total")
+      .help("Number of domain status updates skipped because only observation timestamps had changed.")
+      .labelNames(NAMESPACE, DOMAIN_UID)
+      .register();
+
+  static final Gauge INTROSPECTIONS_QUEUED = Gauge.build()
+      .name("wko_introspections_queued")
+      .help("Number of domains waiting for a permit to run an introspector job.")
+      .register();
+
+  static final Gauge INTROSPECTIONS_RUNNING = Gauge.build()
+      .name("wko_introspections_running")
+      .help("Number of domains holding a permit to run an introspector job.")
+      .register();
+
+  static final Histogram INTROSPECTION_WAIT_SECONDS = Histogram.build()
+      .name("wko_introspection_wait_seconds")
+      .help("Time that domains waited for a permit to run an introspector job.")
+      .buckets(0.1, 1, 5, 15, 30, 60, 120, 300, 600)
+      .register();
+
+  static final Gauge POD_ROLLS_RUNNING = Gauge.build()
+      .name("wko_pod_rolls_running")
+      .help("Number of ready server pods currently being restarted for a roll, across all domains.")
+      .register();
+
+  static final Counter POD_ROLLS_DEFERRED = Counter.build()
+      .name("wko_pod_rolls_deferred_total")
+      .help("Number of times a server pod roll was deferred because the operator-wide roll budget was exhausted.")
+      .register();
+
+  static final Histogram SERVER_SHUTDOWN_WAIT_SECONDS = Histogram.build()
+      .name("wko_server_shutdown_wait_seconds")
+      .help("Time from a managed server shutdown request until the operator saw that the server was down, "
+          + "by whether a pod event or a periodic recheck detected it.")
+      .labelNames(DETECTED_BY)
+      .buckets(0.5, 1, 2, 5, 10, 30, 60, 120, 300)
+      .register();
+
+  static final Counter POD_OPERATIONS = Counter.build()
+      .name("wko_pod_operations_total")
+      .help("Number of server pods created or shut down by the operator in bulk, by operation.")
+      .labelNames(OPERATION)
+      .register();
+
+  static final Gauge POD_OPERATIONS_PER_SECOND = Gauge.build()
+      .name("wko_pod_operations_per_second")
+      .help("Rate at which the most recent bulk pod operation created or shut down server pods, by operation.")
+      .labelNames(OPERATION)
+      .register();
+
+  static final Counter SERVICE_RECONCILIATIONS = Counter.build()
+      .name("wko_service_reconciliations_total")
+      .help("Number of operator-managed services verified during make-right, by service type and by whether "
+          + "each was unchanged, created, patched, replaced or deleted.")
+      .labelNames(SERVICE_TYPE, RESULT)
+      .register();
+
+  static final Counter EVENT_WRITES = Counter.build()
+      .name("wko_event_writes_total")
+      .help("Number of Kubernetes event writes made by the operator, by operation.")
+      .labelNames(OPERATION)
+      .register();
+
+  static final Counter EVENT_REPEATS_AGGREGATED = Counter.build()
+      .name("wko_event_repeats_aggregated_total")
+      .help("Number of repeated Kubernetes events which were not written immediately because the rate limit for "
+          + "their involved object was reached, and were instead combined into a later update.")
+      .register();
+
+  static final Gauge CACHED_EVENTS = Gauge.build()
+      .name("wko_cached_events")
+      .help("Number of operator-generated Kubernetes events which the operator remembers in order to update "
+          + "their counts when they repeat.")
+      .register();
+
+  static final Gauge CACHED_EVENTS_HEAP_BYTES = Gauge.build()
+      .name("wko_cached_events_heap_bytes")
+      .help("Estimated heap used by the operator's cache of the Kubernetes events it has generated.")
+      .register();
+
+  static final Counter MAKE_RIGHTS_SKIPPED = Counter.build()
+      .name("wko_make_rights_skipped_total")
+      .help("Number of periodic domain rechecks which did not run a make-right because nothing had changed since "
+          + "the last successful make-right of the domain.")
+      .labelNames(NAMESPACE, DOMAIN_UID)
+      .register();
+
+  static final Histogram NAMESPACE_STARTUP_PHASE_SECONDS = Histogram.build()
+      .name("wko_namespace_startup_phase_seconds")
+      .help("Time taken by each phase of starting a domain namespace, by phase.")
+      .labelNames(PHASE)
+      .buckets(0.1, 0.5, 1, 2, 5, 10, 30, 60, 120)
+      .register();
+
+  static final Gauge NAMESPACE_STARTUP_SECONDS = Gauge.build()
+      .name("wko_namespace_startup_seconds")
+      .help("Time taken to start the domain namespaces in the most recent group started together.")
+      .register();
+
+  private OperatorMetrics() {
+  }
+
+  /**
+   * Records the state of the HTTP circuit breaker for a server.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param serverName the name of the server
+   * @param state the numeric value of the state, or zero if the circuit breaker is closed
+   */
+  public static void setHttpCircuitBreakerState(String namespace, String domainUid, String serverName, int state) {
+    if (state == 0) {
+      HTTP_CIRCUIT_BREAKER_STATE.remove(label(namespace), label(domainUid), label(serverName));
+    } else {
+      HTTP_CIRCUIT_BREAKER_STATE.labels(label(namespace), label(domainUid), label(serverName)).set(state);
+    }
+  }
+
+  /**
+   * Records that an HTTP request was skipped because a circuit breaker was open.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public static void incrementHttpRequestsShortCircuited(String namespace, String domainUid) {
+    HTTP_REQUESTS_SHORT_CIRCUITED.labels(label(namespace), label(domainUid)).inc();
+  }
+
+  /**
+   * Records that a domain status update was not sent because the status had not meaningfully changed.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public static void incrementDomainStatusWritesAvoided(String namespace, String domainUid) {
+    DOMAIN_STATUS_WRITES_AVOIDED.labels(label(namespace), label(domainUid)).inc();
+  }
+
+  /**
+   * Records the number of domains waiting to run an introspector job.
+   * @param count the number of waiting domains
+   */
+  public static void setIntrospectionsQueued(int count) {
+    INTROSPECTIONS_QUEUED.set(count);
+  }
+
+  /**
+   * Records the number of domains permitted to run an introspector job.
+   * @param count the number of domains holding permits
+   */
+  public static void setIntrospectionsRunning(int count) {
+    INTROSPECTIONS_RUNNING.set(count);
+  }
+
+  /**
+   * Records the time a domain waited before it was permitted to run an introspector job.
+   * @param seconds the time waited, in seconds
+   */
+  public static void observeIntrospectionWaitTime(double seconds) {
+    INTROSPECTION_WAIT_SECONDS.observe(seconds);
+  }
+
+  /**
+   * Records the number of ready server pods currently being restarted for a roll.
+   * @param count the number of pods rolling
+   */
+  public static void setPodRollsRunning(int count) {
+    POD_ROLLS_RUNNING.set(count);
+  }
+
+  /**
+   * Records that a server pod roll was deferred because no roll permit was available.
+   */
+  public static void incrementPodRollsDeferred() {
+    POD_ROLLS_DEFERRED.inc();
+  }
+
+  /**
+   * Records the time taken to detect that a managed server had shut down.
+   * @param detectedBy how the shutdown was detected: "pod_event" or "recheck"
+   * @param seconds the time waited, in seconds
+   */
+  public static void observeServerShutdownWaitTime(String detectedBy, double seconds) {
+    SERVER_SHUTDOWN_WAIT_SECONDS.labels(label(detectedBy)).observe(seconds);
+  }
+
+  /**
+   * Records the completion of a bulk pod operation.
+   * @param operation the operation performed: "create" or "delete"
+   * @param count the number of pods processed
+   * @param seconds the time taken for the whole batch, in seconds
+   */
+  public static void recordPodOperations(String operation, int count, double seconds) {
+    POD_OPERATIONS.labels(label(operation)).inc(count);
+    if (seconds > 0) {
+      POD_OPERATIONS_PER_SECOND.labels(label(operation)).set(count / seconds);
+    }
+  }
+
+  /**
+   * Records the outcome of verifying an operator-managed service during make-right.
+   * @param serviceType the type of the service, such as "SERVER", "CLUSTER" or "EXTERNAL"
+   * @param result the action taken: "unchanged", "created", "patched", "replaced" or "deleted"
+   */
+  public static void recordServiceReconciliation(String serviceType, String result) {
+    SERVICE_RECONCILIATIONS.labels(label(serviceType), label(result)).inc();
+  }
+
+  /**
+   * Records a write of a Kubernetes event.
+   * @param operation the operation performed: "create", "replace" or "patch"
+   */
+  public static void recordEventWrite(String operation) {
+    EVENT_WRITES.labels(label(operation)).inc();
+  }
+
+  /**
+   * Records that a repeated Kubernetes event was combined into a later update rather than written immediately.
+   */
+  public static void incrementEventRepeatsAggregated() {
+    EVENT_REPEATS_AGGREGATED.inc();
+  }
+
+  /**
+   * Records a change in the contents of the operator's cache of Kubernetes events.
+   * @param entries the change in the number of cached events
+   * @param heapBytes the change in the estimated heap used by the cached events
+   */
+  public static void adjustCachedEvents(int entries, long heapBytes) {
+    CACHED_EVENTS.inc(entries);
+    CACHED_EVENTS_HEAP_BYTES.inc(heapBytes);
+  }
+
+  /**
+   * Records that a periodic recheck of a domain did not run a make-right because nothing had changed.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public static void incrementMakeRightsSkipped(String namespace, String domainUid) {
+    MAKE_RIGHTS_SKIPPED.labels(label(namespace), label(domainUid)).inc();
+  }
+
+  /**
+   * Records the time taken by one phase of starting a domain namespace.
+   * @param phase the phase, such as "rules_review" or "read_resources"
+   * @param seconds the time taken, in seconds
+   */
+  public static void observeNamespaceStartupPhase(String phase, double seconds) {
+    NAMESPACE_STARTUP_PHASE_SECONDS.labels(label(phase)).observe(seconds);
+  }
+
+  /**
+   * Records the time taken to start a group of domain namespaces.
+   * @param seconds the time taken, in seconds
+   */
+  public static void setNamespaceStartupTime(double seconds) {
+    NAMESPACE_STARTUP_SECONDS.set(seconds);
+  }
+
+  private static String label(String value) {
+    return Optional.ofNullable(value).orElse("");
+  }
+}
@@ -0,0 +1,124 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Runs the steps which create or shut down a number of server pods, with no more than the configured maximum
+ * number of pod operations in progress at one time. A fixed set of worker fibers takes the operations from a
+ * shared queue, so that a large scale-out or shutdown neither starts a fiber per pod at once nor waits for a
+ * whole batch to finish before starting the next. Once all the operations have completed, the number of pods
+ * processed and the rate at which they were processed are recorded as metrics.
+ */
+public class BulkPodOperations extends Step {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String CREATE = "create";
+  static final String DELETE = "delete";
+
+  private final String operation;
+  private final Collection<StepAndPacket> podOperations;
+
+  private BulkPodOperations(String operation, Collection<StepAndPacket> podOperations, Step next) {
+    super(next);
+    this.operation = operation;
+    this.podOperations = podOperations;
+  }
+
+  /**
+   * Creates a step to run the specified pod creation steps with bounded concurrency.
+   * @param podOperations the steps, and their packets, which create or verify each server pod
+   * @param next the next step to run, once all the pod creation steps have completed
+   */
+  static Step createPods(Collection<StepAndPacket> podOperations, Step next) {
+    return new BulkPodOperations(CREATE, podOperations, next);
+  }
+
+  /**
+   * Creates a step to run the specified server shutdown steps with bounded concurrency.
+   * @param podOperations the steps, and their packets, which shut down each server and delete its pod
+   * @param next the next step to run, once all the shutdown steps have completed
+   */
+  static Step deletePods(Collection<StepAndPacket> podOperations, Step next) {
+    return new BulkPodOperations(DELETE, podOperations, next);
+  }
+
+  @Override
+  protected String getDetail() {
+    return operation + " " + podOperations.size();
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    if (podOperations.isEmpty()) {
+      return doNext(packet);
+    }
+
+    final Queue<StepAndPacket> queue = new ConcurrentLinkedQueue<>(podOperations);
+    final List<StepAndPacket> workers = IntStream.range(0, getNumWorkers())
+          .mapToObj(i -> new StepAndPacket(new PodOperationWorkerStep(queue), packet.copy()))
+          .collect(Collectors.toList());
+    return doForkJoin(new RecordThroughputStep(SystemClock.now(), getNext()), packet, workers);
+  }
+
+  private int getNumWorkers() {
+    final int limit = TuningParameters.getInstance().getMaxConcurrentPodOperations();
+    return limit <= 0 ? podOperations.size() : Math.min(limit, podOperations.size());
+  }
+
+  private static class PodOperationWorkerStep extends Step {
+    private final Queue<StepAndPacket> queue;
+
+    PodOperationWorkerStep(Queue<StepAndPacket> queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final StepAndPacket podOperation = queue.poll();
+      if (podOperation == null) {
+        return doNext(packet);
+      } else {
+        return doForkJoin(this, packet, Collections.singletonList(podOperation));
+      }
+    }
+  }
+
+  private class RecordThroughputStep extends Step {
+    private final OffsetDateTime startTime;
+
+    RecordThroughputStep(OffsetDateTime startTime, Step next) {
+      super(next);
+      this.startTime = startTime;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final double seconds = Duration.between(startTime, SystemClock.now()).toMillis() / 1000.0;
+      LOGGER.fine(String.format("Bulk %s of %d server pods completed in %.1f seconds",
+            operation, podOperations.size(), seconds));
+      OperatorMetrics.recordPodOperations(operation, podOperations.size(), seconds);
+      return doNext(packet);
+    }
+  }
+}
@@ -1,13 +1,16 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -16,6 +19,10 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
+/**
+ * Verifies the services and pod disruption budgets for all clusters in the domain topology, and deletes the services
+ * of any clusters which are no longer in it, in a single parallel batch.
+ */
 public class ClusterServicesStep extends Step {
 
   public ClusterServicesStep(Step next) {
@@ -37,6 +44,11 @@ public class ClusterServicesStep extends Step {
         startDetails.add(new StepAndPacket(PodDisruptionBudgetHelper
                 .createPodDisruptionBudgetForClusterStep(ServiceHelper.createForClusterStep(null)), p));
       }
+
+      // Remove services for clusters no longer in the domain topology
+      for (String clusterName : getRemovedClusterNames(packet, config)) {
+        startDetails.add(new StepAndPacket(ServiceHelper.deleteForClusterStep(clusterName, null), packet.copy()));
+      }
     }
 
     if (startDetails.isEmpty()) {
@@ -44,4 +56,11 @@ public class ClusterServicesStep extends Step {
     }
     return doForkJoin(getNext(), packet, startDetails);
   }
+
+  private Set<String> getRemovedClusterNames(Packet packet, WlsDomainConfig config) {
+    Set<String> clusterNames = DomainPresenceInfo.fromPacket(packet)
+        .map(DomainPresenceInfo::getClusterServiceNames).orElse(new HashSet<>());
+    clusterNames.removeAll(config.getClusterConfigs().keySet());
+    return clusterNames;
+  }
 }
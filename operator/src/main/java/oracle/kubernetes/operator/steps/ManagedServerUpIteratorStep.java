@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +25,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ServerStartupHistory;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -74,30 +76,32 @@ public class ManagedServerUpIteratorStep extends Step {
     }
 
     initialServersToRoll(packet);
+    final List<ServerStartupInfo> orderedStartupInfos = orderLongestFirst(packet);
     Collection<StepAndPacket> startDetails =
-        startupInfos.stream()
+        orderedStartupInfos.stream()
             .filter(ssi -> !isServerInCluster(ssi))
+            .filter(ssi -> !ssi.isWarmStandby())
             .map(ssi -> createManagedServerUpDetails(packet, ssi)).collect(Collectors.toList());
 
     Collection<StepAndPacket> work = new ArrayList<>();
     if (!startDetails.isEmpty()) {
-      work.add(
-              new StepAndPacket(
-                      new StartManagedServersStep(null, 0, startDetails, null), packet));
+      work.add(new StepAndPacket(BulkPodOperations.createPods(startDetails, null), packet));
     }
 
     for (Map.Entry<String, StartClusteredServersStepFactory> entry
-            : getStartClusteredServersStepFactories(startupInfos, packet).entrySet()) {
+            : getStartClusteredServersStepFactories(orderedStartupInfos, packet).entrySet()) {
       work.add(
               new StepAndPacket(
                       new StartManagedServersStep(entry.getKey(), entry.getValue().getMaxConcurrency(),
                               entry.getValue().getServerStartsStepAndPackets(), null), packet.copy()));
     }
 
-    Collection<StepAndPacket> startupWaiters =
-            startupInfos.stream()
-                    .map(ssi -> createManagedServerUpWaiters(packet, ssi)).collect(Collectors.toList());
-    work.addAll(startupWaiters);
+    List<StepAndPacket> warmStandbyStartDetails = getWarmStandbyStartDetails(orderedStartupInfos, packet);
+    if (!warmStandbyStartDetails.isEmpty()) {
+      work.add(new StepAndPacket(BulkPodOperations.createPods(warmStandbyStartDetails, null), packet.copy()));
+    }
+
+    Optional.ofNullable(createManagedServersUpWaiter(packet)).ifPresent(work::add);
 
     if (!work.isEmpty()) {
       return doForkJoin(DomainStatusUpdater.createStatusUpdateStep(
@@ -107,6 +111,12 @@ public class ManagedServerUpIteratorStep extends Step {
     return doNext(DomainStatusUpdater.createStatusUpdateStep(new ManagedServerUpAfterStep(getNext())), packet);
   }
 
+  // Servers which have taken longest to start in the past are started first, so that they are not left to start
+  // alone at the end, after the concurrency limits have held them back.
+  private List<ServerStartupInfo> orderLongestFirst(Packet packet) {
+    return ServerStartupHistory.orderLongestFirst(packet.getSpi(DomainPresenceInfo.class), startupInfos);
+  }
+
   // Adds an empty map to both the packet and the domain presence info to track servers that need to be rolled
   private void initialServersToRoll(Packet packet) {
     final Map<String, StepAndPacket> serversToRoll = new ConcurrentHashMap<>();
@@ -128,10 +138,27 @@ public class ManagedServerUpIteratorStep extends Step {
             createPacketForServer(packet, ssi));
   }
 
-  private StepAndPacket createManagedServerUpWaiters(Packet packet, ServerStartupInfo ssi) {
-    String podName = getPodName(packet.getSpi(DomainPresenceInfo.class), ssi.getServerName());
-    return new StepAndPacket(Optional.ofNullable(packet.getSpi(PodAwaiterStepFactory.class))
-            .map(p -> p.waitForReady(podName, null)).orElse(null),
+  // A single step waits for all the servers' pods to become ready, and records each server's start time, using the
+  // server's own packet, as soon as its pod is ready.
+  private StepAndPacket createManagedServersUpWaiter(Packet packet) {
+    final PodAwaiterStepFactory podAwaiter = packet.getSpi(PodAwaiterStepFactory.class);
+    final DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    final Map<String, StepAndPacket> podReadySteps = new LinkedHashMap<>();
+    startupInfos.stream()
+            .filter(ssi -> !ssi.isWarmStandby())
+            .forEach(ssi -> podReadySteps.putIfAbsent(getPodName(info, ssi.getServerName()),
+                  createRecordStartupDetails(packet, ssi)));
+    if (podReadySteps.isEmpty() || podAwaiter == null) {
+      return null;
+    }
+
+    return Optional.ofNullable(podAwaiter.waitForAllReady(podReadySteps, null))
+            .map(step -> new StepAndPacket(step, packet.copy()))
+            .orElse(null);
+  }
+
+  private StepAndPacket createRecordStartupDetails(Packet packet, ServerStartupInfo ssi) {
+    return new StepAndPacket(ServerStartupHistory.createRecordStartupStep(ssi.getServerName(), null),
             createPacketForServer(packet, ssi));
   }
 
@@ -151,6 +178,7 @@ public class ManagedServerUpIteratorStep extends Step {
     Map<String, StartClusteredServersStepFactory> factories = new HashMap<>();
     startupInfos.stream()
         .filter(this::isServerInCluster)
+        .filter(ssi -> !ssi.isWarmStandby())
         .forEach(ssi ->
             factories.computeIfAbsent(ssi.getClusterName(),
                 k -> new StartClusteredServersStepFactory(getMaxConcurrentStartup(info, ssi)))
@@ -159,6 +187,15 @@ public class ManagedServerUpIteratorStep extends Step {
     return factories;
   }
 
+  // Warm standby servers never become ready while they are in the ADMIN state, so they are neither held to
+  // the cluster's concurrent startup limit nor waited for.
+  private List<StepAndPacket> getWarmStandbyStartDetails(Collection<ServerStartupInfo> startupInfos, Packet packet) {
+    return startupInfos.stream()
+        .filter(ServerStartupInfo::isWarmStandby)
+        .map(ssi -> createManagedServerUpDetails(packet, ssi))
+        .collect(Collectors.toList());
+  }
+
   private boolean isServerInCluster(ServerStartupInfo ssi) {
     return ssi.getClusterName() != null;
   }
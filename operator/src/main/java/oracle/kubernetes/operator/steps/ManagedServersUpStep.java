@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -19,6 +19,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.DomainStatusUpdater.ClearCompletedConditionSteps;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.ServerStartPolicy;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerShutdownInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
@@ -36,6 +37,7 @@ import oracle.kubernetes.utils.OperatorUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 import static java.util.Comparator.comparing;
+import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.helpers.PodHelper.getPodServerName;
 
 public class ManagedServersUpStep extends Step {
@@ -203,6 +205,7 @@ public class ManagedServersUpStep extends Step {
     final Collection<String> servers = new ArrayList<>();
     final Collection<String> preCreateServers = new ArrayList<>();
     final Map<String, Integer> replicas = new HashMap<>();
+    final Map<String, Integer> warmStandbys = new HashMap<>();
 
     ServersUpStepFactory(WlsDomainConfig domainTopology, DomainPresenceInfo info) {
       this.domainTopology = domainTopology;
@@ -236,6 +239,8 @@ public class ManagedServersUpStep extends Step {
 
       if (server.shouldStart(getReplicaCount(clusterName))) {
         addServerToStart(serverConfig, clusterName, server);
+      } else if (shouldKeepAsWarmStandby(clusterName, server)) {
+        addWarmStandbyServer(serverConfig, clusterName, server);
       } else if (shouldPrecreateServerService(server)) {
         preCreateServers.add(serverName);
         addShutdownInfo(new ServerShutdownInfo(serverConfig, clusterName, server, true));
@@ -254,6 +259,33 @@ public class ManagedServersUpStep extends Step {
       addToCluster(clusterName);
     }
 
+    // A clustered server which is not needed to meet the replica count, but which may be started, is kept
+    // in the ADMIN state, up to the number of warm standby servers configured for its cluster.
+    private boolean shouldKeepAsWarmStandby(String clusterName, EffectiveServerSpec server) {
+      return clusterName != null
+          && mayBeStarted(server)
+          && getWarmStandbyCount(clusterName) < info.getWarmStandbyReplicas(clusterName);
+    }
+
+    private boolean mayBeStarted(EffectiveServerSpec server) {
+      return !SHUTDOWN_STATE.equals(server.getStateGoal())
+          && domain.getSpec().getServerStartPolicy() != ServerStartPolicy.ADMIN_ONLY;
+    }
+
+    private void addWarmStandbyServer(@Nonnull WlsServerConfig serverConfig, String clusterName,
+                                      EffectiveServerSpec server) {
+      servers.add(serverConfig.getName());
+      if (shouldPrecreateServerService(server)) {
+        preCreateServers.add(serverConfig.getName());
+      }
+      addStartupInfo(new ServerStartupInfo(serverConfig, clusterName, server, true));
+      warmStandbys.merge(clusterName, 1, Integer::sum);
+    }
+
+    private int getWarmStandbyCount(String clusterName) {
+      return warmStandbys.getOrDefault(clusterName, 0);
+    }
+
     boolean exceedsMaxConfiguredClusterSize(WlsClusterConfig clusterConfig) {
       if (clusterConfig != null) {
         String clusterName = clusterConfig.getClusterName();
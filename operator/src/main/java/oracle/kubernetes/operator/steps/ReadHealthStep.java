@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -6,20 +6,12 @@ package oracle.kubernetes.operator.steps;
 import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Instant;
-import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -31,6 +23,7 @@ import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.client.HttpResponseStep;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.http.rest.Scan;
 import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -43,7 +36,6 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
-import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
@@ -193,10 +185,19 @@ public class ReadHealthStep extends Step {
       ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod);
       if (processing.getWlsServerConfig() == null) {
         return doNext(packet);
+      } else if (!isHttpRequestAllowed(packet)) {
+        new RecordHealthStep.HealthResponseProcessing(packet, null).recordShortCircuitedStateAndHealth();
+        return doNext(packet);
       }
       return doNext(createRequestStep(processing.createRequest(), new RecordHealthStep(getNext())), packet);
     }
 
+    private boolean isHttpRequestAllowed(Packet packet) {
+      return Optional.ofNullable((String) packet.get(ProcessingConstants.SERVER_NAME))
+          .map(packet.getSpi(DomainPresenceInfo.class)::isHttpRequestAllowed)
+          .orElse(true);
+    }
+
   }
 
   /**
@@ -219,7 +220,7 @@ public class ReadHealthStep extends Step {
       try {
         HealthResponseProcessing responseProcessing = new HealthResponseProcessing(packet, response);
         responseProcessing.recordStateAndHealth();
-        responseProcessing.resetHttpRequestFailureCount();
+        responseProcessing.recordHttpRequestSuccess();
         decrementIntegerInPacketAtomically(packet, REMAINING_SERVERS_HEALTH_TO_READ);
 
         return doNext(packet);
@@ -266,78 +267,27 @@ public class ReadHealthStep extends Step {
 
       void recordFailedStateAndHealth() {
         Optional.ofNullable(getServerName())
-            .ifPresent(s -> getDomainPresenceInfo().incrementHttpRequestFailureCount(s));
+            .ifPresent(s -> getDomainPresenceInfo().recordHttpRequestFailure(s));
         recordStateAndHealth(WebLogicConstants.UNKNOWN_STATE, new ServerHealth().withOverallHealth(getFailedHealth()));
       }
 
+      // The server's circuit breaker is open, so no request was sent; report it as unavailable.
+      void recordShortCircuitedStateAndHealth() {
+        LOGGER.fine("Skipping health read for server " + serverName + " while its circuit breaker is open");
+        OperatorMetrics.incrementHttpRequestsShortCircuited(
+            getDomainPresenceInfo().getNamespace(), getDomainPresenceInfo().getDomainUid());
+        recordStateAndHealth(
+            WebLogicConstants.UNKNOWN_STATE, new ServerHealth().withOverallHealth(OVERALL_HEALTH_NOT_AVAILABLE));
+      }
+
       private String getFailedHealth() {
         return isServerOverloaded()
               ? OVERALL_HEALTH_FOR_SERVER_OVERLOADED
               : OVERALL_HEALTH_NOT_AVAILABLE;
       }
 
-      private static Pair<String, ServerHealth> parseServerHealthJson(String jsonResult) throws IOException {
-        if (jsonResult == null) {
-          return null;
-        }
-
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonResult);
-
-        JsonNode healthState = null;
-        JsonNode subsystemName = null;
-        JsonNode symptoms = null;
-        JsonNode overallHealthState = root.path("overallHealthState");
-        if (overallHealthState != null) {
-          healthState = overallHealthState.path("state");
-          subsystemName = overallHealthState.path("subsystemName");
-          symptoms = overallHealthState.path("symptoms");
-        }
-        JsonNode activationTime = root.path("activationTime");
-
-        List<String> sym = new ArrayList<>();
-        if (symptoms != null) {
-          Iterator<JsonNode> it = symptoms.elements();
-          while (it.hasNext()) {
-            sym.add(it.next().asText());
-          }
-        }
-
-        String subName = null;
-        if (subsystemName != null) {
-          String s = subsystemName.asText();
-          if (s != null && !"null".equals(s)) {
-            subName = s;
-          }
-        }
-
-        ServerHealth health =
-            new ServerHealth()
-                .withOverallHealth(healthState != null ? healthState.asText() : null)
-                .withActivationTime(
-                    activationTime != null ? OffsetDateTime.ofInstant(
-                        Instant.ofEpochMilli(activationTime.asLong()), ZoneId.of("UTC")) : null);
-        if (subName != null) {
-          health
-              .getSubsystems()
-              .add(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
-        }
-
-        JsonNode state = root.path("state");
-
-        String stateVal = null;
-        if (state != null) {
-          String s = state.asText();
-          if (s != null && !"null".equals(s)) {
-            stateVal = s;
-          }
-        }
-
-        return new Pair<>(stateVal, health);
-      }
-
       void recordStateAndHealth() throws IOException {
-        Pair<String, ServerHealth> pair = parseServerHealthJson(getResponse().body());
+        Pair<String, ServerHealth> pair = ServerHealthParser.parse(getResponse().body());
         String state = emptyToNull(Optional.ofNullable(pair).map(Pair::getLeft).orElse(null));
         ServerHealth health = Optional.ofNullable(pair).map(Pair::getRight).orElse(null);
         recordStateAndHealth(state, health);
@@ -386,9 +336,9 @@ public class ReadHealthStep extends Step {
         return packet;
       }
 
-      public void resetHttpRequestFailureCount() {
+      public void recordHttpRequestSuccess() {
         Optional.ofNullable(getServerName())
-            .ifPresent(s -> getDomainPresenceInfo().setHttpRequestFailureCount(s, 0));
+            .ifPresent(s -> getDomainPresenceInfo().recordHttpRequestSuccess(s));
       }
     }
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -17,6 +17,7 @@ import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerShutdownInfo;
@@ -62,7 +63,7 @@ public class ServerDownIteratorStep extends Step {
 
     @Nonnull
     private Step createShutDownServersStep() {
-      return new RunInParallelStep(createShutdownDetails());
+      return BulkPodOperations.deletePods(createShutdownDetails(), null);
     }
 
     @Nonnull
@@ -115,33 +116,27 @@ public class ServerDownIteratorStep extends Step {
       return info.getReplicaCount(ssi.getClusterName());
     }
 
-    @Nonnull
-    private Step createWaitForServersDownStep() {
-      return new RunInParallelStep(createShutdownWaiters());
-    }
-
-    @Nonnull
-    private List<StepAndPacket> createShutdownWaiters() {
-      return serverShutdownInfos.stream().map(this::createServerDownWaiter).collect(Collectors.toList());
-    }
-
-    @Nonnull
-    private StepAndPacket createServerDownWaiter(ServerShutdownInfo ssi) {
-      return new StepAndPacket(createWaitSteps(ssi), createPacketForServer(packet, ssi));
-    }
-
+    // A single step waits for all the server pods to be deleted, and then clears them from the presence info.
     @Nullable
-    private Step createWaitSteps(ServerShutdownInfo ssi) {
+    private Step createWaitForServersDownStep() {
       return Optional.ofNullable(packet.getSpi(PodAwaiterStepFactory.class))
-          .map(p -> waitForDelete(ssi, p)).orElse(null);
+          .map(p -> p.waitForAllDeleted(getServerPods(), clearPodPresence()))
+          .orElse(null);
     }
 
-    private Step waitForDelete(ServerShutdownInfo ssi, PodAwaiterStepFactory p) {
-      return p.waitForDelete(info.getServerPod(ssi.getServerName()), clearPodPresence(ssi.getServerName()));
+    private List<V1Pod> getServerPods() {
+      return serverShutdownInfos.stream()
+          .map(ServerShutdownInfo::getServerName)
+          .map(info::getServerPod)
+          .collect(Collectors.toList());
     }
 
-    private Step clearPodPresence(String serverName) {
-      return new DomainPresenceInfoUpdateStep(serverName, null);
+    private Step clearPodPresence() {
+      Step step = null;
+      for (int i = serverShutdownInfos.size() - 1; i >= 0; i--) {
+        step = new DomainPresenceInfoUpdateStep(serverShutdownInfos.get(i).getServerName(), step);
+      }
+      return step;
     }
   }
 
@@ -181,23 +176,6 @@ public class ServerDownIteratorStep extends Step {
     }
   }
 
-  static class RunInParallelStep extends Step {
-    final Collection<StepAndPacket> shutdownDetails;
-
-    RunInParallelStep(Collection<StepAndPacket> shutdownDetails) {
-      this.shutdownDetails = shutdownDetails;
-    }
-
-    @Override
-    public NextAction apply(Packet packet) {
-      if (shutdownDetails.isEmpty()) {
-        return doNext(getNext(), packet);
-      } else {
-        return doForkJoin(getNext(), packet, shutdownDetails);
-      }
-    }
-  }
-
   static class ShutdownClusteredServersStep extends Step {
 
     private final Queue<StepAndPacket> serversToShutdown;
@@ -0,0 +1,144 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import oracle.kubernetes.operator.Pair;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
+
+/**
+ * A streaming parser for the server runtime search response returned by the WebLogic REST API. Only the
+ * 'state', 'overallHealthState' and 'activationTime' fields are extracted; all other content is skipped
+ * without being materialized, so that large serverRuntime payloads do not require building a JSON tree.
+ */
+final class ServerHealthParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final String NULL_TEXT = "null";
+
+  private String state = "";
+  private String overallHealth = "";
+  private String subsystemName = "";
+  private final List<String> symptoms = new ArrayList<>();
+  private long activationTime;
+
+  private ServerHealthParser() {
+  }
+
+  /**
+   * Parses the specified response body.
+   * @param json the body of the response, may be null
+   * @return a pair of the server state and its health, or null if there is no body
+   * @throws IOException if the body is not valid JSON
+   */
+  static Pair<String, ServerHealth> parse(String json) throws IOException {
+    if (json == null) {
+      return null;
+    }
+
+    try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+      return new ServerHealthParser().parse(parser);
+    }
+  }
+
+  private Pair<String, ServerHealth> parse(JsonParser parser) throws IOException {
+    if (parser.nextToken() == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        parseRootField(parser, parser.getCurrentName());
+      }
+    }
+    return new Pair<>(toNullable(state), createServerHealth());
+  }
+
+  private void parseRootField(JsonParser parser, String fieldName) throws IOException {
+    JsonToken token = parser.nextToken();
+    switch (fieldName) {
+      case "state":
+        state = getText(parser, token);
+        break;
+      case "activationTime":
+        activationTime = parser.getValueAsLong();
+        parser.skipChildren();
+        break;
+      case "overallHealthState":
+        parseOverallHealthState(parser, token);
+        break;
+      default:
+        parser.skipChildren();
+    }
+  }
+
+  private void parseOverallHealthState(JsonParser parser, JsonToken token) throws IOException {
+    if (token != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return;
+    }
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      JsonToken valueToken = parser.nextToken();
+      switch (fieldName) {
+        case "state":
+          overallHealth = getText(parser, valueToken);
+          break;
+        case "subsystemName":
+          subsystemName = getText(parser, valueToken);
+          break;
+        case "symptoms":
+          parseSymptoms(parser, valueToken);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+  }
+
+  private void parseSymptoms(JsonParser parser, JsonToken token) throws IOException {
+    if (token != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return;
+    }
+
+    JsonToken elementToken;
+    while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY && elementToken != null) {
+      symptoms.add(getText(parser, elementToken));
+    }
+  }
+
+  // Mirrors the text conversion of Jackson tree nodes: containers become empty and JSON null becomes "null".
+  private static String getText(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return NULL_TEXT;
+    } else if (token.isScalarValue()) {
+      return parser.getValueAsString();
+    } else {
+      parser.skipChildren();
+      return "";
+    }
+  }
+
+  private ServerHealth createServerHealth() {
+    ServerHealth health = new ServerHealth()
+        .withOverallHealth(overallHealth)
+        .withActivationTime(OffsetDateTime.ofInstant(Instant.ofEpochMilli(activationTime), ZoneId.of("UTC")));
+    if (toNullable(subsystemName) != null) {
+      health.getSubsystems().add(new SubsystemHealth().withSubsystemName(subsystemName).withSymptoms(symptoms));
+    }
+    return health;
+  }
+
+  private static String toNullable(String value) {
+    return NULL_TEXT.equals(value) ? null : value;
+  }
+}
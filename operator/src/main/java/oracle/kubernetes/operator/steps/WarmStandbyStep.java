@@ -0,0 +1,163 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.SecretHelper;
+import oracle.kubernetes.operator.http.client.HttpResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.wlsconfig.PortDetails;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import static oracle.kubernetes.operator.WebLogicConstants.ADMIN_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
+
+/**
+ * Moves a managed server between the ADMIN and RUNNING states, using the REST interface on its local admin port.
+ * A warm standby server is kept in the ADMIN state, so that it is fully started but does not accept application
+ * requests; when the cluster scales out it is resumed, and when it becomes a standby again it is suspended.
+ */
+public class WarmStandbyStep extends Step {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String SERVER_RUNTIME_PATH = "/management/weblogic/latest/serverRuntime/";
+
+  private final WlsServerConfig serverConfig;
+  private final String targetState;
+
+  private WarmStandbyStep(WlsServerConfig serverConfig, String targetState, Step next) {
+    super(next);
+    this.serverConfig = serverConfig;
+    this.targetState = targetState;
+  }
+
+  /**
+   * Creates a step to move the specified server from the ADMIN state to the RUNNING state.
+   *
+   * @param serverConfig the configuration of the server to resume
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createResumeStep(WlsServerConfig serverConfig, Step next) {
+    return new WarmStandbyStep(serverConfig, RUNNING_STATE, next);
+  }
+
+  /**
+   * Creates a step to move the specified server from the RUNNING state to the ADMIN state.
+   *
+   * @param serverConfig the configuration of the server to suspend
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createSuspendStep(WlsServerConfig serverConfig, Step next) {
+    return new WarmStandbyStep(serverConfig, ADMIN_STATE, next);
+  }
+
+  @Override
+  protected String getDetail() {
+    return serverConfig.getName() + " to " + targetState;
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    V1Service service = info.getServerService(serverConfig.getName());
+    if (service == null) {
+      return doNext(packet);
+    } else {
+      LOGGER.info(MessageKeys.WARM_STANDBY_STATE_CHANGE_REQUESTED, serverConfig.getName(), targetState);
+      return doNext(
+            Step.chain(
+                SecretHelper.createAuthorizationSourceStep(),
+                new WarmStandbyWithHttpStep(service, info.getServerPod(serverConfig.getName()), getNext())),
+            packet);
+    }
+  }
+
+  private String getOperationName() {
+    return RUNNING_STATE.equals(targetState) ? "resume" : "suspend";
+  }
+
+  final class WarmStandbyProcessing extends HttpRequestProcessing {
+
+    WarmStandbyProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod) {
+      super(packet, service, pod);
+    }
+
+    private HttpRequest createRequest() {
+      return createRequestBuilder(getRequestUrl())
+            .POST(HttpRequest.BodyPublishers.ofString("{}"))
+            .build();
+    }
+
+    String getRequestUrl() {
+      return getServiceUrl() + SERVER_RUNTIME_PATH + getOperationName();
+    }
+
+    // A server in the ADMIN state accepts requests only on its administration channel.
+    @Override
+    PortDetails getPortDetails() {
+      Integer port = serverConfig.getLocalAdminProtocolChannelPort();
+      return new PortDetails(port, !port.equals(serverConfig.getListenPort()));
+    }
+  }
+
+  final class WarmStandbyWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+
+    WarmStandbyWithHttpStep(@Nonnull V1Service service, V1Pod pod, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      WarmStandbyProcessing processing = new WarmStandbyProcessing(packet, service, pod);
+      return doNext(createRequestStep(processing.createRequest(), new WarmStandbyResponseStep(getNext())), packet);
+    }
+  }
+
+  final class WarmStandbyResponseStep extends HttpResponseStep {
+
+    WarmStandbyResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      LOGGER.info(MessageKeys.WARM_STANDBY_STATE_CHANGED, serverConfig.getName(), targetState);
+      packet.getSpi(DomainPresenceInfo.class).updateLastKnownServerStatus(serverConfig.getName(), targetState);
+      return doNext(packet);
+    }
+
+    // The server's state is unchanged, so the next make-right of the domain will repeat the request.
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      LOGGER.info(MessageKeys.WARM_STANDBY_STATE_CHANGE_FAILED, serverConfig.getName(), targetState,
+            getFailureDetail(packet, response));
+      return doNext(packet);
+    }
+
+    private Object getFailureDetail(Packet packet, HttpResponse<String> response) {
+      return Optional.ofNullable(getThrowableResponse(packet)).map(Throwable::getMessage).orElse(
+            Optional.ofNullable(response).map(HttpResponse::statusCode).map(String::valueOf).orElse(null));
+    }
+  }
+}
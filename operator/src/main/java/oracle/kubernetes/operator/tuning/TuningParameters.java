@@ -79,6 +79,22 @@ public class TuningParameters {
   public static final String CRD_PRESENCE_FAILURE_RETRY_MAX_COUNT = "crdPresenceFailureRetryMaxCount";
   public static final String HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = "httpRequestFailureCountThreshold";
   public static final String SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = "shutdownWithHttpPollingInterval";
+  public static final String HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD = "httpCircuitBreakerFailureThreshold";
+  public static final String HTTP_CIRCUIT_BREAKER_INITIAL_BACKOFF_SECONDS = "httpCircuitBreakerInitialBackoffSeconds";
+  public static final String HTTP_CIRCUIT_BREAKER_MAX_BACKOFF_SECONDS = "httpCircuitBreakerMaxBackoffSeconds";
+  public static final String MAX_CONCURRENT_CLUSTER_STATUS_UPDATES = "maxConcurrentClusterStatusUpdates";
+  public static final String INTROSPECTOR_CONFIG_MAP_COMPRESSION = "introspectorConfigMapCompression";
+  public static final String MAX_CONCURRENT_INTROSPECTIONS = "maxConcurrentIntrospections";
+  public static final String MAX_CONCURRENT_INTROSPECTIONS_PER_NAMESPACE = "maxConcurrentIntrospectionsPerNamespace";
+  public static final String MAX_CONCURRENT_POD_ROLLS = "maxConcurrentPodRolls";
+  public static final String MAX_CONCURRENT_POD_ROLLS_PER_NAMESPACE = "maxConcurrentPodRollsPerNamespace";
+  public static final String MAX_CONCURRENT_POD_ROLLS_PER_NODE = "maxConcurrentPodRollsPerNode";
+  public static final String MAX_CONCURRENT_POD_OPERATIONS = "maxConcurrentPodOperations";
+  public static final String MAX_EVENT_UPDATES_PER_OBJECT = "maxEventUpdatesPerObject";
+  public static final String EVENT_AGGREGATION_WINDOW_SECONDS = "eventAggregationWindowSeconds";
+  public static final String MAX_CACHED_EVENTS_PER_RESOURCE = "maxCachedEventsPerResource";
+  public static final String CACHED_EVENT_EXPIRY_SECONDS = "cachedEventExpirySeconds";
+  public static final String MAX_CONCURRENT_NAMESPACE_STARTS = "maxConcurrentNamespaceStarts";
   public static final int DEFAULT_HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = 10;
   public static final int DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = 3;
 
@@ -247,6 +263,129 @@ public class TuningParameters {
     return getParameter(SHUTDOWN_WITH_HTTP_POLLING_INTERVAL, DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL);
   }
 
+  /**
+   * Returns the number of consecutive HTTP request failures to a server after which further requests are
+   * suspended until a backoff interval has elapsed.
+   */
+  public int getHttpCircuitBreakerFailureThreshold() {
+    return getParameter(HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD, 3);
+  }
+
+  public long getHttpCircuitBreakerInitialBackoffSeconds() {
+    return getParameter(HTTP_CIRCUIT_BREAKER_INITIAL_BACKOFF_SECONDS, 10L);
+  }
+
+  public long getHttpCircuitBreakerMaxBackoffSeconds() {
+    return getParameter(HTTP_CIRCUIT_BREAKER_MAX_BACKOFF_SECONDS, 300L);
+  }
+
+  /**
+   * Returns the maximum number of cluster resource status replace calls which may be outstanding at one time
+   * for a single domain. A value of zero means no limit.
+   */
+  public int getMaxConcurrentClusterStatusUpdates() {
+    return getParameter(MAX_CONCURRENT_CLUSTER_STATUS_UPDATES, 10);
+  }
+
+  /**
+   * Returns true if the encoded domain archives in the introspector config maps should be stored gzip-compressed,
+   * as binary data.
+   */
+  public boolean isIntrospectorConfigMapCompressionEnabled() {
+    return getParameter(INTROSPECTOR_CONFIG_MAP_COMPRESSION, false);
+  }
+
+  /**
+   * Returns the maximum number of introspector jobs which may run at one time across all domains managed
+   * by the operator. A value of zero means no limit.
+   */
+  public int getMaxConcurrentIntrospections() {
+    return getParameter(MAX_CONCURRENT_INTROSPECTIONS, 10);
+  }
+
+  /**
+   * Returns the maximum number of introspector jobs which may run at one time within a single namespace.
+   * A value of zero (the default) means no limit.
+   */
+  public int getMaxConcurrentIntrospectionsPerNamespace() {
+    return getParameter(MAX_CONCURRENT_INTROSPECTIONS_PER_NAMESPACE, 0);
+  }
+
+  /**
+   * Returns the maximum number of ready server pods which may be restarted for a roll at one time across all
+   * domains managed by the operator. A value of zero (the default) means no limit.
+   */
+  public int getMaxConcurrentPodRolls() {
+    return getParameter(MAX_CONCURRENT_POD_ROLLS, 0);
+  }
+
+  /**
+   * Returns the maximum number of ready server pods which may be restarted for a roll at one time within a
+   * single namespace. A value of zero (the default) means no limit.
+   */
+  public int getMaxConcurrentPodRollsPerNamespace() {
+    return getParameter(MAX_CONCURRENT_POD_ROLLS_PER_NAMESPACE, 0);
+  }
+
+  /**
+   * Returns the maximum number of ready server pods which may be restarted for a roll at one time on a
+   * single Kubernetes node. A value of zero (the default) means no limit.
+   */
+  public int getMaxConcurrentPodRollsPerNode() {
+    return getParameter(MAX_CONCURRENT_POD_ROLLS_PER_NODE, 0);
+  }
+
+  /**
+   * Returns the maximum number of server pods which the operator may be creating or shutting down at one time
+   * for a single domain. A value of zero means no limit. Defaults to 50.
+   */
+  public int getMaxConcurrentPodOperations() {
+    return getParameter(MAX_CONCURRENT_POD_OPERATIONS, 50);
+  }
+
+  /**
+   * Returns the maximum number of times, within each event aggregation window, that the operator will immediately
+   * update the count of a repeated event about any one involved object. Further repeats in the window are combined
+   * into a single update at its end. A value of zero means no limit. Defaults to 10.
+   */
+  public int getMaxEventUpdatesPerObject() {
+    return getParameter(MAX_EVENT_UPDATES_PER_OBJECT, 10);
+  }
+
+  /**
+   * Returns the length, in seconds, of the window over which repeated events about an involved object are rate
+   * limited and aggregated. Defaults to 60.
+   */
+  public int getEventAggregationWindowSeconds() {
+    return getParameter(EVENT_AGGREGATION_WINDOW_SECONDS, 60);
+  }
+
+  /**
+   * Returns the maximum number of operator-generated events that the operator remembers for each domain, cluster
+   * or namespace. When the limit is reached, the event least recently written is forgotten. A value of zero means
+   * no limit. Defaults to 500.
+   */
+  public int getMaxCachedEventsPerResource() {
+    return getParameter(MAX_CACHED_EVENTS_PER_RESOURCE, 500);
+  }
+
+  /**
+   * Returns the time, in seconds, after which the operator forgets an event which it has not written or seen
+   * updated. Defaults to 3600, which matches the default time for which Kubernetes retains events.
+   */
+  public int getCachedEventExpirySeconds() {
+    return getParameter(CACHED_EVENT_EXPIRY_SECONDS, 3600);
+  }
+
+  /**
+   * Returns the maximum number of namespaces which the operator will review or start at one time, for example
+   * while listing the resources of each domain namespace when the operator starts. A value of zero means no limit.
+   * Defaults to 20.
+   */
+  public int getMaxConcurrentNamespaceStarts() {
+    return getParameter(MAX_CONCURRENT_NAMESPACE_STARTS, 20);
+  }
+
   /**
    * Returns the name of the kubernetes platform on which the operator is running. May be null (the default).
    */
@@ -321,6 +460,19 @@ public class TuningParameters {
     }
   }
 
+  /**
+   * Returns a value which is derived from all of the configured parameter values, and which may therefore be used
+   * to detect that the configuration has changed.
+   */
+  public int getConfiguredValuesHash() {
+    lock.readLock().lock();
+    try {
+      return configuredValues.hashCode();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
   /**
    * Returns the interval at which the operator will check all supported namespaces, looking new or updated domains.
    * @return a value in seconds
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
@@ -91,6 +91,22 @@ public class WlsDomainConfig implements WlsDomain {
         .orElse(null);
   }
 
+  /**
+   * Returns a map of the names of all clustered servers to the names of their clusters. Callers which
+   * need the cluster names of many servers should use this rather than repeated calls to
+   * {@link #getClusterName(String)}, each of which scans all clusters.
+   * @return a map of server names to cluster names
+   */
+  public Map<String, String> getServerClusterNames() {
+    Map<String, String> result = new HashMap<>();
+    for (WlsClusterConfig cluster : getConfiguredClusters()) {
+      for (WlsServerConfig server : cluster.getServerConfigs()) {
+        result.putIfAbsent(server.getName(), cluster.getClusterName());
+      }
+    }
+    return result;
+  }
+
   /**
    * Return the name of the WLS domain.
    *
@@ -122,6 +122,15 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     return CURRENT_FIBER.get();
   }
 
+  /**
+   * Returns true if this fiber has completed or been cancelled, and so will run no further steps.
+   *
+   * @return true if the fiber is no longer running
+   */
+  public boolean isFinished() {
+    return status.get() != NOT_COMPLETE;
+  }
+
   /**
    * Use this fiber's executor to schedule an operation for some time in the future.
    * @param timeout the interval before the check should run, in units
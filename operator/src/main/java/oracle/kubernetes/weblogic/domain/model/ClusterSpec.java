@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.weblogic.domain.model;
@@ -91,6 +91,14 @@ public class ClusterSpec extends BaseConfiguration implements Comparable<Cluster
   @Range(minimum = 0)
   private Integer maxConcurrentShutdown;
 
+  @Description(
+      "The number of additional cluster member Managed Server instances that the operator will keep started "
+      + "in the `ADMIN` state, beyond the `replicas` count, so that they can be resumed to the `RUNNING` state "
+      + "within seconds when the `replicas` count is increased. Warm standby servers are chosen from the same "
+      + "sorted list as the cluster's running servers, and do not receive application traffic. Defaults to 0.")
+  @Range(minimum = 0)
+  private Integer warmStandbyReplicas;
+
   protected ClusterSpec getConfiguration() {
     ClusterSpec configuration = new ClusterSpec();
     configuration.fillInFrom(this);
@@ -140,6 +148,19 @@ public class ClusterSpec extends BaseConfiguration implements Comparable<Cluster
     maxConcurrentShutdown = value;
   }
 
+  public Integer getWarmStandbyReplicas() {
+    return warmStandbyReplicas;
+  }
+
+  public void setWarmStandbyReplicas(Integer warmStandbyReplicas) {
+    this.warmStandbyReplicas = warmStandbyReplicas;
+  }
+
+  public ClusterSpec withWarmStandbyReplicas(Integer warmStandbyReplicas) {
+    setWarmStandbyReplicas(warmStandbyReplicas);
+    return this;
+  }
+
   @Nullable
   @Override
   public ServerStartPolicy getServerStartPolicy() {
@@ -216,6 +237,7 @@ public class ClusterSpec extends BaseConfiguration implements Comparable<Cluster
         .append("maxUnavailable", maxUnavailable)
         .append("maxConcurrentStartup", maxConcurrentStartup)
         .append("maxConcurrentShutdown", maxConcurrentShutdown)
+        .append("warmStandbyReplicas", warmStandbyReplicas)
         .toString();
   }
 
@@ -240,6 +262,7 @@ public class ClusterSpec extends BaseConfiguration implements Comparable<Cluster
         .append(maxUnavailable, clusterSpec.maxUnavailable)
         .append(maxConcurrentStartup, clusterSpec.maxConcurrentStartup)
         .append(maxConcurrentShutdown, clusterSpec.maxConcurrentShutdown)
+        .append(warmStandbyReplicas, clusterSpec.warmStandbyReplicas)
         .isEquals();
   }
 
@@ -254,6 +277,7 @@ public class ClusterSpec extends BaseConfiguration implements Comparable<Cluster
         .append(maxUnavailable)
         .append(maxConcurrentStartup)
         .append(maxConcurrentShutdown)
+        .append(warmStandbyReplicas)
         .toHashCode();
   }
 
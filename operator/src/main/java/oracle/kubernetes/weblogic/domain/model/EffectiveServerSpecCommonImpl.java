@@ -6,6 +6,7 @@ package oracle.kubernetes.weblogic.domain.model;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1Affinity;
@@ -111,10 +112,12 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
     return server.getContainers();
   }
 
+  // The operator customizes the init containers of each pod that it creates, and an effective server spec
+  // may be reused, so each caller is given its own copies.
   @Override
   @Nonnull
   public List<V1Container> getInitContainers() {
-    return server.getInitContainers();
+    return server.getInitContainers().stream().map(ServerPod::createWithEnvCopy).collect(Collectors.toList());
   }
 
   @Override
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.weblogic.domain.model;
@@ -74,6 +74,12 @@ public class ServerEnvVars {
 
   public static final String KUBERNETES_PLATFORM = "KUBERNETES_PLATFORM";
 
+  /**
+   * If present, the state in which the server should start, instead of RUNNING. The operator sets it for warm
+   * standby servers, but it is not reserved, so that domains may also specify it.
+   */
+  public static final String STARTUP_MODE = "STARTUP_MODE";
+
   private static final List<String> RESERVED_NAMES = Arrays.asList(
         DOMAIN_UID, DOMAIN_NAME, DOMAIN_HOME, NODEMGR_HOME, SERVER_NAME, SERVICE_NAME,
         ADMIN_NAME, AS_SERVICE_NAME, ADMIN_PORT, ADMIN_PORT_SECURE, ADMIN_SERVER_PORT_SECURE,
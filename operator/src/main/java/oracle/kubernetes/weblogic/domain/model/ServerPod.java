@@ -480,7 +480,7 @@ class ServerPod extends KubernetesResource {
     return affinity == null || affinity.equals(getDefaultAntiAffinity());
   }
 
-  private V1Container createWithEnvCopy(V1Container c) {
+  static V1Container createWithEnvCopy(V1Container c) {
     return new V1ContainerBuilder(c).withEnv(createCopy(c.getEnv())).build();
   }
 
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.weblogic.domain.model;
@@ -58,6 +58,11 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
   @Valid
   private ServerHealth health;
 
+  @Description("Time, in seconds, which this WebLogic Server instance took to start the last time the operator "
+      + "observed it start, measured from the creation of its pod until the pod became ready.")
+  @Expose
+  private Integer startupSeconds;
+
   // volatile so it will not be included in the json schema
   private volatile boolean isAdminServer;
 
@@ -78,6 +83,7 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
     this.podReady = other.podReady;
     this.podPhase = other.podPhase;
     this.health = Optional.ofNullable(other.health).map(ServerHealth::new).orElse(null);
+    this.startupSeconds = other.startupSeconds;
   }
 
   /**
@@ -274,6 +280,26 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
     return this;
   }
 
+  /**
+   * The time, in seconds, which this server last took to start, or null if it is not known.
+   *
+   * @return startupSeconds
+   */
+  public Integer getStartupSeconds() {
+    return startupSeconds;
+  }
+
+  /**
+   * The time, in seconds, which this server last took to start.
+   *
+   * @param startupSeconds the time from the creation of the server pod until it became ready
+   * @return this
+   */
+  public ServerStatus withStartupSeconds(Integer startupSeconds) {
+    this.startupSeconds = startupSeconds;
+    return this;
+  }
+
   /**
    * Boolean indication whether this server is the admin server.
    *
@@ -304,6 +330,7 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
         .append("podPhase", podPhase)
         .append("podReady", podReady)
         .append("health", health)
+        .append("startupSeconds", startupSeconds)
         .toString();
   }
 
@@ -318,6 +345,7 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
         .append(clusterName)
         .append(podPhase)
         .append(podReady)
+        .append(startupSeconds)
         .toHashCode();
   }
 
@@ -339,6 +367,7 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
         .append(clusterName, rhs.clusterName)
         .append(podPhase, rhs.podPhase)
         .append(podReady, rhs.podReady)
+        .append(startupSeconds, rhs.startupSeconds)
         .isEquals();
   }
 
@@ -370,7 +399,8 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
         .withStringField("nodeName", ServerStatus::getNodeName)
         .withStringField("podPhase", ServerStatus::getPodPhaseAsString)
         .withStringField("podReady", ServerStatus::getPodReady)
-        .withObjectField("health", ServerStatus::getHealth, ServerHealth.getObjectPatch());
+        .withObjectField("health", ServerStatus::getHealth, ServerHealth.getObjectPatch())
+        .withIntegerField("startupSeconds", ServerStatus::getStartupSeconds);
 
   static ObjectPatch<ServerStatus> getObjectPatch() {
     return serverPatch;
@@ -495,9 +495,10 @@ createModelDomain() {
 
     if [ -f "${LOCAL_PRIM_DOMAIN_ZIP}" ] ; then
       trace "Using newly created domain"
-    elif [ -f ${PRIMORDIAL_DOMAIN_ZIPPED} ] ; then
+    elif introspectorFileExists ${PRIMORDIAL_DOMAIN_ZIPPED} ; then
       trace "Using existing primordial domain"
-      cd / && base64 -d ${PRIMORDIAL_DOMAIN_ZIPPED} > ${LOCAL_PRIM_DOMAIN_ZIP} && tar -pxzf ${LOCAL_PRIM_DOMAIN_ZIP}
+      cd / && readIntrospectorFile ${PRIMORDIAL_DOMAIN_ZIPPED} | base64 -d > ${LOCAL_PRIM_DOMAIN_ZIP} \
+        && tar -pxzf ${LOCAL_PRIM_DOMAIN_ZIP}
       # create empty lib since we don't archive it in primordial zip and WDT will fail without it
       createFolder "${DOMAIN_HOME}/lib" "This is the './lib' directory within directory 'domain.spec.domainHome'." || exitOrLoop
       # Since the SerializedSystem ini is encrypted, restore it first
@@ -528,17 +529,40 @@ restorePrimordialDomain() {
   restoreEncodedTar "primordial_domainzip.secure" || return 1
 }
 
-# Restores the specified directory, targz'ed and stored in one or more config maps after base 64 encoding
+# Restores the specified directory, targz'ed and stored in one or more config maps after base 64 encoding.
+# If the operator stored the encoded file gzip-compressed, its parts are found with a '.gz' suffix.
 # args:
 # $1 the name of the encoded file in the config map
 restoreEncodedTar() {
   cd / || return 1
-  cat $(ls ${OPERATOR_ROOT}/introspector*/${1} | sort -t- -k3) > /tmp/domain.secure || return 1
+  if ls ${OPERATOR_ROOT}/introspector*/${1}.gz > /dev/null 2>&1 ; then
+    cat $(ls ${OPERATOR_ROOT}/introspector*/${1}.gz | sort -t- -k3) | gunzip > /tmp/domain.secure || return 1
+  else
+    cat $(ls ${OPERATOR_ROOT}/introspector*/${1} | sort -t- -k3) > /tmp/domain.secure || return 1
+  fi
   base64 -d "/tmp/domain.secure" > /tmp/domain.tar.gz || return 1
 
   tar -pxzf /tmp/domain.tar.gz || return 1
 }
 
+# Returns success if the specified introspector config map file is present, either as is or gzip-compressed
+# args:
+# $1 the path to the file
+introspectorFileExists() {
+  [ -f "${1}" ] || [ -f "${1}.gz" ]
+}
+
+# Writes the contents of the specified introspector config map file to stdout, decompressing it if needed
+# args:
+# $1 the path to the file
+readIntrospectorFile() {
+  if [ -f "${1}.gz" ] ; then
+    gunzip -c "${1}.gz"
+  else
+    cat "${1}"
+  fi
+}
+
 # This is before WDT compareModel implementation
 #
 diff_model_v1() {
@@ -635,7 +659,7 @@ createPrimordialDomain() {
   trace "Entering createPrimordialDomain"
   local create_primordial_tgz=0
   local recreate_domain=0
-  if [  -f ${PRIMORDIAL_DOMAIN_ZIPPED} ] ; then
+  if introspectorFileExists ${PRIMORDIAL_DOMAIN_ZIPPED} ; then
     # If there is an existing domain in the cm - this is update in the lifecycle
     # Call WDT validateModel.sh to generate the new merged mdoel
     trace "Checking if security info has been changed"
@@ -714,7 +738,7 @@ createPrimordialDomain() {
 
   # If there is no primordial domain or needs to recreate one due to security changes
 
-  if [ ! -f ${PRIMORDIAL_DOMAIN_ZIPPED} ] || [ ${recreate_domain} -eq 1 ]; then
+  if ! introspectorFileExists ${PRIMORDIAL_DOMAIN_ZIPPED} || [ ${recreate_domain} -eq 1 ]; then
 
     if [ "true" == "$MII_USE_ONLINE_UPDATE" ] \
        && [ "true" == "${security_info_updated}" ] \
@@ -1256,12 +1280,12 @@ prepareMIIServer() {
   # domainzip only contains the domain configuration (config.xml jdbc/ jms/)
   # Both are needed for the complete domain reconstruction
 
-  if [ ! -f /weblogic-operator/introspector/primordial_domainzip.secure ] ; then
+  if ! introspectorFileExists /weblogic-operator/introspector/primordial_domainzip.secure ; then
     trace SEVERE "Domain Source Type is FromModel, the primordial model archive is missing, cannot start server"
     return 1
   fi
 
-  if [ ! -f /weblogic-operator/introspector/domainzip.secure ] ; then
+  if ! introspectorFileExists /weblogic-operator/introspector/domainzip.secure ; then
     trace SEVERE  "Domain type is FromModel, the domain configuration archive is missing, cannot start server"
     return 1
   fi
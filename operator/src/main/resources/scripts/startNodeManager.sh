@@ -45,6 +45,8 @@
 #   AS_SERVICE_NAME   = Internal DNS name for Admin Server ADMIN_NAME
 #   USER_MEM_ARGS     = JVM mem args for starting WL server
 #   JAVA_OPTIONS      = Java options for starting WL server
+#   STARTUP_MODE      = State in which to start WL server, if not RUNNING
+#                       (the operator sets "ADMIN" for warm standby servers)
 #
 
 ###############################################################################
@@ -281,13 +283,19 @@ if [ ! "${SERVER_NAME}" = "introspector" ]; then
     failBootOnErrorOption="-Dweblogic.SituationalConfig.failBootOnError=${FAIL_BOOT_ON_SITUATIONAL_CONFIG_ERROR}"
   fi
 
+  if [ -n "${STARTUP_MODE}" ]; then
+    startupModeOption="-Dweblogic.management.startupMode=${STARTUP_MODE}"
+  else
+    startupModeOption=""
+  fi
+
 cat <<EOF > ${wl_props_file}
 # Server startup properties
 AutoRestart=true
 RestartMax=${RESTART_MAX:-2}
 RestartInterval=${RESTART_INTERVAL:-3600}
 NMHostName=${SERVICE_NAME}
-Arguments=${USER_MEM_ARGS} ${failBootOnErrorOption} ${serverOutOption} ${JAVA_OPTIONS}
+Arguments=${USER_MEM_ARGS} ${failBootOnErrorOption} ${startupModeOption} ${serverOutOption} ${JAVA_OPTIONS}
 
 EOF
  
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -38,6 +38,7 @@ import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNAVAILABLE;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER_STATUS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_CLUSTER_STATUS_UPDATES;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
@@ -135,6 +136,47 @@ class ClusterResourceStatusUpdaterTest {
     }
   }
 
+  @Test
+  void whenMoreChangedClustersThanConcurrencyLimit_updateAllClusterResourceStatuses() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_CLUSTER_STATUS_UPDATES, "2");
+    ClusterStatus[] newStatuses = defineClustersWithNewStatus(5);
+
+    updateClusterResourceStatus();
+
+    for (int i = 1; i <= 5; i++) {
+      ClusterResource clusterResource = testSupport
+          .getResourceWithName(KubernetesTestSupport.CLUSTER, NAME + "-cluster" + i);
+      assertThat(clusterResource.getStatus(), equalTo(newStatuses[i - 1]));
+    }
+  }
+
+  private ClusterStatus[] defineClustersWithNewStatus(int numClusters) {
+    ClusterStatus[] newStatuses = new ClusterStatus[numClusters];
+    for (int i = 1; i <= numClusters; i++) {
+      String clusterName = "cluster" + i;
+      newStatuses[i - 1] = new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(i)
+          .withClusterName(clusterName).withReplicas(2).withReadyReplicas(1).withReplicasGoal(2);
+      domain.getStatus().addCluster(newStatuses[i - 1]);
+      ClusterResource resource = createClusterResource(clusterName)
+          .withStatus(null);
+      info.addClusterResource(resource);
+      testSupport.defineResources(resource);
+    }
+    return newStatuses;
+  }
+
+  @Test
+  void whenOnlySomeClusterStatusesChanged_replaceOnlyThoseStatuses() {
+    defineClustersWithNewStatus(3);
+    info.getClusterResource("cluster2").withStatus(new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(2)
+          .withClusterName("cluster2").withReplicas(2).withReadyReplicas(1).withReplicasGoal(2));
+    testSupport.clearNumCalls();
+
+    updateClusterResourceStatus();
+
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+  }
+
   @Test
   void whenNoClusterResourceInDomainPresenceInfo_doNothing() {
     domain.getStatus().addCluster(new ClusterStatus().withMinimumReplicas(0).withMaximumReplicas(5)
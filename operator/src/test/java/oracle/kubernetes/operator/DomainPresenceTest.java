@@ -21,6 +21,7 @@ import io.kubernetes.client.openapi.models.V1PersistentVolume;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -177,6 +178,68 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(getDomainPresenceInfoMap(dp), hasKey(UID2));
   }
 
+  @Test
+  void whenDomainUnchangedSinceLastMakeRight_dontRunMakeRightOnRecheck() {
+    testSupport.defineResources(domain);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+    getDomainPresenceInfo(dp, UID1).recordMakeRightFingerprint();
+    dp.clearMakeRightOperations();
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(dp.isEstablishingDomain(UID1), is(false));
+  }
+
+  @Test
+  void whenDomainUnchangedSinceLastMakeRight_recordSkippedMakeRight() {
+    testSupport.defineResources(domain);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+    getDomainPresenceInfo(dp, UID1).recordMakeRightFingerprint();
+    final double before = getMakeRightsSkipped(UID1);
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(getMakeRightsSkipped(UID1) - before, equalTo(1.0));
+  }
+
+  @Test
+  void whenDomainSpecChangedSinceLastMakeRight_runMakeRightOnRecheck() {
+    testSupport.defineResources(domain);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+    getDomainPresenceInfo(dp, UID1).recordMakeRightFingerprint();
+    dp.clearMakeRightOperations();
+
+    testSupport.<DomainResource>getResourceWithName(DOMAIN, UID1).getSpec().setReplicas(3);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(dp.isEstablishingDomain(UID1), is(true));
+  }
+
+  @Test
+  void whenServerPodDeletedSinceLastMakeRight_runMakeRightOnRecheck() {
+    final V1Pod pod = createPodResource(UID1, NS, "ms1");
+    testSupport.defineResources(domain, pod);
+    dp.domains.computeIfAbsent(NS, k -> new ConcurrentHashMap<>()).put(UID1, info);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+    getDomainPresenceInfo(dp, UID1).recordMakeRightFingerprint();
+    dp.clearMakeRightOperations();
+
+    testSupport.deleteResources(pod);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(dp.isEstablishingDomain(UID1), is(true));
+  }
+
+  private double getMakeRightsSkipped(String uid) {
+    final Double value = CollectorRegistry.defaultRegistry.getSampleValue("wko_make_rights_skipped_total",
+        new String[] {"namespace", "domain_uid"}, new String[] {NS, uid});
+    return value == null ? 0 : value;
+  }
+
   private void addDomainResource(String uid, String namespace) {
     testSupport.defineResources(createDomain(uid, namespace));
   }
@@ -627,6 +690,10 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
       return dpis;
     }
 
+    void clearMakeRightOperations() {
+      operationStubs.clear();
+    }
+
     Map<String, ClusterPresenceInfo> getClusterPresenceInfos() {
       return clusters.get(NS);
     }
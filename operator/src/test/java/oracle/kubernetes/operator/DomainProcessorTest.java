@@ -769,6 +769,7 @@ class DomainProcessorTest {
 
     processor.createMakeRightOperation(newInfo).execute();
     domainConfigurator.withDefaultServerStartPolicy(ServerStartPolicy.NEVER);
+    newDomain.getMetadata().setGeneration(3L);
 
     processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
 
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,6 +31,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -91,6 +93,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE_RESTART_REQUIRED;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.WebLogicConstants.ADMIN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTTING_DOWN_STATE;
@@ -329,6 +332,27 @@ abstract class DomainStatusUpdateTestBase {
     assertThat(getRecordedDomain().getStatus(), equalTo(null));
   }
 
+  @Test
+  void whenServerStartupTimeRecorded_addItToServerStatus() {
+    defineScenario().withServers("server1").build();
+    info.recordServerStartupDuration("server1", Duration.ofSeconds(150));
+
+    updateDomainStatus();
+
+    assertThat(getRecordedDomain(), hasStatusForServer("server1").withStartupSeconds(150));
+  }
+
+  @Test
+  void whenServerHasNoPod_keepStartupTimeFromPreviousStatus() {
+    domain.setStatus(new DomainStatus()
+          .addServer(new ServerStatus().withServerName("server1").withStartupSeconds(150)));
+    defineScenario().withServers("server1").notStarting("server1").build();
+
+    updateDomainStatus();
+
+    assertThat(getRecordedDomain(), hasStatusForServer("server1").withStartupSeconds(150));
+  }
+
   @Test
   void whenServerIntentionallyNotStarted_reportItsStateAsShutdown() {    
     defineScenario().withServers("server1").notStarting("server1").build();
@@ -369,6 +393,44 @@ abstract class DomainStatusUpdateTestBase {
     assertThat(testSupport.getNumCalls(), equalTo(0));
   }
 
+  @Test
+  void whenOnlyServerActivationTimeChanged_statusStepDoesNotUpdateDomain() {
+    defineScenario().withServers("server1").notStarting("server1").build();
+    domain.setStatus(
+        new DomainStatus()
+            .withServers(
+                List.of(
+                    new ServerStatus()
+                        .withState(RUNNING_STATE)
+                        .withStateGoal(RUNNING_STATE)
+                        .withServerName("admin")
+                        .withNodeName("node")
+                        .withIsAdminServer(true)
+                        .withPodPhase("Running")
+                        .withPodReady("True")
+                        .withHealth(overallHealth("health").withActivationTime(SystemClock.now())),
+                    new ServerStatus()
+                        .withState(SHUTDOWN_STATE)
+                        .withStateGoal(SHUTDOWN_STATE)
+                        .withServerName("server1")
+                        .withHealth(overallHealth("health1"))))
+              .addCondition(new DomainCondition(AVAILABLE).withStatus(true))
+              .addCondition(new DomainCondition(COMPLETED).withStatus(true)));
+    final double writesAvoided = getDomainStatusWritesAvoided();
+
+    testSupport.clearNumCalls();
+    updateDomainStatus();
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+    assertThat(getDomainStatusWritesAvoided(), equalTo(writesAvoided + 1));
+  }
+
+  private double getDomainStatusWritesAvoided() {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(
+          "wko_domain_status_writes_avoided_total",
+          new String[] {"namespace", "domain_uid"}, new String[] {NS, UID})).orElse(0.0);
+  }
+
   @Test
   void whenDomainHasNoClusters_statusLacksReplicaCount() {   
     updateDomainStatus();
@@ -548,6 +610,46 @@ abstract class DomainStatusUpdateTestBase {
     assertThat(getRecordedDomain().getStatus().isRolling(), is(false));
   }
 
+  @Test
+  void whenWarmStandbyServerInAdminState_establishCompletedConditionTrue() {
+    defineScenario().withCluster("cluster1", "ms1", "ms2", "ms3").warmStandby("ms3").build();
+
+    updateDomainStatus();
+
+    assertThat(getRecordedDomain(), hasCondition(COMPLETED).withStatus(TRUE));
+  }
+
+  @Test
+  void whenWarmStandbyServerNotYetInAdminState_establishCompletedConditionFalse() {
+    defineScenario()
+          .withCluster("cluster1", "ms1", "ms2", "ms3")
+          .warmStandby("ms3")
+          .withServersReachingState(STARTING_STATE, "ms3")
+          .build();
+
+    updateDomainStatus();
+
+    assertThat(getRecordedDomain(), hasCondition(COMPLETED).withStatus(FALSE));
+  }
+
+  @Test
+  void whenWarmStandbyServerInAdminState_establishAvailableConditionTrue() {
+    defineScenario().withCluster("cluster1", "ms1", "ms2", "ms3").warmStandby("ms3").build();
+
+    updateDomainStatus();
+
+    assertThat(getRecordedDomain(), hasCondition(AVAILABLE).withStatus(TRUE));
+  }
+
+  @Test
+  void whenWarmStandbyServerInAdminState_reportAdminStateGoal() {
+    defineScenario().withCluster("cluster1", "ms1", "ms2", "ms3").warmStandby("ms3").build();
+
+    updateDomainStatus();
+
+    assertThat(getRecordedDomain(), hasStatusForServer("ms3").withState(ADMIN_STATE).withStateGoal(ADMIN_STATE));
+  }
+
   @Test
   void whenAnyServerLacksReadyState_establishCompletedConditionFalse() {
     defineScenario().withCluster("cluster1", "ms1", "ms2", "ms3").build();
@@ -881,9 +983,15 @@ abstract class DomainStatusUpdateTestBase {
     assertThat(getRecordedDomain(), not(hasCondition(COMPLETED).withStatus(TRUE)));
   }
 
+  // a change to the domain spec is accompanied by a new generation, as it would be in Kubernetes
+  private void defineMaxReadyWaitTimeSeconds(long seconds) {
+    domain.getSpec().setMaxReadyWaitTimeSeconds(seconds);
+    domain.getMetadata().setGeneration(domain.getMetadata().getGeneration() + 1);
+  }
+
   @Test
   void whenAtLeastOnePodNotReadyInTime_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    defineMaxReadyWaitTimeSeconds(0L);
     unreadyPod("server2");
 
     SystemClockTestSupport.increment();
@@ -894,7 +1002,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    defineMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     unreadyPod("server2");
@@ -906,7 +1014,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_phaseRunningFalse_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    defineMaxReadyWaitTimeSeconds(0L);
     markPodRunningPhaseFalse("server2");
 
     SystemClockTestSupport.increment();
@@ -917,7 +1025,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_phaseRunningFalse_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    defineMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     markPodRunningPhaseFalse("server2");
@@ -929,7 +1037,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAllPodsReadyInTime_dontCreateFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    defineMaxReadyWaitTimeSeconds(0L);
 
     updateDomainStatus();
 
@@ -938,7 +1046,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodWaitingForReady_dontCreateFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(2L);
+    defineMaxReadyWaitTimeSeconds(2L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -948,7 +1056,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    defineMaxReadyWaitTimeSeconds(0L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -959,7 +1067,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    defineMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     unreadyPod("server2");
@@ -972,7 +1080,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAllPodsReadyInTime_serverStatusPodReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    defineMaxReadyWaitTimeSeconds(0L);
 
     updateDomainStatus();
 
@@ -984,7 +1092,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodWaitingForReady_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(2L);
+    defineMaxReadyWaitTimeSeconds(2L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -2099,13 +2207,15 @@ abstract class DomainStatusUpdateTestBase {
   // name with "health."
   // Each running server will also be associated with a node whose name is created by replacing "server" with "node".
   // By default, all servers are marked as intended to have been started, and having reached the RUNNING state.
-  // Servers may be marked instead as not started by invoking 'notStarting'
-  // and the actual state may be changed by invoking 'withServersInState'
+  // Servers may be marked instead as not started by invoking 'notStarting', or as warm standby servers, which are
+  // started but not ready and by default reach the ADMIN state, by invoking 'warmStandby'.
+  // The actual state may be changed by invoking 'withServersInState'
   private class ScenarioBuilder {
     private final WlsDomainConfigSupport configSupport;
     private final List<String> servers = new ArrayList<>();
     private final List<String> terminatingServers = new ArrayList<>();
     private final List<String> nonStartedServers = new ArrayList<>();
+    private final List<String> warmStandbyServers = new ArrayList<>();
     private final Map<String,String[]> serverStates = new HashMap<>();
     private final Map<String, V1ContainerStateWaiting> waitingStates = new HashMap<>();
 
@@ -2174,6 +2284,11 @@ abstract class DomainStatusUpdateTestBase {
       return this;
     }
 
+    ScenarioBuilder warmStandby(String... serverNames) {
+      warmStandbyServers.addAll(Arrays.asList(serverNames));
+      return this;
+    }
+
     ScenarioBuilder terminating(String... serverNames) {
       terminatingServers.addAll(Arrays.asList(serverNames));
       return this;
@@ -2185,8 +2300,8 @@ abstract class DomainStatusUpdateTestBase {
       liveServers = getLiveServers();
       testSupport.addToPacket(SERVER_STATE_MAP, createStateMap());
       testSupport.addToPacket(SERVER_HEALTH_MAP, createHealthMap());
-      processTopology(domainConfig);
       info.setServerStartupInfo(createServerStartupInfo(domainConfig));
+      processTopology(domainConfig);
       liveServers.forEach(this::activateServer);
       terminatingServers.forEach(this::markServerTerminating);
     }
@@ -2196,7 +2311,7 @@ abstract class DomainStatusUpdateTestBase {
       return domainConfig.getAllServers().stream()
             .filter(c -> !isAdminServer(c))
             .filter(this::isLive)
-            .map(config -> new DomainPresenceInfo.ServerStartupInfo(config, "", null))
+            .map(config -> new DomainPresenceInfo.ServerStartupInfo(config, "", null, isWarmStandby(config)))
             .collect(Collectors.toList());
     }
 
@@ -2204,6 +2319,10 @@ abstract class DomainStatusUpdateTestBase {
       return !nonStartedServers.contains(serverConfig.getName());
     }
 
+    private boolean isWarmStandby(WlsServerConfig serverConfig) {
+      return warmStandbyServers.contains(serverConfig.getName());
+    }
+
     private boolean isAdminServer(WlsServerConfig serverConfig) {
       return ADMIN.equals(serverConfig.getName());
     }
@@ -2212,6 +2331,7 @@ abstract class DomainStatusUpdateTestBase {
       Map<String,String> result = new HashMap<>();
       result.put(ADMIN, RUNNING_STATE);
       getLiveServers().forEach(server -> result.put(server, RUNNING_STATE));
+      warmStandbyServers.forEach(server -> result.put(server, ADMIN_STATE));
       for (String state : serverStates.keySet()) {
         for (String server: serverStates.get(state)) {
           result.put(server, state);
@@ -2241,7 +2361,12 @@ abstract class DomainStatusUpdateTestBase {
       final V1Pod pod = getPod(serverName);
 
       Objects.requireNonNull(pod.getSpec()).setNodeName(toNodeName(serverName));
-      if (waitingStates.containsKey(serverName)) {
+      if (warmStandbyServers.contains(serverName)) {
+        pod.setStatus(new V1PodStatus()
+              .startTime(SystemClock.now())
+              .phase("Running")
+              .addConditionsItem(new V1PodCondition().type("Ready").status("False")));
+      } else if (waitingStates.containsKey(serverName)) {
         pod.setStatus(new V1PodStatus()
             .startTime(SystemClock.now())
             .phase("Pending")
@@ -2315,6 +2440,12 @@ abstract class DomainStatusUpdateTestBase {
       return this;
     }
 
+    @SuppressWarnings("SameParameterValue")
+    ServerStatusMatcher withStartupSeconds(Integer expectedValue) {
+      matcher.addField("startup seconds", ServerStatus::getStartupSeconds, expectedValue);
+      return this;
+    }
+
     @Override
     protected boolean matchesSafely(DomainResource domain, Description description) {
       return matcher.matches(getServerStatus(domain), description);
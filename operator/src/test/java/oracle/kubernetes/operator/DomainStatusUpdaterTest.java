@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -35,6 +36,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.ABORTED_EVENT_ERROR;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_FATAL_ERROR;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_ROLL_START;
 import static oracle.kubernetes.common.logging.MessageKeys.INTERNAL_EVENT_ERROR;
+import static oracle.kubernetes.common.logging.MessageKeys.ROLL_COMPLETION_PREDICTED;
 import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
@@ -114,6 +116,17 @@ class DomainStatusUpdaterTest {
     assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
   }
 
+  @Test
+  void whenRollCompletionPredicted_rollingConditionReportsIt() {
+    final OffsetDateTime predictedCompletion = SystemClock.now().plusMinutes(10);
+    info.setPredictedRollCompletion(predictedCompletion);
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain(), hasCondition(ROLLING)
+        .withMessageContaining(LOGGER.formatMessage(ROLL_COMPLETION_PREDICTED, predictedCompletion)));
+  }
+
   @Test
   void whenNeedToReplacePodAndRolling_dontGenerateRollingStartedEvent() {
     domain.getStatus().addCondition(new DomainCondition(ROLLING));
@@ -0,0 +1,102 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+class NamespacedResourcesTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final int LIST_DELAY_SECONDS = 5;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<String> processed = new ArrayList<>();
+  private final NamespacedResources resources = new NamespacedResources(NS, UID, null);
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+
+    resources.addProcessing(new RecordingProcessors());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  void whenListsComplete_processResultsInListOrder() {
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(processed, contains(POD, SERVICE, DOMAIN, "complete"));
+  }
+
+  @Test
+  void whileAnyListIsIncomplete_dontProcessResults() {
+    testSupport.delayOnList(POD, NS, LIST_DELAY_SECONDS);
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(processed, empty());
+  }
+
+  @Test
+  void whenPodListCompletesAfterDomainList_processResultsInListOrder() {
+    testSupport.delayOnList(POD, NS, LIST_DELAY_SECONDS);
+
+    testSupport.runSteps(resources.createListSteps());
+    testSupport.setTime(LIST_DELAY_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(processed, contains(POD, SERVICE, DOMAIN, "complete"));
+  }
+
+  class RecordingProcessors implements Processors {
+    @Override
+    public Consumer<V1PodList> getPodListProcessing() {
+      return l -> processed.add(POD);
+    }
+
+    @Override
+    public Consumer<V1ServiceList> getServiceListProcessing() {
+      return l -> processed.add(SERVICE);
+    }
+
+    @Override
+    public Consumer<DomainList> getDomainListProcessing() {
+      return l -> processed.add(DOMAIN);
+    }
+
+    @Override
+    public void completeProcessing(Packet packet) {
+      processed.add("complete");
+    }
+  }
+}
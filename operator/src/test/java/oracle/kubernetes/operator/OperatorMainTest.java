@@ -40,6 +40,7 @@ import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ObjectReference;
 import io.kubernetes.client.openapi.models.VersionInfo;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.Namespaces.SelectionStrategy;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
@@ -115,6 +116,7 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.STOP_MANA
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CALL_LIMIT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_NAMESPACE_STARTS;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
@@ -877,6 +879,41 @@ class OperatorMainTest extends ThreadFactoryTestBase {
         is(true));
   }
 
+  @Test
+  void withNamespaceList_whenConcurrentStartsLimited_startAllNamespaces() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_NAMESPACE_STARTS, "1");
+    defineSelectionStrategy(SelectionStrategy.LIST);
+    HelmAccessStub.defineVariable(HelmAccess.OPERATOR_DOMAIN_NAMESPACES,
+        String.join(",", NS_WEBLOGIC1, NS_WEBLOGIC2, NS_WEBLOGIC3));
+    testSupport.defineResources(NAMESPACE_WEBLOGIC1, NAMESPACE_WEBLOGIC2, NAMESPACE_WEBLOGIC3);
+
+    List<String> namespaces = Arrays.asList(NS_WEBLOGIC1, NS_WEBLOGIC2, NS_WEBLOGIC3);
+    testSupport.runSteps(
+        createDomainRecheck().createStartNamespacesStep(namespaces));
+
+    assertThat(containsEventWithMessageForNamespaces(getEvents(testSupport),
+            NAMESPACE_WATCHING_STARTED, namespaces), is(true));
+  }
+
+  @Test
+  void withNamespaceList_onStartNamespaces_recordReadResourcesPhaseTime() {
+    final double before = getNamespaceStartupPhaseCount(NamespaceStartupTimer.READ_RESOURCES);
+    defineSelectionStrategy(SelectionStrategy.LIST);
+    HelmAccessStub.defineVariable(HelmAccess.OPERATOR_DOMAIN_NAMESPACES, String.join(",", NS_WEBLOGIC1, NS_WEBLOGIC2));
+    testSupport.defineResources(NAMESPACE_WEBLOGIC1, NAMESPACE_WEBLOGIC2);
+
+    testSupport.runSteps(
+        createDomainRecheck().createStartNamespacesStep(Arrays.asList(NS_WEBLOGIC1, NS_WEBLOGIC2)));
+
+    assertThat(getNamespaceStartupPhaseCount(NamespaceStartupTimer.READ_RESOURCES) - before, equalTo(2.0));
+  }
+
+  private double getNamespaceStartupPhaseCount(String phase) {
+    final Double value = CollectorRegistry.defaultRegistry.getSampleValue(
+        "wko_namespace_startup_phase_seconds_count", new String[] {"phase"}, new String[] {phase});
+    return value == null ? 0 : value;
+  }
+
   @Test
   void withNamespaceList_onStartNamespaces_foundExpectedLogMessage() {
     logRecords.clear();
@@ -4,13 +4,21 @@
 package oracle.kubernetes.operator;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.logging.LogRecord;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
@@ -19,8 +27,12 @@ import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -34,6 +46,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.EXECUTE_MAKE_RIGHT_DO
 import static oracle.kubernetes.common.logging.MessageKeys.INTROSPECTOR_POD_FAILED;
 import static oracle.kubernetes.common.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
@@ -43,6 +56,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.has
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.KUBERNETES;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -54,9 +68,12 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
   private static final BigInteger INITIAL_RESOURCE_VERSION = new BigInteger("234");
   private static final String NS = "ns";
   private static final String NAME = "test";
+  private static final String DOMAIN_UID = "domain1";
   private static final int RECHECK_SECONDS = 10;
+  private static final String READY_POD_NAME = "readyPodName";
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final TerminalStep terminalStep = new TerminalStep();
+  private final List<String> readyPodsRecorded = Collections.synchronizedList(new ArrayList<>());
   private final List<LogRecord> logRecords = new java.util.ArrayList<>();
 
   @Override
@@ -240,6 +257,153 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  void whenAllPodsReadyOnFirstList_waitForAllReadyRunsNextStep() {
+    testSupport.defineResources(markPodReady(createDomainPod("pod1")), markPodReady(createDomainPod("pod2")));
+
+    runWaitForAllReady("pod1", "pod2");
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenOnePodNotReady_waitForAllReadyDoesNotRunNextStep() {
+    testSupport.defineResources(markPodReady(createDomainPod("pod1")), createDomainPod("pod2"));
+
+    runWaitForAllReady("pod1", "pod2");
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  void whenLastPodBecomesReady_waitForAllReadyRunsNextStep() {
+    testSupport.defineResources(markPodReady(createDomainPod("pod1")), createDomainPod("pod2"));
+
+    final PodWatcher watcher = runWaitForAllReady("pod1", "pod2");
+    watcher.receivedResponse(new Watch.Response<>("MODIFIED", markPodReady(createDomainPod("pod2"))));
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenPodBecomesReadyBeforeRecheck_waitForAllReadyRunsNextStepAfterRecheck() {
+    final V1Pod pod = createDomainPod("pod1");
+    testSupport.defineResources(pod);
+
+    runWaitForAllReady("pod1");
+    markPodReady(pod);
+    testSupport.setTime(RECHECK_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenOnePodReadyAndAnotherNot_runStepOfReadyPodOnly() {
+    testSupport.defineResources(markPodReady(createDomainPod("pod1")), createDomainPod("pod2"));
+
+    runWaitForAllReady("pod1", "pod2");
+
+    assertThat(readyPodsRecorded, contains("pod1"));
+  }
+
+  @Test
+  void whenPodBecomesReady_runItsStepWithItsOwnPacket() {
+    testSupport.defineResources(createDomainPod("pod1"), createDomainPod("pod2"));
+
+    final PodWatcher watcher = runWaitForAllReady("pod1", "pod2");
+    watcher.receivedResponse(new Watch.Response<>("MODIFIED", markPodReady(createDomainPod("pod2"))));
+
+    assertThat(readyPodsRecorded, contains("pod2"));
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  private PodWatcher runWaitForAllReady(String... podNames) {
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo(NS, DOMAIN_UID));
+
+    try {
+      testSupport.runSteps(watcher.waitForAllReady(createPodReadySteps(podNames), terminalStep));
+      return watcher;
+    } finally {
+      stopping.set(true);
+    }
+  }
+
+  private Map<String, StepAndPacket> createPodReadySteps(String... podNames) {
+    final Map<String, StepAndPacket> podReadySteps = new LinkedHashMap<>();
+    for (String podName : podNames) {
+      final Packet packet = new Packet();
+      packet.put(READY_POD_NAME, podName);
+      podReadySteps.put(podName, new StepAndPacket(new RecordReadyPodStep(), packet));
+    }
+    return podReadySteps;
+  }
+
+  // Records the pod name found in the step's packet, showing which pods' steps were run, and with which packets.
+  private class RecordReadyPodStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      readyPodsRecorded.add((String) packet.get(READY_POD_NAME));
+      return doNext(packet);
+    }
+  }
+
+  private V1Pod createDomainPod(String name) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name)
+          .putLabelsItem(DOMAINUID_LABEL, DOMAIN_UID).putLabelsItem(CREATEDBYOPERATOR_LABEL, "true"));
+  }
+
+  @Test
+  void whenPodsAlreadyGone_waitForAllDeletedRunsNextStep() {
+    runWaitForAllDeleted(createDomainPod("pod1"), createDomainPod("pod2"));
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenOnePodStillExists_waitForAllDeletedDoesNotRunNextStep() {
+    testSupport.defineResources(createDomainPod("pod2"));
+
+    runWaitForAllDeleted(createDomainPod("pod1"), createDomainPod("pod2"));
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  void whenLastPodDeleted_waitForAllDeletedRunsNextStep() {
+    testSupport.defineResources(createDomainPod("pod1"), createDomainPod("pod2"));
+
+    final PodWatcher watcher = runWaitForAllDeleted(createDomainPod("pod1"), createDomainPod("pod2"));
+    watcher.receivedResponse(new Watch.Response<>("DELETED", createDomainPod("pod1")));
+    watcher.receivedResponse(new Watch.Response<>("DELETED", createDomainPod("pod2")));
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenPodListIncludesNull_waitForAllDeletedIgnoresIt() {
+    testSupport.defineResources(createDomainPod("pod1"));
+
+    final PodWatcher watcher = runWaitForAllDeleted(createDomainPod("pod1"), null);
+    watcher.receivedResponse(new Watch.Response<>("DELETED", createDomainPod("pod1")));
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  private PodWatcher runWaitForAllDeleted(V1Pod... pods) {
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo(NS, DOMAIN_UID));
+
+    try {
+      testSupport.runSteps(watcher.waitForAllDeleted(Arrays.asList(pods), terminalStep));
+      return watcher;
+    } finally {
+      stopping.set(true);
+    }
+  }
+
   @Test
   void whenPodCreatedAndNotReadyAfterTimeout_executeMakeRightDomain() {
     executeWaitForReady();
@@ -469,6 +633,87 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
     }
   }
 
+  @Test
+  void whenServerContainerTerminates_runNextStepWithoutWaitingForRecheck() {
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+
+    testSupport.defineResources(domain);
+    try {
+      testSupport.runSteps(watcher.waitForServerShutdown(NAME, domainWithSuspendingState(domain), terminalStep));
+      watcher.receivedResponse(new Watch.Response<>("MODIFIED", createTerminatedServerPod(domain)));
+
+      assertThat(terminalStep.getExecutionCount(), is(1));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
+  @Test
+  void whenServerPodDeleted_runNextStepWithoutWaitingForRecheck() {
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+
+    testSupport.defineResources(domain);
+    try {
+      testSupport.runSteps(watcher.waitForServerShutdown(NAME, domainWithSuspendingState(domain), terminalStep));
+      watcher.receivedResponse(new Watch.Response<>("DELETED", createServerPod(domain)));
+
+      assertThat(terminalStep.getExecutionCount(), is(1));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
+  @Test
+  void whenServerContainerStillRunning_dontRunNextStep() {
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+
+    testSupport.defineResources(domain);
+    try {
+      testSupport.runSteps(watcher.waitForServerShutdown(NAME, domainWithSuspendingState(domain), terminalStep));
+      watcher.receivedResponse(new Watch.Response<>("MODIFIED", createServerPod(domain)));
+
+      assertThat(terminalStep.wasRun(), is(false));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
+  @Test
+  void whenServerShutdownDetectedByPodEvent_laterRecheckDoesNotRunNextStepAgain() {
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+
+    testSupport.defineResources(domain);
+    try {
+      testSupport.runSteps(watcher.waitForServerShutdown(NAME, domainWithSuspendingState(domain), terminalStep));
+      watcher.receivedResponse(new Watch.Response<>("MODIFIED", createTerminatedServerPod(domain)));
+      watcher.receivedResponse(new Watch.Response<>("DELETED", createServerPod(domain)));
+      testSupport.setTime(10, TimeUnit.SECONDS);
+
+      assertThat(terminalStep.getExecutionCount(), is(1));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
+  private V1Pod createServerPod(DomainResource domain) {
+    return new V1Pod().metadata(
+          new V1ObjectMeta().namespace(NS).name(LegalNames.toPodName(domain.getDomainUid(), NAME)));
+  }
+
+  private V1Pod createTerminatedServerPod(DomainResource domain) {
+    return createServerPod(domain).status(new V1PodStatus().phase("Running").addContainerStatusesItem(
+          new V1ContainerStatus().name(WLS_CONTAINER_NAME)
+                .state(new V1ContainerState().terminated(new V1ContainerStateTerminated().exitCode(0)))));
+  }
+
   private DomainResource domainWithSuspendingState(DomainResource domainResource) {
     return domainResource.withStatus(
         new DomainStatus().addServer(new ServerStatus().withServerName(NAME).withState(SUSPENDING_STATE)));
@@ -0,0 +1,88 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+class CanonicalHashTest {
+
+  @Test
+  void hashIsVersioned() {
+    assertThat(CanonicalHash.of(createPod("ms1")), startsWith(CanonicalHash.VERSION_PREFIX));
+  }
+
+  @Test
+  void unprefixedHash_isNotVersioned() {
+    assertThat(CanonicalHash.isVersioned(AnnotationHelper.createHash(createPod("ms1"))), is(false));
+    assertThat(CanonicalHash.isVersioned(null), is(false));
+  }
+
+  @Test
+  void equivalentPods_haveSameHash() {
+    assertThat(CanonicalHash.of(createPod("ms1")), equalTo(CanonicalHash.of(createPod("ms1"))));
+  }
+
+  @Test
+  void podsWithDifferentContent_haveDifferentHashes() {
+    assertThat(CanonicalHash.of(createPod("ms1")), not(equalTo(CanonicalHash.of(createPod("ms2")))));
+  }
+
+  @Test
+  void mapEntryOrder_doesNotAffectHash() {
+    assertThat(CanonicalHash.of(createPodWithLabels("a", "b")),
+        equalTo(CanonicalHash.of(createPodWithLabels("b", "a"))));
+  }
+
+  @Test
+  void quantitiesWithSameValue_haveSameHash() {
+    assertThat(CanonicalHash.of(createPodWithMemoryLimit("1Gi")),
+        equalTo(CanonicalHash.of(createPodWithMemoryLimit("1Gi"))));
+    assertThat(CanonicalHash.of(createPodWithMemoryLimit("1Gi")),
+        not(equalTo(CanonicalHash.of(createPodWithMemoryLimit("2Gi")))));
+  }
+
+  @Test
+  void adjacentValues_areNotConfused() {
+    assertThat(CanonicalHash.of(createPodWithLabels("ab", "c")),
+        not(equalTo(CanonicalHash.of(createPodWithLabels("a", "bc")))));
+  }
+
+  private V1Pod createPod(String name) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name(name).namespace("ns"))
+        .spec(new V1PodSpec().addContainersItem(new V1Container().name("weblogic-server").image("image:1")));
+  }
+
+  private V1Pod createPodWithLabels(String... keys) {
+    Map<String, String> labels = new LinkedHashMap<>();
+    for (String key : keys) {
+      labels.put(key, "value");
+    }
+    V1Pod pod = createPod("ms1");
+    pod.getMetadata().setLabels(labels);
+    return pod;
+  }
+
+  private V1Pod createPodWithMemoryLimit(String limit) {
+    V1Pod pod = createPod("ms1");
+    pod.getSpec().getContainers().get(0)
+        .resources(new V1ResourceRequirements().putLimitsItem("memory", new Quantity(limit)));
+    return pod;
+  }
+}
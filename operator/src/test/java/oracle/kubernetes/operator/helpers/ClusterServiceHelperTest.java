@@ -1,10 +1,14 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.steps.ClusterServicesStep;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -14,11 +18,16 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_SERVICE_CREATED;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_SERVICE_EXISTS;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_SERVICE_REPLACED;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class ClusterServiceHelperTest extends ServiceHelperTest {
 
+  private static final String REMOVED_CLUSTER = "removed-cluster";
+
   public ClusterServiceHelperTest() {
     super(new ClusterServiceTestFacade());
   }
@@ -116,4 +125,42 @@ class ClusterServiceHelperTest extends ServiceHelperTest {
         model.getSpec().getSessionAffinity(),
         is("ClientIP"));
   }
+
+  @Test
+  void whenClusterNoLongerInTopology_deleteItsService() {
+    defineClusterService(getTestCluster());
+    defineClusterService(REMOVED_CLUSTER);
+    consoleHandlerMemento.ignoreMessage(CLUSTER_SERVICE_EXISTS);
+
+    testSupport.runSteps(new ClusterServicesStep(null));
+
+    assertThat(getServiceNames(), contains(LegalNames.toClusterServiceName(UID, getTestCluster())));
+  }
+
+  @Test
+  void whenClusterNoLongerInTopology_removeItsServiceFromDomainPresence() {
+    defineClusterService(getTestCluster());
+    defineClusterService(REMOVED_CLUSTER);
+    consoleHandlerMemento.ignoreMessage(CLUSTER_SERVICE_EXISTS);
+
+    testSupport.runSteps(new ClusterServicesStep(null));
+
+    assertThat(domainPresenceInfo.getClusterService(REMOVED_CLUSTER), nullValue());
+  }
+
+  private void defineClusterService(String clusterName) {
+    V1Service service = createService();
+    if (!clusterName.equals(getTestCluster())) {
+      service.getMetadata().name(LegalNames.toClusterServiceName(UID, clusterName))
+          .putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, clusterName);
+    }
+    testSupport.defineResources(service);
+    domainPresenceInfo.setClusterService(clusterName, service);
+  }
+
+  private List<String> getServiceNames() {
+    return testSupport.<V1Service>getResources(SERVICE).stream()
+        .map(service -> service.getMetadata().getName())
+        .collect(Collectors.toList());
+  }
 }
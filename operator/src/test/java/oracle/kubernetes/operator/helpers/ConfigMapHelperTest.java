@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -31,7 +31,10 @@ import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_N
 import static oracle.kubernetes.operator.ProcessingConstants.SCRIPT_CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -143,4 +146,48 @@ class ConfigMapHelperTest {
     });
   }
 
+  @Test
+  void parseIntrospectorResult_extractsTrimmedFileContents() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(String.join("\n",
+        "ignored line",
+        ">>>  /u01/introspect/domain1/topology.yaml",
+        "",
+        "domainValid: true",
+        "domain:",
+        "  name: \"base_domain\"  ",
+        ">>> EOF",
+        ">>>  /u01/introspect/domain1/domainzip_hash",
+        "abcdef",
+        ">>> EOF"));
+
+    assertThat(result, aMapWithSize(2));
+    assertThat(result, hasEntry("topology.yaml",
+        String.join(System.lineSeparator(), "domainValid: true", "domain:", "  name: \"base_domain\"")));
+    assertThat(result, hasEntry("domainzip_hash", "abcdef"));
+  }
+
+  @Test
+  void parseIntrospectorResult_joinsCarriageReturnSeparatedLines() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(
+        ">>>  /u01/introspect/domain1/file\r\nline1\r\nline2\rline3\r\n>>> EOF\r\n");
+
+    assertThat(result, hasEntry("file", String.join(System.lineSeparator(), "line1", "line2", "line3")));
+  }
+
+  @Test
+  void parseIntrospectorResult_recordsUpdateDomainResult() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(
+        String.join("\n", ">>>  updatedomainResult=103", ">>> EOF"));
+
+    assertThat(result, hasEntry("UPDATEDOMAINRESULT", "103"));
+  }
+
+  @Test
+  void parseIntrospectorResult_ignoresFileWithoutEndMarker() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(
+        String.join("\n", ">>>  /u01/introspect/domain1/file", "contents"));
+
+    assertThat(result, not(hasKey("file")));
+  }
+
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -7,9 +7,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import com.meterware.simplestub.Stub;
+import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
@@ -21,6 +23,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.processing.EffectiveClusterSpec;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -31,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_IMAGE;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -163,6 +167,97 @@ class DomainPresenceInfoTest {
     assertThat(info.getServerPod("myserver"), sameInstance(pod));
   }
 
+  @Test
+  void whenPodHashCompatibilityCheckedTwiceWithSameKey_runCheckOnce() {
+    AtomicInteger numChecks = new AtomicInteger();
+
+    info.isPodHashCompatible("myserver", "uid:1:hash", () -> numChecks.incrementAndGet() > 0);
+    boolean compatible = info.isPodHashCompatible("myserver", "uid:1:hash", () -> numChecks.incrementAndGet() > 0);
+
+    assertThat(compatible, Is.is(true));
+    assertThat(numChecks.get(), equalTo(1));
+  }
+
+  @Test
+  void whenPodHashCompatibilityKeyChanges_runCheckAgain() {
+    AtomicInteger numChecks = new AtomicInteger();
+
+    info.isPodHashCompatible("myserver", "uid:1:hash", () -> numChecks.incrementAndGet() > 0);
+    boolean compatible = info.isPodHashCompatible("myserver", "uid:2:hash", () -> numChecks.incrementAndGet() > 1);
+
+    assertThat(compatible, Is.is(true));
+    assertThat(numChecks.get(), equalTo(2));
+  }
+
+  @Test
+  void podHashCompatibilityIsCachedPerServer() {
+    AtomicInteger numChecks = new AtomicInteger();
+
+    info.isPodHashCompatible("server1", "uid:1:hash", () -> numChecks.incrementAndGet() > 0);
+    info.isPodHashCompatible("server2", "uid:1:hash", () -> numChecks.incrementAndGet() > 0);
+
+    assertThat(numChecks.get(), equalTo(2));
+  }
+
+  @Test
+  void whenDomainGenerationUnchanged_getServerReturnsSameSpec() {
+    DomainPresenceInfo info = createDomainPresenceInfo(createDomainWithGeneration(1L));
+
+    EffectiveServerSpec spec = info.getServer("ms1", null);
+
+    assertThat(info.getServer("ms1", null), sameInstance(spec));
+  }
+
+  @Test
+  void whenDomainGenerationChanges_getServerReturnsNewSpec() {
+    DomainResource domain = createDomainWithGeneration(1L);
+    DomainPresenceInfo info = createDomainPresenceInfo(domain);
+    EffectiveServerSpec spec = info.getServer("ms1", null);
+
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(info.getServer("ms1", null), not(sameInstance(spec)));
+  }
+
+  @Test
+  void whenDomainGenerationUnknown_getServerReturnsNewSpec() {
+    DomainPresenceInfo info = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+
+    EffectiveServerSpec spec = info.getServer("ms1", null);
+
+    assertThat(info.getServer("ms1", null), not(sameInstance(spec)));
+  }
+
+  @Test
+  void whenClusterReplicasChange_getServerReturnsNewSpec() {
+    DomainPresenceInfo info = createDomainPresenceInfo(createDomainWithGeneration(1L));
+    ClusterResource cluster = createClusterResource(CLUSTER_1).withReplicas(1);
+    cluster.getMetadata().setGeneration(1L);
+    info.addClusterResource(cluster);
+    EffectiveServerSpec spec = info.getServer("ms1", CLUSTER_1);
+
+    cluster.getSpec().setReplicas(2);
+
+    assertThat(info.getServer("ms1", CLUSTER_1), not(sameInstance(spec)));
+  }
+
+  @Test
+  void cachedServerSpec_returnsSeparateCopiesOfInitContainers() {
+    DomainResource domain = createDomainWithGeneration(1L);
+    DomainConfiguratorFactory.forDomain(domain).withInitContainer(new V1Container().name("init").image("busybox"));
+    DomainPresenceInfo info = createDomainPresenceInfo(domain);
+
+    info.getServer("ms1", null).getInitContainers().get(0).setImage("changed");
+
+    assertThat(info.getServer("ms1", null).getInitContainers().get(0).getImage(), equalTo("busybox"));
+  }
+
+  private DomainResource createDomainWithGeneration(long generation) {
+    DomainResource domain = createDomain(NAMESPACE, DOMAIN_UID);
+    domain.getMetadata().setGeneration(generation);
+    return domain;
+  }
+
   @Test
   void whenNoneDefined_getPodDisruptionBudgetReturnsNull() {
     assertThat(info.getPodDisruptionBudget("cluster"), nullValue());
@@ -0,0 +1,92 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.AVAILABLE;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
+import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.SERVER_POD;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+class DomainStatusFingerprintTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private DomainStatus createStatus(String serverState) {
+    return new DomainStatus()
+        .withServers(List.of(new ServerStatus().withServerName("ms1").withState(serverState)
+            .withHealth(new ServerHealth().withOverallHealth("ok").withActivationTime(SystemClock.now()))))
+        .addCondition(new DomainCondition(AVAILABLE).withStatus(true));
+  }
+
+  @Test
+  void whenNoStatus_fingerprintIsNull() {
+    assertThat(DomainStatusFingerprint.of(null), nullValue());
+  }
+
+  @Test
+  void whenOnlyObservationTimesDiffer_fingerprintsAreEqual() {
+    final DomainStatus first = createStatus("RUNNING");
+    final DomainStatus second = new DomainStatus(first);
+    SystemClockTestSupport.increment(60);
+    second.getServers().get(0).getHealth().withActivationTime(SystemClock.now());
+    second.getConditions().get(0).setLastTransitionTime(SystemClock.now());
+
+    assertThat(DomainStatusFingerprint.of(second), equalTo(DomainStatusFingerprint.of(first)));
+  }
+
+  @Test
+  void whenServerStateDiffers_fingerprintsDiffer() {
+    assertThat(DomainStatusFingerprint.of(createStatus("SHUTDOWN")),
+        not(equalTo(DomainStatusFingerprint.of(createStatus("RUNNING")))));
+  }
+
+  @Test
+  void whenLastFailureTimeDiffers_fingerprintsDiffer() {
+    final DomainStatus first = createStatus("RUNNING");
+    final DomainStatus second = new DomainStatus(first);
+    SystemClockTestSupport.increment(60);
+    second.addCondition(new DomainCondition(FAILED).withReason(SERVER_POD).withMessage("failed"));
+    first.addCondition(new DomainCondition(FAILED).withReason(SERVER_POD).withMessage("failed")
+        .withLastTransitionTime(SystemClock.now().minusSeconds(30)));
+
+    assertThat(DomainStatusFingerprint.of(second), not(equalTo(DomainStatusFingerprint.of(first))));
+  }
+
+  @Test
+  void computingFingerprint_doesNotModifyStatus() {
+    final DomainStatus status = createStatus("RUNNING");
+    final DomainStatus copy = new DomainStatus(status);
+
+    DomainStatusFingerprint.of(status);
+
+    assertThat(status, equalTo(copy));
+  }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -20,6 +21,7 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ObjectReference;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Watch;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.operator.DomainNamespaces;
 import oracle.kubernetes.operator.DomainProcessorDelegateStub;
 import oracle.kubernetes.operator.DomainProcessorImpl;
@@ -32,6 +34,7 @@ import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainFailureReason;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -132,6 +135,8 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.START_MAN
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.STOP_MANAGING_NAMESPACE;
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.EVENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_AGGREGATION_WINDOW_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_EVENT_UPDATES_PER_OBJECT;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -798,6 +803,116 @@ class EventHelperTest {
             EventConstants.START_MANAGING_NAMESPACE_EVENT, 2), is(true));
   }
 
+  @Test
+  void whenEventUpdatesForObjectExceedLimit_dontWriteFurtherRepeatsImmediately() {
+    TuningParametersStub.setParameter(MAX_EVENT_UPDATES_PER_OBJECT, "1");
+    Step step = createEventStep(new EventData(START_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS));
+    testSupport.runSteps(step);
+    dispatchAddedEventWatches();
+
+    runStepsRepeatedly(step, 3);
+
+    assertThat("Found 1 START_MANAGING_NAMESPACE event with count 2",
+        containsOneEventWithCount(getEvents(testSupport),
+            EventConstants.START_MANAGING_NAMESPACE_EVENT, 2), is(true));
+  }
+
+  @Test
+  void whenAggregationWindowEnds_writeAggregatedRepeats() {
+    TuningParametersStub.setParameter(MAX_EVENT_UPDATES_PER_OBJECT, "1");
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "30");
+    Step step = createEventStep(new EventData(START_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS));
+    testSupport.runSteps(step);
+    dispatchAddedEventWatches();
+
+    runStepsRepeatedly(step, 3);
+    testSupport.setTime(31, TimeUnit.SECONDS);
+
+    assertThat("Found 1 START_MANAGING_NAMESPACE event with count 4",
+        containsOneEventWithCount(getEvents(testSupport),
+            EventConstants.START_MANAGING_NAMESPACE_EVENT, 4), is(true));
+  }
+
+  @Test
+  void whenEventUpdatesForObjectExceedLimit_countAggregatedRepeats() {
+    TuningParametersStub.setParameter(MAX_EVENT_UPDATES_PER_OBJECT, "1");
+    Step step = createEventStep(new EventData(START_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS));
+    testSupport.runSteps(step);
+    dispatchAddedEventWatches();
+    final double before = getAggregatedRepeatsCount();
+
+    runStepsRepeatedly(step, 3);
+
+    assertThat(getAggregatedRepeatsCount() - before, equalTo(2.0));
+  }
+
+  @Test
+  void whenNoEventUpdateLimit_writeEveryRepeat() {
+    TuningParametersStub.setParameter(MAX_EVENT_UPDATES_PER_OBJECT, "0");
+    Step step = createEventStep(new EventData(START_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS));
+    testSupport.runSteps(step);
+    dispatchAddedEventWatches();
+
+    runStepsRepeatedly(step, 12);
+
+    assertThat("Found 1 START_MANAGING_NAMESPACE event with count 13",
+        containsOneEventWithCount(getEvents(testSupport),
+            EventConstants.START_MANAGING_NAMESPACE_EVENT, 13), is(true));
+  }
+
+  @Test
+  void whenAggregatedRepeatsWritten_cachedEventHasPatchedResourceVersion() {
+    TuningParametersStub.setParameter(MAX_EVENT_UPDATES_PER_OBJECT, "1");
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_WINDOW_SECONDS, "30");
+    Step step = createEventStep(new EventData(START_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS));
+    testSupport.runSteps(step);
+    dispatchAddedEventWatches();
+    runStepsRepeatedly(step, 3);
+
+    testSupport.doOnUpdate(EVENT, e -> ((CoreV1Event) e).getMetadata().resourceVersion("42"));
+    testSupport.setTime(31, TimeUnit.SECONDS);
+
+    assertThat(getCachedEvent(EventConstants.START_MANAGING_NAMESPACE_EVENT).getMetadata().getResourceVersion(),
+        equalTo("42"));
+  }
+
+  @Test
+  void whenEventWriteFails_runNextStepWithoutWaiting() {
+    TerminalStep terminalStep = new TerminalStep();
+    testSupport.failOnCreate(EVENT, OP_NS, HTTP_UNAVAILABLE);
+
+    testSupport.runSteps(createEventStep(null,
+        new EventData(START_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS), terminalStep));
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenNextStepRunsBeforeEventWrite_eventIsWritten() {
+    testSupport.runSteps(createEventStep(null,
+        new EventData(START_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS), new TerminalStep()));
+
+    assertThat(containsOneEventWithCount(getEvents(testSupport),
+            EventConstants.START_MANAGING_NAMESPACE_EVENT, 1), is(true));
+  }
+
+  private CoreV1Event getCachedEvent(String reason) {
+    final CoreV1Event event = getEvents(testSupport).stream()
+        .filter(e -> reason.equals(e.getReason())).findFirst().orElseThrow();
+    return DomainProcessorImpl.getEventK8SObjects(event).getExistingEvent(event);
+  }
+
+  private void runStepsRepeatedly(Step step, int numTimes) {
+    for (int i = 0; i < numTimes; i++) {
+      testSupport.runSteps(step);
+    }
+  }
+
+  private double getAggregatedRepeatsCount() {
+    final Double value = CollectorRegistry.defaultRegistry.getSampleValue("wko_event_repeats_aggregated_total");
+    return value == null ? 0 : value;
+  }
+
   @Test
   void whenStartManagingNSEventCreated_thenDelete_eventCreatedTwice() {
     Step step = createEventStep(new EventData(START_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS));
@@ -0,0 +1,189 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.HttpCircuitBreaker.State.CLOSED;
+import static oracle.kubernetes.operator.helpers.HttpCircuitBreaker.State.HALF_OPEN;
+import static oracle.kubernetes.operator.helpers.HttpCircuitBreaker.State.OPEN;
+import static oracle.kubernetes.operator.tuning.TuningParameters.HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD;
+import static oracle.kubernetes.operator.tuning.TuningParameters.HTTP_CIRCUIT_BREAKER_INITIAL_BACKOFF_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.HTTP_CIRCUIT_BREAKER_MAX_BACKOFF_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class HttpCircuitBreakerTest {
+
+  private static final String NAMESPACE = "ns";
+  private static final String DOMAIN_UID = "domain";
+  private static final String SERVER_NAME = "ms1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final HttpCircuitBreaker circuitBreaker = new HttpCircuitBreaker();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(NAMESPACE, DOMAIN_UID);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    TuningParametersStub.setParameter(HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD, "3");
+    TuningParametersStub.setParameter(HTTP_CIRCUIT_BREAKER_INITIAL_BACKOFF_SECONDS, "10");
+    TuningParametersStub.setParameter(HTTP_CIRCUIT_BREAKER_MAX_BACKOFF_SECONDS, "30");
+  }
+
+  @AfterEach
+  void tearDown() {
+    info.resetHttpCircuitBreaker(SERVER_NAME);
+    mementos.forEach(Memento::revert);
+  }
+
+  private void recordFailures(int count) {
+    for (int i = 0; i < count; i++) {
+      circuitBreaker.recordFailure();
+    }
+  }
+
+  @Test
+  void whenFewerFailuresThanThreshold_circuitRemainsClosed() {
+    recordFailures(2);
+
+    assertThat(circuitBreaker.getState(), is(CLOSED));
+    assertThat(circuitBreaker.allowRequest(), is(true));
+  }
+
+  @Test
+  void whenFailureThresholdReached_circuitOpensAndRejectsRequests() {
+    recordFailures(3);
+
+    assertThat(circuitBreaker.getState(), is(OPEN));
+    assertThat(circuitBreaker.allowRequest(), is(false));
+  }
+
+  @Test
+  void afterBackoffInterval_permitSingleProbe() {
+    recordFailures(3);
+    SystemClockTestSupport.increment(10);
+
+    assertThat(circuitBreaker.allowRequest(), is(true));
+    assertThat(circuitBreaker.getState(), is(HALF_OPEN));
+    assertThat(circuitBreaker.allowRequest(), is(false));
+  }
+
+  @Test
+  void whenProbeSucceeds_closeCircuit() {
+    recordFailures(3);
+    SystemClockTestSupport.increment(10);
+    circuitBreaker.allowRequest();
+
+    circuitBreaker.recordSuccess();
+
+    assertThat(circuitBreaker.getState(), is(CLOSED));
+    assertThat(circuitBreaker.allowRequest(), is(true));
+  }
+
+  @Test
+  void whenProbeFails_reopenWithDoubledBackoff() {
+    recordFailures(3);
+    SystemClockTestSupport.increment(10);
+    circuitBreaker.allowRequest();
+
+    circuitBreaker.recordFailure();
+    SystemClockTestSupport.increment(10);
+
+    assertThat(circuitBreaker.getState(), is(OPEN));
+    assertThat(circuitBreaker.allowRequest(), is(false));
+    SystemClockTestSupport.increment(10);
+    assertThat(circuitBreaker.allowRequest(), is(true));
+  }
+
+  @Test
+  void backoffDoesNotExceedMaximum() {
+    recordFailures(3);
+    for (int i = 0; i < 5; i++) {
+      SystemClockTestSupport.increment(30);
+      circuitBreaker.allowRequest();
+      circuitBreaker.recordFailure();
+    }
+
+    SystemClockTestSupport.increment(30);
+
+    assertThat(circuitBreaker.allowRequest(), is(true));
+  }
+
+  @Test
+  void whenCircuitOpens_publishMetric() {
+    for (int i = 0; i < 3; i++) {
+      info.recordHttpRequestFailure(SERVER_NAME);
+    }
+
+    assertThat(getCircuitBreakerStateMetric(), equalTo(1.0));
+  }
+
+  private Double getCircuitBreakerStateMetric() {
+    return CollectorRegistry.defaultRegistry.getSampleValue("wko_http_circuit_breaker_state",
+        new String[] {"namespace", "domain_uid", "server_name"}, new String[] {NAMESPACE, DOMAIN_UID, SERVER_NAME});
+  }
+
+  @Test
+  void whenRequestSucceeds_clearMetric() {
+    for (int i = 0; i < 3; i++) {
+      info.recordHttpRequestFailure(SERVER_NAME);
+    }
+
+    info.recordHttpRequestSuccess(SERVER_NAME);
+
+    assertThat(getCircuitBreakerStateMetric(), nullValue());
+    assertThat(info.getHttpRequestFailureCount(SERVER_NAME), equalTo(0));
+  }
+
+  @Test
+  void whenPodReadinessChanges_resetCircuitBreaker() {
+    info.setServerPodFromEvent(SERVER_NAME, createPod("1", false));
+    for (int i = 0; i < 3; i++) {
+      info.recordHttpRequestFailure(SERVER_NAME);
+    }
+
+    info.setServerPodFromEvent(SERVER_NAME, createPod("2", true));
+
+    assertThat(info.isHttpRequestAllowed(SERVER_NAME), is(true));
+  }
+
+  @Test
+  void whenPodEventDoesNotChangeReadiness_circuitRemainsOpen() {
+    info.setServerPodFromEvent(SERVER_NAME, createPod("1", false));
+    for (int i = 0; i < 3; i++) {
+      info.recordHttpRequestFailure(SERVER_NAME);
+    }
+
+    info.setServerPodFromEvent(SERVER_NAME, createPod("2", false));
+
+    assertThat(info.isHttpRequestAllowed(SERVER_NAME), is(false));
+  }
+
+  private V1Pod createPod(String resourceVersion, boolean ready) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name(SERVER_NAME).namespace(NAMESPACE).uid("uid")
+            .resourceVersion(resourceVersion).creationTimestamp(SystemClock.now()))
+        .status(new V1PodStatus().phase("Running")
+            .addConditionsItem(new V1PodCondition().type("Ready").status(ready ? "True" : "False")));
+  }
+}
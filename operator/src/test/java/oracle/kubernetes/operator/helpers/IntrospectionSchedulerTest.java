@@ -0,0 +1,266 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_INTROSPECTIONS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_INTROSPECTIONS_PER_NAMESPACE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+class IntrospectionSchedulerTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final IntrospectionScheduler scheduler = new IntrospectionScheduler();
+  private final List<String> introspectedDomains = new ArrayList<>();
+  private final Map<String, Packet> domainPackets = new HashMap<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(IntrospectionScheduler.class, "instance", scheduler));
+
+    TuningParametersStub.setParameter(MAX_CONCURRENT_INTROSPECTIONS, "2");
+    TuningParametersStub.setParameter(MAX_CONCURRENT_INTROSPECTIONS_PER_NAMESPACE, "0");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void requestIntrospection(String namespace, String domainUid) {
+    requestIntrospection(namespace, domainUid, false);
+  }
+
+  private void requestIntrospection(String namespace, String domainUid, boolean firstIntrospection) {
+    runIntrospection(namespace, domainUid, firstIntrospection, null);
+  }
+
+  // Requests introspection from a fiber which remains running after it is granted a permit.
+  private void requestIntrospectionAndKeepRunning(String namespace, String domainUid) {
+    runIntrospection(namespace, domainUid, false, new KeepRunningStep());
+  }
+
+  private void runIntrospection(String namespace, String domainUid, boolean firstIntrospection, Step next) {
+    final Packet packet = createDomainPacket(namespace, domainUid);
+    domainPackets.put(domainUid, packet);
+    testSupport.runSteps(packet, Step.chain(
+          IntrospectionScheduler.createAcquirePermitStep(firstIntrospection),
+          new RecordIntrospectionStep(domainUid),
+          next));
+  }
+
+  private Packet createDomainPacket(String namespace, String domainUid) {
+    final Packet packet = new Packet();
+    new DomainPresenceInfo(namespace, domainUid).addToPacket(packet);
+    return packet;
+  }
+
+  private void releasePermit(String domainUid) {
+    scheduler.release(domainPackets.get(domainUid));
+  }
+
+  private class RecordIntrospectionStep extends Step {
+    private final String domainUid;
+
+    RecordIntrospectionStep(String domainUid) {
+      this.domainUid = domainUid;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      introspectedDomains.add(domainUid);
+      return doNext(packet);
+    }
+  }
+
+  private static class KeepRunningStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  @Test
+  void whenPermitsAvailable_introspectImmediately() {
+    requestIntrospection(NS1, "domain1");
+    requestIntrospection(NS1, "domain2");
+
+    assertThat(introspectedDomains, contains("domain1", "domain2"));
+  }
+
+  @Test
+  void whenGlobalLimitReached_waitForPermit() {
+    requestIntrospection(NS1, "domain1");
+    requestIntrospection(NS2, "domain2");
+    requestIntrospection(NS1, "domain3");
+
+    assertThat(introspectedDomains, contains("domain1", "domain2"));
+    assertThat(scheduler.getNumWaitingRequests(), equalTo(1));
+  }
+
+  @Test
+  void whenPermitReleased_nextWaitingDomainIntrospects() {
+    requestIntrospection(NS1, "domain1");
+    requestIntrospection(NS2, "domain2");
+    requestIntrospection(NS1, "domain3");
+
+    releasePermit("domain1");
+
+    assertThat(introspectedDomains, contains("domain1", "domain2", "domain3"));
+    assertThat(scheduler.getNumWaitingRequests(), equalTo(0));
+  }
+
+  @Test
+  void whenNamespaceLimitReached_domainsInOtherNamespacesIntrospect() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_INTROSPECTIONS, "0");
+    TuningParametersStub.setParameter(MAX_CONCURRENT_INTROSPECTIONS_PER_NAMESPACE, "1");
+
+    requestIntrospection(NS1, "domain1");
+    requestIntrospection(NS1, "domain2");
+    requestIntrospection(NS2, "domain3");
+
+    assertThat(introspectedDomains, contains("domain1", "domain3"));
+  }
+
+  @Test
+  void whenPermitReleased_firstIntrospectionTakesPriorityOverReintrospection() {
+    requestIntrospection(NS1, "domain1");
+    requestIntrospection(NS1, "domain2");
+    requestIntrospection(NS1, "domain3");
+    requestIntrospection(NS1, "domain4", true);
+
+    releasePermit("domain1");
+
+    assertThat(introspectedDomains, contains("domain1", "domain2", "domain4"));
+  }
+
+  @Test
+  void whenDomainAlreadyHoldsPermit_reuseIt() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_INTROSPECTIONS, "1");
+
+    requestIntrospection(NS1, "domain1");
+    requestIntrospection(NS1, "domain1");
+
+    assertThat(introspectedDomains, contains("domain1", "domain1"));
+    assertThat(scheduler.getNumPermitsHeld(), equalTo(1));
+  }
+
+  @Test
+  void whenWaitingDomainRemoved_dontIntrospectIt() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_INTROSPECTIONS, "1");
+    requestIntrospection(NS1, "domain1");
+    requestIntrospection(NS1, "domain2");
+
+    scheduler.removeDomain(NS1, "domain2");
+    releasePermit("domain1");
+
+    assertThat(introspectedDomains, contains("domain1"));
+    assertThat(scheduler.getNumPermitsHeld(), equalTo(0));
+  }
+
+  @Test
+  void whenReleaseStepRun_permitIsReleased() {
+    requestIntrospection(NS1, "domain1");
+
+    testSupport.runSteps(domainPackets.get("domain1"), IntrospectionScheduler.createReleasePermitStep(null));
+
+    assertThat(scheduler.getNumPermitsHeld(), equalTo(0));
+  }
+
+  @Test
+  void whenPermitReleased_removeItFromPacket() {
+    requestIntrospection(NS1, "domain1");
+
+    releasePermit("domain1");
+
+    assertThat(domainPackets.get("domain1").get("introspectionPermit"), nullValue());
+  }
+
+  @Test
+  void whenFiberWithoutPermitReleases_runningHolderKeepsPermit() {
+    requestIntrospectionAndKeepRunning(NS1, "domain1");
+
+    scheduler.release(createDomainPacket(NS1, "domain1"));
+
+    assertThat(scheduler.getNumPermitsHeld(), equalTo(1));
+  }
+
+  @Test
+  void whenFiberWithoutPermitReleases_permitOfFinishedHolderIsReleased() {
+    requestIntrospection(NS1, "domain1");
+
+    scheduler.release(createDomainPacket(NS1, "domain1"));
+
+    assertThat(scheduler.getNumPermitsHeld(), equalTo(0));
+  }
+
+  @Test
+  void whenPermitTakenOverByLaterRequest_earlierHolderCannotReleaseIt() {
+    requestIntrospectionAndKeepRunning(NS1, "domain1");
+    final Packet earlierPacket = domainPackets.get("domain1");
+    requestIntrospectionAndKeepRunning(NS1, "domain1");
+
+    scheduler.release(earlierPacket);
+
+    assertThat(scheduler.getNumPermitsHeld(), equalTo(1));
+  }
+
+  @Test
+  void whenPermitTakenOverByLaterRequest_laterHolderReleasesIt() {
+    requestIntrospectionAndKeepRunning(NS1, "domain1");
+    requestIntrospectionAndKeepRunning(NS1, "domain1");
+
+    releasePermit("domain1");
+
+    assertThat(scheduler.getNumPermitsHeld(), equalTo(0));
+  }
+
+  @Test
+  void whenNoDomainsWaiting_queueMetricIsZero() {
+    requestIntrospection(NS1, "domain1");
+
+    assertThat(getQueuedMetric(), equalTo(0.0));
+    assertThat(introspectedDomains, not(empty()));
+  }
+
+  @Test
+  void whenDomainsWaiting_queueMetricCountsThem() {
+    requestIntrospection(NS1, "domain1");
+    requestIntrospection(NS1, "domain2");
+    requestIntrospection(NS1, "domain3");
+    requestIntrospection(NS1, "domain4");
+
+    assertThat(getQueuedMetric(), equalTo(2.0));
+  }
+
+  private Double getQueuedMetric() {
+    return CollectorRegistry.defaultRegistry.getSampleValue("wko_introspections_queued");
+  }
+}
@@ -0,0 +1,230 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.common.utils.LogMatcher.containsSevere;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.LabelConstants.JOBNAME_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
+import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTOR_LOG_FOLLOWER;
+import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD;
+import static oracle.kubernetes.operator.helpers.IntrospectorLogFollower.POLL_INTERVAL_SECONDS;
+import static oracle.kubernetes.operator.helpers.JobHelper.INTROSPECTOR_LOG_PREFIX;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class IntrospectorLogFollowerTest {
+
+  private static final String JOB_NAME = LegalNames.toJobIntrospectorName(UID);
+  private static final String POD_NAME = JOB_NAME + "-x7k2p";
+  private static final long DEADLINE_SECONDS = 120;
+  private static final String SEVERE_MESSAGE = "@[SEVERE] really bad";
+  private static final String INFO_MESSAGE = "@[INFO] reading the model";
+  private static final String COMPLETE_MESSAGE = "@[INFO] just letting you know. " + DOMAIN_INTROSPECTION_COMPLETE;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final List<String> messages = new ArrayList<>();
+  private final TerminalStep terminalStep = new TerminalStep();
+  private IntrospectorLogFollower follower;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().collectAllLogMessages(logRecords));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    follower = new IntrospectorLogFollower(NS, UID, JOB_NAME, DEADLINE_SECONDS, messages::add);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  // Returns the log as read with timestamps, one second apart.
+  private static String timestampedLog(String... lines) {
+    final StringBuilder log = new StringBuilder();
+    for (int i = 0; i < lines.length; i++) {
+      log.append(String.format("2023-05-01T10:00:%02d.000000000Z %s%n", i, lines[i]));
+    }
+    return log.toString();
+  }
+
+  private V1ContainerStatus defineJobPod(V1ContainerState state) {
+    final V1ContainerStatus containerStatus = new V1ContainerStatus().name(JOB_NAME).state(state);
+    testSupport.defineResources(new V1Pod()
+        .metadata(new V1ObjectMeta().name(POD_NAME).namespace(NS).labels(Map.of(JOBNAME_LABEL, JOB_NAME)))
+        .status(new V1PodStatus().addContainerStatusesItem(containerStatus)));
+    return containerStatus;
+  }
+
+  private V1ContainerState running() {
+    return new V1ContainerState().running(new V1ContainerStateRunning());
+  }
+
+  private void startFollower() {
+    testSupport.runSteps(follower.createStartStep(terminalStep));
+  }
+
+  @Test
+  void afterStarting_runNextStepWithoutWaiting() {
+    startFollower();
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whileContainerRunning_reportCompletedMessages() {
+    defineJobPod(running());
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog("starting", SEVERE_MESSAGE, INFO_MESSAGE));
+
+    startFollower();
+
+    assertThat(messages, contains(INTROSPECTOR_LOG_PREFIX + SEVERE_MESSAGE));
+  }
+
+  @Test
+  void whenLogGrows_reportOnlyNewMessages() {
+    defineJobPod(running());
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, INFO_MESSAGE));
+    startFollower();
+
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, INFO_MESSAGE, COMPLETE_MESSAGE, ">>> a"));
+    testSupport.setTime(POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(messages, contains(
+        INTROSPECTOR_LOG_PREFIX + SEVERE_MESSAGE,
+        INTROSPECTOR_LOG_PREFIX + INFO_MESSAGE,
+        INTROSPECTOR_LOG_PREFIX + COMPLETE_MESSAGE));
+  }
+
+  @Test
+  void whileContainerWaiting_dontReadLog() {
+    defineJobPod(new V1ContainerState().waiting(new V1ContainerStateWaiting().reason("PodInitializing")));
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, INFO_MESSAGE));
+
+    startFollower();
+
+    assertThat(messages, empty());
+  }
+
+  @Test
+  void afterStopped_reportNoMoreMessages() {
+    defineJobPod(running());
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, INFO_MESSAGE));
+    startFollower();
+
+    assertThat(follower.stop(), equalTo(1));
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, INFO_MESSAGE, COMPLETE_MESSAGE));
+    testSupport.setTime(POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(messages, contains(INTROSPECTOR_LOG_PREFIX + SEVERE_MESSAGE));
+  }
+
+  @Test
+  void afterContainerTerminated_stopReadingLog() {
+    defineJobPod(new V1ContainerState().terminated(new V1ContainerStateTerminated().exitCode(1)));
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, INFO_MESSAGE));
+    startFollower();
+
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, INFO_MESSAGE, COMPLETE_MESSAGE));
+    testSupport.setTime(POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(messages, contains(INTROSPECTOR_LOG_PREFIX + SEVERE_MESSAGE));
+  }
+
+  @Test
+  void afterDeadline_stopReadingLog() {
+    final V1ContainerStatus containerStatus
+        = defineJobPod(new V1ContainerState().waiting(new V1ContainerStateWaiting().reason("ContainerCreating")));
+    startFollower();
+
+    testSupport.setTime(DEADLINE_SECONDS + POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    containerStatus.state(running());
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, INFO_MESSAGE));
+    testSupport.setTime(DEADLINE_SECONDS + 2 * POLL_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(messages, empty());
+  }
+
+  @Test
+  void whenFollowerReportedMessages_finalLogReadDoesNotLogThemAgain() {
+    defineJobPod(running());
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, COMPLETE_MESSAGE));
+    startFollower();
+
+    readFinalLog(String.join(System.lineSeparator(), SEVERE_MESSAGE, COMPLETE_MESSAGE));
+
+    assertThat(logRecords, not(containsSevere(INTROSPECTOR_LOG_PREFIX + SEVERE_MESSAGE)));
+    assertThat(logRecords, containsInfo(INTROSPECTOR_LOG_PREFIX + COMPLETE_MESSAGE));
+    logRecords.clear();
+  }
+
+  @Test
+  void whenFollowerReportedSevereMessage_finalLogReadStillReportsFailure() {
+    defineJobPod(running());
+    testSupport.definePodLog(POD_NAME, NS, timestampedLog(SEVERE_MESSAGE, COMPLETE_MESSAGE));
+    startFollower();
+
+    readFinalLog(String.join(System.lineSeparator(), SEVERE_MESSAGE, COMPLETE_MESSAGE));
+    logRecords.clear();
+
+    DomainResource updatedDomain = testSupport.getResourceWithName(DOMAIN, UID);
+    assertThat(updatedDomain.getStatus().getMessage(), containsString("really bad"));
+  }
+
+  private void readFinalLog(String log) {
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+    testSupport.defineResources(domain);
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo(domain));
+    testSupport.addToPacket(JOB_POD, new V1Pod().metadata(new V1ObjectMeta().name(JOB_NAME)));
+    testSupport.addToPacket(DOMAIN_INTROSPECTOR_JOB,
+        new V1Job().metadata(new V1ObjectMeta().uid(UID)).status(IntrospectionTestUtils.createCompletedStatus()));
+    testSupport.addToPacket(INTROSPECTOR_LOG_FOLLOWER, follower);
+    testSupport.definePodLog(JOB_NAME, NS, log);
+
+    testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(new TerminalStep()));
+  }
+}
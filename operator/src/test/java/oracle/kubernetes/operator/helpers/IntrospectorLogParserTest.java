@@ -0,0 +1,84 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static java.lang.System.lineSeparator;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+class IntrospectorLogParserTest {
+
+  private static final String PREFIX = "Log: ";
+
+  private final List<String> messages = new ArrayList<>();
+  private final IntrospectorLogParser parser = new IntrospectorLogParser(PREFIX, messages::add);
+
+  private static String lines(String... lines) {
+    return String.join("\n", lines);
+  }
+
+  @Test
+  void linesBeforeFirstMessage_areIgnored() {
+    parser.parse(lines("starting", "@[INFO] first")).complete();
+
+    assertThat(messages, contains(PREFIX + "@[INFO] first"));
+  }
+
+  @Test
+  void linesWhichDoNotStartMessages_areAddedToPreviousMessage() {
+    parser.parse(lines("@[SEVERE] failed", "  caused by something", "@[INFO] next")).complete();
+
+    assertThat(messages, contains(
+          PREFIX + "@[SEVERE] failed" + lineSeparator() + "caused by something", PREFIX + "@[INFO] next"));
+  }
+
+  @Test
+  void fileContents_areNotAddedToMessages() {
+    parser.parse(lines("@[FINE] Printing file topology.yaml",
+          ">>>  /u01/introspect/domain1/topology.yaml", "domainValid: true", ">>> EOF", "",
+          "@[INFO] done")).complete();
+
+    assertThat(messages, contains(PREFIX + "@[FINE] Printing file topology.yaml", PREFIX + "@[INFO] done"));
+  }
+
+  @Test
+  void messageSplitAcrossPieces_isReportedWhenNextMessageStarts() {
+    parser.parse("@[INFO] first par").parse("t\r\n  more\r\n@[INF");
+    assertThat(messages, empty());
+
+    parser.parse("O] second\n").complete();
+    assertThat(messages, contains(PREFIX + "@[INFO] first part" + lineSeparator() + "more",
+          PREFIX + "@[INFO] second"));
+  }
+
+  @Test
+  void updateResultMarker_doesNotStartFile() {
+    parser.parse(lines(">>>  updatedomainResult=0", DOMAIN_INTROSPECTION_COMPLETE)).complete();
+
+    assertThat(parser.isIntrospectionComplete(), is(true));
+  }
+
+  @Test
+  void whenLogReportsCompletion_introspectionIsComplete() {
+    parser.parse(lines("@[INFO] " + DOMAIN_INTROSPECTION_COMPLETE)).complete();
+
+    assertThat(parser.isIntrospectionComplete(), is(true));
+  }
+
+  @Test
+  void whenOnlyFileContentsReportCompletion_introspectionIsNotComplete() {
+    parser.parse(lines(">>>  /tmp/file", DOMAIN_INTROSPECTION_COMPLETE, ">>> EOF")).complete();
+
+    assertThat(parser.isIntrospectionComplete(), is(false));
+    assertThat(messages, empty());
+  }
+}
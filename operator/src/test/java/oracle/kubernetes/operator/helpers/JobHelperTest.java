@@ -121,6 +121,7 @@ import static oracle.kubernetes.operator.helpers.StepContextConstants.OPSS_WALLE
 import static oracle.kubernetes.operator.helpers.StepContextConstants.WDTCONFIGMAP_MOUNT_PATH;
 import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS;
 import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_PLATFORM_NAME;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_INTROSPECTIONS;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.SERVER_POD;
 import static oracle.kubernetes.weblogic.domain.model.IntrospectorJobEnvVars.MII_USE_ONLINE_UPDATE;
@@ -2007,6 +2008,26 @@ class JobHelperTest extends DomainValidationTestBase {
     assertThat(job, nullValue());
   }
 
+  @Test
+  void whenNoIntrospectionPermitAvailable_dontCreateJobUntilReleased() throws NoSuchFieldException {
+    final IntrospectionScheduler scheduler = new IntrospectionScheduler();
+    mementos.add(StaticStubSupport.install(IntrospectionScheduler.class, "instance", scheduler));
+    TuningParametersStub.setParameter(MAX_CONCURRENT_INTROSPECTIONS, "1");
+    final Packet holderPacket = holdIntrospectionPermit("other-domain");
+
+    runCreateJob();
+    assertThat(job, nullValue());
+
+    scheduler.release(holderPacket);
+    assertThat(job, notNullValue());
+  }
+
+  private Packet holdIntrospectionPermit(String domainUid) {
+    final Packet packet = new Packet();
+    new DomainPresenceInfo(NS, domainUid).addToPacket(packet);
+    return testSupport.runSteps(packet, IntrospectionScheduler.createAcquirePermitStep(false));
+  }
+
   @Test
   void whenHaveExistingServersAndDomainConfigurationDoesNotMatchPacketValue_dontRunIntrospector() {
     domainPresenceInfo.setServerPod("ms1", new V1Pod());
@@ -0,0 +1,196 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.CACHED_EVENT_EXPIRY_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CACHED_EVENTS_PER_RESOURCE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class KubernetesEventObjectsTest {
+
+  private static final String NS = "namespace";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesEventObjects eventObjects = new KubernetesEventObjects();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventObjects.clear();
+    mementos.forEach(Memento::revert);
+  }
+
+  private CoreV1Event createEvent(String name, String reason) {
+    return new CoreV1Event()
+        .metadata(new V1ObjectMeta().name(name).namespace(NS).resourceVersion("123"))
+        .involvedObject(new V1ObjectReference().kind("Domain").namespace(NS).name("domain1").uid("abc"))
+        .reason(reason)
+        .message("message for " + reason)
+        .count(1);
+  }
+
+  @Test
+  void afterUpdate_findEventWithSameInvolvedObjectReasonAndMessage() {
+    eventObjects.update(createEvent("event1", "Created"));
+
+    assertThat(eventObjects.getExistingEvent(createEvent("other", "Created")).getMetadata().getName(),
+        equalTo("event1"));
+  }
+
+  @Test
+  void whenReasonDiffers_dontFindEvent() {
+    eventObjects.update(createEvent("event1", "Created"));
+
+    assertThat(eventObjects.getExistingEvent(createEvent("event1", "Changed")), nullValue());
+  }
+
+  @Test
+  void whenInvolvedObjectUidDiffers_dontFindEvent() {
+    eventObjects.update(createEvent("event1", "Created"));
+    final CoreV1Event event = createEvent("event1", "Created");
+    event.getInvolvedObject().setUid("def");
+
+    assertThat(eventObjects.getExistingEvent(event), nullValue());
+  }
+
+  @Test
+  void cachedEvent_keepsOnlyFieldsNeededToUpdateIt() {
+    final CoreV1Event event = createEvent("event1", "Created");
+    event.getMetadata().uid("xyz").addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kube"));
+    eventObjects.update(event);
+
+    final CoreV1Event cached = eventObjects.getExistingEvent(event);
+    assertThat(cached.getMetadata().getResourceVersion(), equalTo("123"));
+    assertThat(cached.getMetadata().getUid(), nullValue());
+    assertThat(cached.getMetadata().getManagedFields(), nullValue());
+  }
+
+  @Test
+  void whenCachedEventUpdated_returnUpdatedCount() {
+    final CoreV1Event event = createEvent("event1", "Created");
+    eventObjects.update(event);
+
+    eventObjects.getExistingEvent(event).count(5);
+
+    assertThat(eventObjects.getExistingEvent(event).getCount(), equalTo(5));
+  }
+
+  @Test
+  void whenLimitExceeded_forgetLeastRecentlyUpdatedEvent() {
+    TuningParametersStub.setParameter(MAX_CACHED_EVENTS_PER_RESOURCE, "2");
+    eventObjects.update(createEvent("event1", "First"));
+    eventObjects.update(createEvent("event2", "Second"));
+    eventObjects.update(createEvent("event1", "First"));
+
+    eventObjects.update(createEvent("event3", "Third"));
+
+    assertThat(eventObjects.getExistingEvent(createEvent("event2", "Second")), nullValue());
+    assertThat(eventObjects.getExistingEvent(createEvent("event1", "First")), notNullValue());
+    assertThat(eventObjects.size(), equalTo(2));
+  }
+
+  @Test
+  void whenEventNotUpdatedBeforeExpiry_forgetIt() {
+    TuningParametersStub.setParameter(CACHED_EVENT_EXPIRY_SECONDS, "60");
+    eventObjects.update(createEvent("event1", "Created"));
+
+    SystemClockTestSupport.increment(61);
+
+    assertThat(eventObjects.getExistingEvent(createEvent("event1", "Created")), nullValue());
+  }
+
+  @Test
+  void whenExpiredEventLookedUp_dontRemoveIt() {
+    TuningParametersStub.setParameter(CACHED_EVENT_EXPIRY_SECONDS, "60");
+    eventObjects.update(createEvent("event1", "Created"));
+    SystemClockTestSupport.increment(61);
+
+    eventObjects.getExistingEvent(createEvent("event1", "Created"));
+
+    assertThat(eventObjects.size(), equalTo(1));
+  }
+
+  @Test
+  void whenExpiredEventsRemoved_forgetOnlyExpiredEvents() {
+    TuningParametersStub.setParameter(CACHED_EVENT_EXPIRY_SECONDS, "60");
+    eventObjects.update(createEvent("event1", "First"));
+    SystemClockTestSupport.increment(30);
+    eventObjects.update(createEvent("event2", "Second"));
+    SystemClockTestSupport.increment(31);
+
+    eventObjects.removeExpiredEvents();
+
+    assertThat(eventObjects.size(), equalTo(1));
+    assertThat(eventObjects.getExistingEvent(createEvent("event2", "Second")), notNullValue());
+  }
+
+  @Test
+  void whenNoTuningParameters_useDefaultLimits() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(TuningParameters.class, "instance", null));
+    eventObjects.update(createEvent("event1", "Created"));
+
+    assertThat(eventObjects.getExistingEvent(createEvent("event1", "Created")), notNullValue());
+  }
+
+  @Test
+  void whenEventsCached_recordEstimatedHeapUsage() {
+    final double before = getCachedEventsHeapBytes();
+
+    eventObjects.update(createEvent("event1", "Created"));
+
+    assertThat(getCachedEventsHeapBytes() - before, greaterThan(0.0));
+  }
+
+  @Test
+  void whenEventsCleared_releaseEstimatedHeapUsage() {
+    final double before = getCachedEventsHeapBytes();
+    eventObjects.update(createEvent("event1", "Created"));
+    eventObjects.update(createEvent("event2", "Changed"));
+
+    eventObjects.clear();
+
+    assertThat(getCachedEventsHeapBytes(), equalTo(before));
+    assertThat(eventObjects.size(), equalTo(0));
+  }
+
+  @Test
+  void afterRemove_dontFindEvent() {
+    eventObjects.update(createEvent("event1", "Created"));
+
+    eventObjects.remove(createEvent("event1", "Created"));
+
+    assertThat(eventObjects.getExistingEvent(createEvent("event1", "Created")), nullValue());
+  }
+
+  private double getCachedEventsHeapBytes() {
+    final Double value = CollectorRegistry.defaultRegistry.getSampleValue("wko_cached_events_heap_bytes");
+    return value == null ? 0 : value;
+  }
+}
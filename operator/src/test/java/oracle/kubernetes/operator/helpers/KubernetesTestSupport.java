@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -24,6 +25,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
@@ -141,6 +143,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   private int numCalls;
   private boolean addCreationTimestamp;
   private EmptyResponse emptyResponse;
+  private ListDelay listDelay;
 
   /**
    * Installs a factory into CallBuilder to use canned responses.
@@ -392,6 +395,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.list, resourceType, null, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that the response to a list operation should be delayed if it matches the specified conditions.
+   * The response is delivered once the simulated time has advanced by the delay. Applies to namespaced resources
+   * and replaces any existing list delay.
+   *
+   * @param resourceType the type of resource
+   * @param namespace the namespace containing the resource
+   * @param delaySeconds the number of seconds to delay the response
+   */
+  public void delayOnList(String resourceType, String namespace, int delaySeconds) {
+    listDelay = new ListDelay(resourceType, namespace, delaySeconds);
+  }
+
   /**
    * Specifies that a create operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -699,6 +715,24 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
   }
 
+  static class ListDelay {
+    private final String resourceType;
+    private final String namespace;
+    private final int delaySeconds;
+
+    ListDelay(@Nonnull String resourceType, String namespace, int delaySeconds) {
+      this.resourceType = resourceType;
+      this.namespace = namespace;
+      this.delaySeconds = delaySeconds;
+    }
+
+    boolean matches(String resourceType, RequestParams requestParams, Operation operation) {
+      return this.resourceType.equals(resourceType)
+          && operation == Operation.list
+          && (namespace == null || Objects.equals(namespace, requestParams.namespace));
+    }
+  }
+
   static class AfterCallAction {
     private final String resourceType;
     private final String call;
@@ -733,16 +767,28 @@ public class KubernetesTestSupport extends FiberTestSupport {
   }
 
   private class KubernetesTestSupportMemento implements Memento {
+    private final Memento eventRecorderMemento;
 
     public KubernetesTestSupportMemento() {
       CallBuilder.setStepFactory(new AsyncRequestStepFactoryImpl());
       CallBuilder.setCallDispatcher(new CallDispatcherImpl());
+      eventRecorderMemento = installEventRecorder();
+    }
+
+    // Event rate limits are kept per involved object, so each test needs a recorder with no history.
+    private Memento installEventRecorder() {
+      try {
+        return StaticStubSupport.install(EventRecorder.class, "instance", new EventRecorder());
+      } catch (NoSuchFieldException e) {
+        throw new IllegalStateException(e);
+      }
     }
 
     @Override
     public void revert() {
       CallBuilder.resetStepFactory();
       CallBuilder.resetCallDispatcher();
+      eventRecorderMemento.revert();
     }
 
     @Override
@@ -1405,7 +1451,20 @@ public class KubernetesTestSupport extends FiberTestSupport {
         packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(createResponse(e, getRequestParams())));
       }
 
-      return doNext(packet);
+      return doNextAfterAnyDelay(packet);
+    }
+
+    private NextAction doNextAfterAnyDelay(Packet packet) {
+      if (listDelay == null
+          || !listDelay.matches(callContext.resourceType, getRequestParams(), callContext.operation)) {
+        return doNext(packet);
+      }
+
+      try {
+        return doDelay(getNext(), packet, listDelay.delaySeconds, TimeUnit.SECONDS);
+      } finally {
+        listDelay = null;
+      }
     }
 
     private RequestParams getRequestParams() {
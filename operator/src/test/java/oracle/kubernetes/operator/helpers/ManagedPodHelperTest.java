@@ -1,8 +1,10 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.net.URI;
+import java.net.http.HttpRequest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,21 +27,27 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodAffinityTerm;
 import io.kubernetes.client.openapi.models.V1PodAntiAffinity;
 import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.client.HttpResponseStub;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.ServerConfigurator;
+import oracle.kubernetes.weblogic.domain.model.ServerEnvVars;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.common.AuxiliaryImageConstants.AUXILIARY_IMAGE_DEFAULT_INIT_CONTAINER_COMMAND;
 import static oracle.kubernetes.common.AuxiliaryImageConstants.AUXILIARY_IMAGE_INIT_CONTAINER_NAME_PREFIX;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_INVALID_EVENT_ERROR;
@@ -53,7 +61,10 @@ import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.common.utils.LogMatcher.containsSevere;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
 import static oracle.kubernetes.operator.LabelConstants.TO_BE_ROLLED_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.WARM_STANDBY_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_TO_ROLL;
+import static oracle.kubernetes.operator.WebLogicConstants.ADMIN_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.helpers.AdminPodHelperTest.CUSTOM_MOUNT_PATH2;
 import static oracle.kubernetes.operator.helpers.DomainIntrospectorJobTest.TEST_VOLUME_NAME;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_FAILED;
@@ -73,6 +84,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
@@ -106,6 +118,8 @@ class ManagedPodHelperTest extends PodHelperTestBase {
   private static final String END_VALUE_4_DNS1123 = "ess-server1-volume";
   private static final String CLUSTER_NAME = "test-cluster";
 
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
+
   public ManagedPodHelperTest() {
     super(SERVER_NAME, LISTEN_PORT);
   }
@@ -174,6 +188,128 @@ class ManagedPodHelperTest extends PodHelperTestBase {
     assertThat(getCreatedPod().getMetadata().getLabels(), hasEntry(TO_BE_ROLLED_LABEL, "true"));
   }
 
+  @Test
+  void whenServerIsWarmStandby_createManagedPodInAdminStartupMode() {
+    markServerAsWarmStandby();
+
+    assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar(ServerEnvVars.STARTUP_MODE, ADMIN_STATE));
+  }
+
+  @Test
+  void whenServerIsWarmStandbyAndSpecifiesStartupMode_createManagedPodInAdminStartupMode() {
+    testSupport.addToPacket(ProcessingConstants.ENVVARS, List.of(toEnvVar(ServerEnvVars.STARTUP_MODE, "RUNNING")));
+    markServerAsWarmStandby();
+
+    assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar(ServerEnvVars.STARTUP_MODE, ADMIN_STATE));
+  }
+
+  @Test
+  void whenServerIsNotWarmStandbyAndSpecifiesStartupMode_createManagedPodWithSpecifiedStartupMode() {
+    testSupport.addToPacket(ProcessingConstants.ENVVARS, List.of(toEnvVar(ServerEnvVars.STARTUP_MODE, "RUNNING")));
+
+    assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar(ServerEnvVars.STARTUP_MODE, "RUNNING"));
+  }
+
+  @Test
+  void whenServerIsWarmStandby_addWarmStandbyLabel() {
+    markServerAsWarmStandby();
+
+    assertThat(getCreatedPod().getMetadata().getLabels(), hasEntry(WARM_STANDBY_LABEL, "true"));
+  }
+
+  @Test
+  void whenServerIsNotWarmStandby_dontAddWarmStandbyLabel() {
+    assertThat(getCreatedPod().getMetadata().getLabels(), not(hasKey(WARM_STANDBY_LABEL)));
+  }
+
+  @Test
+  void whenWarmStandbyServerPromoted_patchPodToRemoveWarmStandbyLabelWithoutReplacingIt() {
+    markServerAsWarmStandby();
+    initializeExistingPod();
+    promoteWarmStandbyServer();
+
+    verifyPodPatched();
+
+    final V1Pod patchedPod = testSupport.getResourceWithName(KubernetesTestSupport.POD, getPodName());
+    assertThat(patchedPod.getMetadata().getLabels(), not(hasKey(WARM_STANDBY_LABEL)));
+    assertThat(getContainerEnv(patchedPod), hasEnvVar(ServerEnvVars.STARTUP_MODE, ADMIN_STATE));
+  }
+
+  @Test
+  void whenWarmStandbyServerInAdminStatePromoted_resumeIt() throws NoSuchFieldException {
+    defineWarmStandbyResponse("resume");
+    markServerAsWarmStandby();
+    initializeExistingPod();
+    promoteWarmStandbyServer();
+    domainPresenceInfo.updateLastKnownServerStatus(SERVER_NAME, ADMIN_STATE);
+
+    verifyPodPatched();
+
+    assertThat(httpSupport.getLastRequest().uri(), equalTo(createWarmStandbyRequest("resume").uri()));
+    assertThat(domainPresenceInfo.getLastKnownServerStatus(SERVER_NAME).getStatus(), equalTo(RUNNING_STATE));
+  }
+
+  @Test
+  void whenWarmStandbyServerPromotedBeforeReachingAdminState_dontResumeIt() throws NoSuchFieldException {
+    defineWarmStandbyResponse("resume");
+    markServerAsWarmStandby();
+    initializeExistingPod();
+    promoteWarmStandbyServer();
+
+    verifyPodPatched();
+
+    assertThat(httpSupport.getHandledRequests(), empty());
+  }
+
+  @Test
+  void whenRunningServerBecomesWarmStandby_patchPodWithoutReplacingItAndSuspendServer() throws NoSuchFieldException {
+    defineWarmStandbyResponse("suspend");
+    initializeExistingPod();
+    markServerAsWarmStandby();
+    domainPresenceInfo.updateLastKnownServerStatus(SERVER_NAME, RUNNING_STATE);
+
+    verifyPodPatched();
+
+    final V1Pod patchedPod = testSupport.getResourceWithName(KubernetesTestSupport.POD, getPodName());
+    assertThat(patchedPod.getMetadata().getLabels(), hasEntry(WARM_STANDBY_LABEL, "true"));
+    assertThat(httpSupport.getLastRequest().uri(), equalTo(createWarmStandbyRequest("suspend").uri()));
+    assertThat(domainPresenceInfo.getLastKnownServerStatus(SERVER_NAME).getStatus(), equalTo(ADMIN_STATE));
+  }
+
+  private void markServerAsWarmStandby() {
+    domainPresenceInfo.setServerStartupInfo(
+        List.of(new ServerStartupInfo(getServerTopology(), null, null, true)));
+  }
+
+  private void promoteWarmStandbyServer() {
+    domainPresenceInfo.setServerStartupInfo(
+        List.of(new ServerStartupInfo(getServerTopology(), null, null, false)));
+  }
+
+  private List<V1EnvVar> getContainerEnv(V1Pod pod) {
+    return pod.getSpec().getContainers().get(0).getEnv();
+  }
+
+  // Defines what is needed for the warm standby transition request to the server to succeed.
+  private void defineWarmStandbyResponse(String operation) throws NoSuchFieldException {
+    mementos.add(httpSupport.install());
+    testSupport.defineResources(new V1Secret()
+          .metadata(new V1ObjectMeta().namespace(NS).name(CREDENTIALS_SECRET_NAME))
+          .data(Map.of(SecretHelper.USERNAME_KEY, "user".getBytes(),
+                SecretHelper.PASSWORD_KEY, "password".getBytes())));
+    domainPresenceInfo.setServerService(SERVER_NAME, new V1Service().metadata(
+          new V1ObjectMeta().namespace(NS).name(LegalNames.toServerServiceName(UID, SERVER_NAME))));
+    httpSupport.defineResponse(createWarmStandbyRequest(operation), createStub(HttpResponseStub.class, 200, ""));
+  }
+
+  private HttpRequest createWarmStandbyRequest(String operation) {
+    return HttpRequest.newBuilder()
+          .uri(URI.create("http://" + LegalNames.toServerServiceName(UID, SERVER_NAME) + "." + NS + ".svc:"
+                + LISTEN_PORT + "/management/weblogic/latest/serverRuntime/" + operation))
+          .POST(HttpRequest.BodyPublishers.noBody())
+          .build();
+  }
+
   private void reportUnexpectedUpdate(@Nonnull Object object) {
     throw new RuntimeException("unexpected update to pod " + getPodName((KubernetesObject) object));
   }
@@ -17,6 +17,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import javax.annotation.Nonnull;
@@ -137,6 +139,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
 import static oracle.kubernetes.operator.LabelConstants.MII_UPDATED_RESTART_REQUIRED_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.OPERATOR_VERSION;
 import static oracle.kubernetes.operator.ProcessingConstants.ENVVARS;
+import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTOR_CONFIG_MAP_VERSION;
 import static oracle.kubernetes.operator.ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE_RESTART_REQUIRED;
@@ -185,9 +188,11 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -220,7 +225,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
   private static final int READINESS_INITIAL_DELAY = 1;
   private static final boolean INCLUDE_SERVER_OUT_IN_POD_LOG = true;
 
-  private static final String CREDENTIALS_SECRET_NAME = "webLogicCredentialsSecretName";
+  static final String CREDENTIALS_SECRET_NAME = "webLogicCredentialsSecretName";
   private static final String STORAGE_VOLUME_NAME = "weblogic-domain-storage-volume";
   private static final String LATEST_IMAGE = "image:latest";
   private static final String VERSIONED_IMAGE = "image:1.2.3";
@@ -919,6 +924,71 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     assertThat(AnnotationHelper.getHash(patchedPod), equalTo(AnnotationHelper.getHash(createPodModel())));
   }
 
+  @Test
+  void afterUpgradingMiiDomainWith4_0_AuxImagesWithUidAndResourceVersion_patchIt() {
+    configureDomain().withAuxiliaryImages(getAuxiliaryImages("wdt-image:v1"));
+
+    useProductionHash();
+    V1Pod existingPod = loadPodModel(getReferenceMiiAuxImagePodYaml_4_0());
+    existingPod.getMetadata().uid("pod-uid").resourceVersion("1");
+    initializeExistingPod(existingPod);
+
+    verifyPodPatched();
+
+    V1Pod patchedPod = domainPresenceInfo.getServerPod(getServerName());
+    assertThat(AnnotationHelper.getHash(patchedPod), equalTo(AnnotationHelper.getHash(createPodModel())));
+  }
+
+  @Test
+  void whenSamePodFromEarlierOperatorVerifiedAgain_reuseHashCompatibilityResult() throws NoSuchFieldException {
+    configureDomain().withAuxiliaryImages(getAuxiliaryImages("wdt-image:v1"));
+    useProductionHash();
+    final CountingHash countingHash = new CountingHash();
+    mementos.add(countingHash.install());
+    consoleHandlerMemento.ignoreMessage(getPatchedMessageKey());
+    testSupport.defineResources(createEarlierOperatorPodWithUidAndResourceVersion());
+
+    verifyEarlierOperatorPodWithUidAndResourceVersion();
+    final int firstVerificationHashes = countingHash.getAndReset();
+    verifyEarlierOperatorPodWithUidAndResourceVersion();
+
+    assertThat(countingHash.getAndReset(), lessThan(firstVerificationHashes));
+  }
+
+  private void verifyEarlierOperatorPodWithUidAndResourceVersion() {
+    domainPresenceInfo.setServerPod(getServerName(), createEarlierOperatorPodWithUidAndResourceVersion());
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+  }
+
+  private V1Pod createEarlierOperatorPodWithUidAndResourceVersion() {
+    V1Pod pod = loadPodModel(getReferenceMiiAuxImagePodYaml_4_0());
+    pod.getMetadata().uid("pod-uid").resourceVersion("1");
+    return pod;
+  }
+
+  // Counts the computations of the hash used for pods created by earlier operator versions.
+  private static class CountingHash implements Function<Object, String> {
+    private final AtomicInteger count = new AtomicInteger();
+    private Function<Object, String> productionHash;
+
+    Memento install() throws NoSuchFieldException {
+      final Memento memento = StaticStubSupport.install(AnnotationHelper.class, "hashFunction", this);
+      productionHash = memento.getOriginalValue();
+      return memento;
+    }
+
+    int getAndReset() {
+      return count.getAndSet(0);
+    }
+
+    @Override
+    public String apply(Object object) {
+      count.incrementAndGet();
+      return productionHash.apply(object);
+    }
+  }
+
   @Test
   void afterUpgradingPlainPortPodFrom31_patchIt() {
     useProductionHash();
@@ -957,10 +1027,95 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     assertThat(AnnotationHelper.getHash(patchedPod), equalTo(AnnotationHelper.getHash(createPodModel())));
   }
 
+  @Test
+  void whenPodHasLegacyHashOfCurrentRecipe_patchItWithVersionedHash() throws NoSuchFieldException {
+    useProductionHash();
+    final V1Pod existingPod = createPodWithLegacyHash();
+    assertThat(AnnotationHelper.isLegacyPodHash(AnnotationHelper.getHash(existingPod)), is(true));
+    initializeExistingPod(existingPod);
+
+    verifyPodPatched();
+
+    V1Pod patchedPod = domainPresenceInfo.getServerPod(getServerName());
+    assertThat(AnnotationHelper.isLegacyPodHash(AnnotationHelper.getHash(patchedPod)), is(false));
+    assertThat(AnnotationHelper.getHash(patchedPod), equalTo(AnnotationHelper.getHash(createPodModel())));
+  }
+
+  // Creates the pod as an earlier operator version did, annotated with the YAML hash of its recipe.
+  private V1Pod createPodWithLegacyHash() throws NoSuchFieldException {
+    final Function<Object, String> legacyHash = AnnotationHelper::createHash;
+    final Memento legacyHashMemento = StaticStubSupport.install(AnnotationHelper.class, "podHashFunction", legacyHash);
+    try {
+      return createPodModel();
+    } finally {
+      legacyHashMemento.revert();
+      domainPresenceInfo.setPodRecipe(getServerName(), null);
+    }
+  }
+
   void useProductionHash() {
     hashMemento.revert();
   }
 
+  @Test
+  void whenRecipeInputsNotIdentified_dontCacheRecipe() {
+    createPodModel();
+
+    assertThat(domainPresenceInfo.getPodRecipe(getServerName()), nullValue());
+  }
+
+  @Test
+  void whenRecipeInputsUnchanged_reuseCachedRecipe() {
+    identifyRecipeInputs();
+    createPodModel();
+    final PodStepContext.PodRecipe cachedRecipe = domainPresenceInfo.getPodRecipe(getServerName());
+
+    createPodModel();
+
+    assertThat(cachedRecipe, notNullValue());
+    assertThat(domainPresenceInfo.getPodRecipe(getServerName()), sameInstance(cachedRecipe));
+  }
+
+  @Test
+  void whenDomainGenerationChanges_rebuildRecipe() {
+    identifyRecipeInputs();
+    createPodModel();
+
+    defineDomainImage(VERSIONED_IMAGE);
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(getContainerImage(createPodModel()), equalTo(VERSIONED_IMAGE));
+  }
+
+  @Test
+  void whenIntrospectorConfigMapVersionChanges_rebuildRecipe() {
+    identifyRecipeInputs();
+    createPodModel();
+    final PodStepContext.PodRecipe cachedRecipe = domainPresenceInfo.getPodRecipe(getServerName());
+
+    testSupport.addToPacket(INTROSPECTOR_CONFIG_MAP_VERSION, "2");
+    createPodModel();
+
+    assertThat(domainPresenceInfo.getPodRecipe(getServerName()), not(sameInstance(cachedRecipe)));
+  }
+
+  @Test
+  void modelsCreatedFromCachedRecipe_areIndependentCopies() {
+    identifyRecipeInputs();
+    createPodModel().getMetadata().putLabelsItem("added", "value");
+
+    assertThat(createPodModel().getMetadata().getLabels(), not(hasKey("added")));
+  }
+
+  private void identifyRecipeInputs() {
+    domain.getMetadata().setGeneration(1L);
+    testSupport.addToPacket(INTROSPECTOR_CONFIG_MAP_VERSION, "1");
+  }
+
+  private String getContainerImage(V1Pod pod) {
+    return pod.getSpec().getContainers().get(0).getImage();
+  }
+
   @Test
   void afterUpgradingMiiPodFrom31_patchIt() {
     useProductionHash();
@@ -612,7 +612,7 @@ class PodPresenceTest {
   // Returns a constant hash value to make canUseCurrentPod() in VerifyPodStep.apply to return true
   static class ConstantTestHash implements Function<Object, String> {
     public static Memento install() throws NoSuchFieldException {
-      return StaticStubSupport.install(AnnotationHelper.class, "hashFunction", new ConstantTestHash());
+      return UnitTestHash.installHashFunction(new ConstantTestHash());
     }
 
     @Override
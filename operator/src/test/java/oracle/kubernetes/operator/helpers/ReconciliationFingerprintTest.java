@@ -0,0 +1,100 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+class ReconciliationFingerprintTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+
+  private final DomainResource domain = new DomainResource()
+      .withMetadata(new V1ObjectMeta().namespace(NS).name(UID).generation(1L))
+      .withSpec(new DomainSpec().withDomainUid(UID));
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+
+  private V1Pod createPod(String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name("ms1").resourceVersion(resourceVersion));
+  }
+
+  @Test
+  void whenNoDomain_fingerprintIsNull() {
+    assertThat(ReconciliationFingerprint.of(new DomainPresenceInfo(NS, UID)), nullValue());
+  }
+
+  @Test
+  void whenNothingChanged_fingerprintsAreEqual() {
+    info.setServerPod("ms1", createPod("10"));
+    final String first = ReconciliationFingerprint.of(info);
+
+    assertThat(ReconciliationFingerprint.of(info), equalTo(first));
+  }
+
+  @Test
+  void whenDomainGenerationChanges_fingerprintChanges() {
+    final String first = ReconciliationFingerprint.of(info);
+
+    domain.getMetadata().generation(2L);
+
+    assertThat(ReconciliationFingerprint.of(info), not(equalTo(first)));
+  }
+
+  @Test
+  void whenDomainSpecChangesWithoutGenerationChange_fingerprintChanges() {
+    final String first = ReconciliationFingerprint.of(info);
+
+    domain.getSpec().setReplicas(3);
+
+    assertThat(ReconciliationFingerprint.of(info), not(equalTo(first)));
+  }
+
+  @Test
+  void whenPodResourceVersionChanges_fingerprintChanges() {
+    info.setServerPod("ms1", createPod("10"));
+    final String first = ReconciliationFingerprint.of(info);
+
+    info.setServerPod("ms1", createPod("11"));
+
+    assertThat(ReconciliationFingerprint.of(info), not(equalTo(first)));
+  }
+
+  @Test
+  void whenServiceResourceVersionChanges_fingerprintChanges() {
+    info.setServerPod("ms1", createPod("10"));
+    info.setServerService("ms1", new V1Service().metadata(new V1ObjectMeta().resourceVersion("20")));
+    final String first = ReconciliationFingerprint.of(info);
+
+    info.setServerService("ms1", new V1Service().metadata(new V1ObjectMeta().resourceVersion("21")));
+
+    assertThat(ReconciliationFingerprint.of(info), not(equalTo(first)));
+  }
+
+  @Test
+  void afterMakeRightRecorded_domainIsUnchanged() {
+    info.recordMakeRightFingerprint();
+
+    assertThat(info.isUnchangedSinceLastMakeRight(), is(true));
+  }
+
+  @Test
+  void afterMakeRightFingerprintCleared_domainIsNotUnchanged() {
+    info.recordMakeRightFingerprint();
+
+    info.clearMakeRightFingerprint();
+
+    assertThat(info.isUnchangedSinceLastMakeRight(), is(false));
+  }
+}
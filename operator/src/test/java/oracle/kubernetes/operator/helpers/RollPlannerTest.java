@@ -0,0 +1,159 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_POD_ROLLS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_POD_ROLLS_PER_NAMESPACE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_POD_ROLLS_PER_NODE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class RollPlannerTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String NODE1 = "node1";
+  private static final String NODE2 = "node2";
+  private static final Duration SERVER_ROLL_DURATION = Duration.ofMinutes(2);
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final RollPlanner planner = new RollPlanner();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenNoLimitsSet_grantAllPermits() {
+    assertThat(planner.tryAcquire(NS1, "domain1", "ms1", NODE1), is(true));
+    assertThat(planner.tryAcquire(NS1, "domain1", "ms2", NODE1), is(true));
+    assertThat(planner.tryAcquire(NS2, "domain2", "ms1", NODE1), is(true));
+  }
+
+  @Test
+  void whenGlobalLimitReached_denyPermit() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS, "2");
+    planner.tryAcquire(NS1, "domain1", "ms1", null);
+    planner.tryAcquire(NS2, "domain2", "ms1", null);
+
+    assertThat(planner.tryAcquire(NS1, "domain1", "ms2", null), is(false));
+  }
+
+  @Test
+  void whenServerAlreadyHoldsPermit_grantItAgain() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS, "1");
+    planner.tryAcquire(NS1, "domain1", "ms1", null);
+
+    assertThat(planner.tryAcquire(NS1, "domain1", "ms1", null), is(true));
+    assertThat(planner.getNumPermitsHeld(), equalTo(1));
+  }
+
+  @Test
+  void whenNamespaceLimitReached_grantPermitsInOtherNamespaces() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS_PER_NAMESPACE, "1");
+    planner.tryAcquire(NS1, "domain1", "ms1", null);
+
+    assertThat(planner.tryAcquire(NS1, "domain2", "ms1", null), is(false));
+    assertThat(planner.tryAcquire(NS2, "domain3", "ms1", null), is(true));
+  }
+
+  @Test
+  void whenNodeLimitReached_grantPermitsOnOtherNodes() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS_PER_NODE, "1");
+    planner.tryAcquire(NS1, "domain1", "ms1", NODE1);
+
+    assertThat(planner.tryAcquire(NS2, "domain2", "ms1", NODE1), is(false));
+    assertThat(planner.tryAcquire(NS2, "domain2", "ms1", NODE2), is(true));
+  }
+
+  @Test
+  void whenPermitReleased_grantNextRequest() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS, "1");
+    planner.tryAcquire(NS1, "domain1", "ms1", NODE1);
+
+    assertThat(planner.release(NS1, "domain1", "ms1"), notNullValue());
+    assertThat(planner.tryAcquire(NS1, "domain1", "ms2", NODE1), is(true));
+  }
+
+  @Test
+  void whenNoPermitHeld_releaseReturnsNull() {
+    assertThat(planner.release(NS1, "domain1", "ms1"), nullValue());
+  }
+
+  @Test
+  void whenDomainReleased_releaseOnlyItsPermits() {
+    planner.tryAcquire(NS1, "domain1", "ms1", NODE1);
+    planner.tryAcquire(NS1, "domain1", "ms2", NODE2);
+    planner.tryAcquire(NS1, "domain2", "ms1", NODE1);
+
+    planner.releaseDomain(NS1, "domain1");
+
+    assertThat(planner.getNumPermitsHeld(), equalTo(1));
+  }
+
+  @Test
+  void whenDomainReleased_nodeCapacityIsRestored() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS_PER_NODE, "1");
+    planner.tryAcquire(NS1, "domain1", "ms1", NODE1);
+
+    planner.releaseDomain(NS1, "domain1");
+
+    assertThat(planner.tryAcquire(NS2, "domain2", "ms1", NODE1), is(true));
+  }
+
+  @Test
+  void whenClustersRollInParallel_estimateIsLongestCluster() {
+    final Duration estimate = RollPlanner.estimateRollDuration(
+          Map.of("cluster1", 4, "cluster2", 2), clusterName -> 1, 0, SERVER_ROLL_DURATION);
+
+    assertThat(estimate, equalTo(SERVER_ROLL_DURATION.multipliedBy(4)));
+  }
+
+  @Test
+  void whenClusterAllowsParallelRolls_estimateCountsWaves() {
+    final Duration estimate = RollPlanner.estimateRollDuration(
+          Map.of("cluster1", 5), clusterName -> 2, 0, SERVER_ROLL_DURATION);
+
+    assertThat(estimate, equalTo(SERVER_ROLL_DURATION.multipliedBy(3)));
+  }
+
+  @Test
+  void whenRollBudgetIsSmallerThanClusterParallelism_estimateUsesBudget() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS, "2");
+
+    final Duration estimate = RollPlanner.estimateRollDuration(
+          Map.of("cluster1", 4, "cluster2", 4), clusterName -> 4, 0, SERVER_ROLL_DURATION);
+
+    assertThat(estimate, equalTo(SERVER_ROLL_DURATION.multipliedBy(4)));
+  }
+
+  @Test
+  void whenOnlyImmediateRestarts_estimateIsOneWave() {
+    final Duration estimate = RollPlanner.estimateRollDuration(
+          Collections.emptyMap(), clusterName -> 1, 3, SERVER_ROLL_DURATION);
+
+    assertThat(estimate, equalTo(SERVER_ROLL_DURATION));
+  }
+}
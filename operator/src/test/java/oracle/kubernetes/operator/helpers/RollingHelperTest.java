@@ -1,8 +1,9 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -61,10 +62,14 @@ import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_ROLL_START_EVENT_GENERATED;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_TO_ROLL;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_POD_ROLLS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 
 class RollingHelperTest {
@@ -83,6 +88,7 @@ class RollingHelperTest {
   private final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(domain);
   private final TerminalStep terminalStep = new TerminalStep();
   private final Map<String, StepAndPacket> rolling = new HashMap<>();
+  private final RollPlanner rollPlanner = new RollPlanner();
 
   protected final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   protected final List<Memento> mementos = new ArrayList<>();
@@ -101,6 +107,7 @@ class RollingHelperTest {
     mementos.add(testSupport.install());
     mementos.add(TuningParametersStub.install());
     mementos.add(UnitTestHash.install());
+    mementos.add(StaticStubSupport.install(RollPlanner.class, "instance", rollPlanner));
 
     WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(UID);
     configSupport.addWlsServer(ADMIN_SERVER, ADMIN_PORT);
@@ -274,6 +281,67 @@ class RollingHelperTest {
     ));
   }
 
+  @Test
+  void whenOperatorRollBudgetExhausted_noPodsReplaced() {
+    consoleHandlerMemento.trackMessage(MANAGED_POD_REPLACED);
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS, "1");
+    rollPlanner.tryAcquire(NS, "otherDomain", "otherServer", null);
+    initializeExistingPods();
+    CLUSTERED_SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(logRecords, not(containsInfo(MANAGED_POD_REPLACED)));
+  }
+
+  @Test
+  void whenOperatorRollBudgetAvailable_podsReplacedWithinBudget() {
+    consoleHandlerMemento.trackMessage(MANAGED_POD_REPLACED);
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_ROLLS, "2");
+    rollPlanner.tryAcquire(NS, "otherDomain", "otherServer", null);
+    initializeExistingPods();
+    CLUSTERED_SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(logRecords, containsInOrder(
+        containsInfo(MANAGED_POD_REPLACED).withParams(SERVER1_NAME),
+        containsInfo(MANAGED_POD_REPLACED).withParams(SERVER2_NAME),
+        containsInfo(MANAGED_POD_REPLACED).withParams(SERVER10_NAME)
+    ));
+  }
+
+  @Test
+  void afterClusterRolled_releaseRollPermits() {
+    initializeExistingPods();
+    CLUSTERED_SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(rollPlanner.getNumPermitsHeld(), equalTo(0));
+  }
+
+  @Test
+  void afterClusterRolled_recordServerRollDuration() {
+    initializeExistingPods();
+    CLUSTERED_SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(domainPresenceInfo.getServerRollDuration(), notNullValue());
+  }
+
+  @Test
+  void afterRollCompleted_clearPredictedCompletion() {
+    initializeExistingPods();
+    domainPresenceInfo.recordServerRollDuration(Duration.ofMinutes(2));
+    CLUSTERED_SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(domainPresenceInfo.getPredictedRollCompletion(), nullValue());
+  }
+
   private DomainConfigurator configureDomain() {
     return DomainConfiguratorFactory.forDomain(domain);
   }
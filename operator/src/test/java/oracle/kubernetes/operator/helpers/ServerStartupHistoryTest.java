@@ -0,0 +1,115 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.ServerStartupHistory.STARTUP_SECONDS_ANNOTATION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class ServerStartupHistoryTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final OffsetDateTime CREATION_TIME = OffsetDateTime.parse("2023-03-01T10:00:00Z");
+
+  private final DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+
+  @Test
+  void whenPodIsReady_measureTimeFromCreationToReady() {
+    assertThat(ServerStartupHistory.measureStartupDuration(createReadyPod(CREATION_TIME.plusSeconds(95))),
+          equalTo(Duration.ofSeconds(95)));
+  }
+
+  @Test
+  void whenPodIsNotReady_measureNothing() {
+    final V1Pod pod = createPod().status(new V1PodStatus().phase("Pending"));
+
+    assertThat(ServerStartupHistory.measureStartupDuration(pod), nullValue());
+  }
+
+  @Test
+  void whenPodHasStartupAnnotation_returnRecordedDuration() {
+    final V1Pod pod = createPod();
+    pod.getMetadata().putAnnotationsItem(STARTUP_SECONDS_ANNOTATION, "120");
+
+    assertThat(ServerStartupHistory.getRecordedStartupDuration(pod), equalTo(Duration.ofSeconds(120)));
+  }
+
+  @Test
+  void whenStartupAnnotationIsNotANumber_returnNull() {
+    final V1Pod pod = createPod();
+    pod.getMetadata().putAnnotationsItem(STARTUP_SECONDS_ANNOTATION, "soon");
+
+    assertThat(ServerStartupHistory.getRecordedStartupDuration(pod), nullValue());
+  }
+
+  @Test
+  void whenServerHasNoPod_returnDurationRecordedInDomainStatus() {
+    final DomainResource domain = new DomainResource().withMetadata(new V1ObjectMeta().name(UID).namespace(NS))
+          .withStatus(new DomainStatus().addServer(new ServerStatus().withServerName("ms1").withStartupSeconds(150)));
+
+    assertThat(new DomainPresenceInfo(domain).getServerStartupDuration("ms1"), equalTo(Duration.ofSeconds(150)));
+  }
+
+  @Test
+  void whenNoStartupTimesKnown_keepOriginalOrder() {
+    assertThat(getOrderedNames("ms1", "ms2", "ms3"), contains("ms1", "ms2", "ms3"));
+  }
+
+  @Test
+  void orderServersByLongestRecordedStartupFirst() {
+    info.recordServerStartupDuration("ms1", Duration.ofSeconds(60));
+    info.recordServerStartupDuration("ms2", Duration.ofSeconds(180));
+    info.recordServerStartupDuration("ms3", Duration.ofSeconds(120));
+
+    assertThat(getOrderedNames("ms1", "ms2", "ms3"), contains("ms2", "ms3", "ms1"));
+  }
+
+  @Test
+  void whenServerHasNoStartupTime_orderItAsAverage() {
+    info.recordServerStartupDuration("ms1", Duration.ofSeconds(60));
+    info.recordServerStartupDuration("ms3", Duration.ofSeconds(180));
+
+    assertThat(getOrderedNames("ms1", "ms2", "ms3"), contains("ms3", "ms2", "ms1"));
+  }
+
+  private List<String> getOrderedNames(String... serverNames) {
+    return ServerStartupHistory.orderLongestFirst(info, createStartupInfos(serverNames)).stream()
+          .map(ServerStartupInfo::getServerName)
+          .collect(Collectors.toList());
+  }
+
+  private List<ServerStartupInfo> createStartupInfos(String... serverNames) {
+    return List.of(serverNames).stream()
+          .map(name -> new ServerStartupInfo(new WlsServerConfig(name, "host", 8001), "cluster1", null))
+          .collect(Collectors.toList());
+  }
+
+  private V1Pod createPod() {
+    return new V1Pod().metadata(new V1ObjectMeta().name("pod").namespace(NS).creationTimestamp(CREATION_TIME));
+  }
+
+  private V1Pod createReadyPod(OffsetDateTime readyTime) {
+    return createPod().status(new V1PodStatus().phase("Running")
+          .addConditionsItem(new V1PodCondition().type("Ready").status("True").lastTransitionTime(readyTime)));
+  }
+}
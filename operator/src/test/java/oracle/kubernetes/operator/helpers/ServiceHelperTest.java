@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -25,6 +25,7 @@ import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.calls.UnrecoverableCallException;
@@ -62,6 +63,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.KUBERNETES_EVENT_ERRO
 import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_SERVICE_CREATED;
 import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_SERVICE_EXISTS;
 import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_SERVICE_REPLACED;
+import static oracle.kubernetes.common.logging.MessageKeys.SERVICE_PATCHED;
 import static oracle.kubernetes.common.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.operator.DomainStatusMatcher.hasStatus;
@@ -85,6 +87,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.stringContainsInOrder;
@@ -112,7 +115,8 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     MANAGED_SERVICE_REPLACED,
     EXTERNAL_CHANNEL_SERVICE_CREATED,
     EXTERNAL_CHANNEL_SERVICE_REPLACED,
-    EXTERNAL_CHANNEL_SERVICE_EXISTS
+    EXTERNAL_CHANNEL_SERVICE_EXISTS,
+    SERVICE_PATCHED
   };
   private static final String OLD_LABEL = "oldLabel";
   private static final String OLD_ANNOTATION = "annotation";
@@ -130,11 +134,11 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
   private static final String FAILURE_MESSAGE = "Test this failure";
   private final TerminalStep terminalStep = new TerminalStep();
   public TestFacade testFacade;
-  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
   private final List<LogRecord> logRecords = new ArrayList<>();
   private WlsServerConfig serverConfig;
-  private TestUtils.ConsoleHandlerMemento consoleHandlerMemento;
+  TestUtils.ConsoleHandlerMemento consoleHandlerMemento;
 
   ServiceHelperTest(TestFacade testFacade) {
     this.testFacade = testFacade;
@@ -526,23 +530,101 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
   }
 
   @Test
-  void whenConfiguredLabelAdded_replaceService() {
-    verifyServiceReplaced(this::configureNewLabel);
+  void whenMatchingServiceRecordedInDomainPresence_countUnchangedReconciliation() {
+    testFacade.recordService(domainPresenceInfo, createService());
+    final double before = getReconciliationCount(ServiceHelper.UNCHANGED);
+
+    runServiceHelper();
+
+    assertThat(getReconciliationCount(ServiceHelper.UNCHANGED) - before, equalTo(1.0));
+    assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
+  }
+
+  private double getReconciliationCount(String result) {
+    final Double value = CollectorRegistry.defaultRegistry.getSampleValue("wko_service_reconciliations_total",
+        new String[] {"service_type", "result"}, new String[] {testFacade.getType().toString(), result});
+    return value == null ? 0 : value;
+  }
+
+  @Test
+  void whenConfiguredLabelAdded_patchOrReplaceService() {
+    verifyServiceUpdated(this::configureNewLabel);
+  }
+
+  @Test
+  void whenConfiguredLabelChanged_patchOrReplaceService() {
+    verifyServiceUpdated(this::changeConfiguredLabel);
   }
 
   @Test
-  void whenConfiguredLabelChanged_replaceService() {
-    verifyServiceReplaced(this::changeConfiguredLabel);
+  void whenConfiguredAnnotationAdded_patchOrReplaceService() {
+    verifyServiceUpdated(this::configureNewAnnotation);
   }
 
   @Test
-  void whenConfiguredAnnotationAdded_replaceService() {
-    verifyServiceReplaced(this::configureNewAnnotation);
+  void whenConfiguredAnnotationChanged_patchOrReplaceService() {
+    verifyServiceUpdated(this::changeConfiguredAnnotation);
+  }
+
+  @Test
+  void whenConfiguredLabelAdded_updatedServiceHasNewLabel() {
+    recordInitialService();
+    configureNewLabel();
+
+    runServiceHelper();
+    logRecords.clear();
+
+    assertThat(getCreatedService().getMetadata().getLabels(), hasEntry("newLabel", "value"));
+  }
+
+  @Test
+  void whenConfiguredLabelChanged_recordedServiceHasNewValue() {
+    recordInitialService();
+    changeConfiguredLabel();
+
+    runServiceHelper();
+    logRecords.clear();
+
+    assertThat(testFacade.getRecordedService(domainPresenceInfo).getMetadata().getLabels(),
+        hasEntry(OLD_LABEL, "newValue"));
   }
 
   @Test
-  void whenConfiguredAnnotationChanged_replaceService() {
-    verifyServiceReplaced(this::changeConfiguredAnnotation);
+  void afterServiceUpdated_nextRunFindsServiceUnchanged() {
+    recordInitialService();
+    configureNewAnnotation();
+    runServiceHelper();
+    logRecords.clear();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
+  }
+
+  // Only the labels and annotations of a service may be patched, and the external service is always
+  // replaced so that any conflicting NodePort services are first deleted.
+  private void verifyServiceUpdated(Runnable configurationMutator) {
+    if (isExternalService()) {
+      verifyServiceReplaced(configurationMutator);
+    } else {
+      verifyServicePatched(configurationMutator);
+    }
+  }
+
+  private boolean isExternalService() {
+    return testFacade instanceof ExternalServiceHelperTest.ExternalServiceTestFacade;
+  }
+
+  private void verifyServicePatched(Runnable configurationMutator) {
+    recordInitialService();
+    configurationMutator.run();
+    final double before = getReconciliationCount(ServiceHelper.PATCHED);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(SERVICE_PATCHED));
+    assertThat(getCreatedServices(), hasSize(1));
+    assertThat(getReconciliationCount(ServiceHelper.PATCHED) - before, equalTo(1.0));
   }
 
   @Test
@@ -557,7 +639,7 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
 
   private void verifyServiceReplaced(Runnable configurationMutator) {
     recordInitialService();
-    if (testFacade instanceof ExternalServiceHelperTest.ExternalServiceTestFacade) {
+    if (isExternalService()) {
       recordStrandedService();
     }
     configurationMutator.run();
@@ -1,8 +1,9 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.List;
 import java.util.function.Function;
 
 import com.meterware.simplestub.Memento;
@@ -10,11 +11,39 @@ import com.meterware.simplestub.StaticStubSupport;
 
 public class UnitTestHash implements Function<Object, String> {
   public static Memento install() throws NoSuchFieldException {
-    return StaticStubSupport.install(AnnotationHelper.class, "hashFunction", new UnitTestHash());
+    return installHashFunction(new UnitTestHash());
+  }
+
+  /**
+   * Replaces both the general and the pod hash functions with the specified function.
+   * @param hashFunction the function to use in place of the production hash functions
+   */
+  static Memento installHashFunction(Function<Object, String> hashFunction) throws NoSuchFieldException {
+    return new HashFunctionsMemento(
+        StaticStubSupport.install(AnnotationHelper.class, "hashFunction", hashFunction),
+        StaticStubSupport.install(AnnotationHelper.class, "podHashFunction", hashFunction));
   }
 
   @Override
   public String apply(Object object) {
     return Integer.toString(object.hashCode());
   }
+
+  private static class HashFunctionsMemento implements Memento {
+    private final List<Memento> mementos;
+
+    HashFunctionsMemento(Memento... mementos) {
+      this.mementos = List.of(mementos);
+    }
+
+    @Override
+    public void revert() {
+      mementos.forEach(Memento::revert);
+    }
+
+    @Override
+    public <T> T getOriginalValue() {
+      return mementos.get(0).getOriginalValue();
+    }
+  }
 }
@@ -1,8 +1,11 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.introspection;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,7 +13,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -28,6 +33,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainTopology;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.http.rest.ScanCacheStub;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.TerminalStep;
@@ -43,10 +49,13 @@ import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_INVALID_EVENT_
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.COMPRESSED_ENTRY_SUFFIX;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_ZIP;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.NUM_CONFIG_MAPS;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.PRIMORDIAL_DOMAIN_ZIP;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SECRETS_MD_5;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.TOPOLOGY_YAML;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.getIntrospectorConfigMapNamePrefix;
@@ -54,6 +63,7 @@ import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_FAILED;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_CONFIG_MAP_COMPRESSION;
 import static oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory.forDomain;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
@@ -99,6 +109,7 @@ class IntrospectorConfigMapTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
     mementos.add(ScanCacheStub.install());
+    mementos.add(TuningParametersStub.install());
     mementos.add(StaticStubSupport.install(ConfigMapSplitter.class, "dataLimit", TEST_DATA_LIMIT));
 
     testSupport.defineResources(domain);
@@ -366,6 +377,58 @@ class IntrospectorConfigMapTest {
     assertThat(getIntrospectionConfigMaps(), hasSize(NUM_MAPS_TO_CREATE));
   }
 
+  @Test
+  void whenCompressionEnabled_storeDomainZipsAsCompressedBinaryData() throws IOException {
+    TuningParametersStub.setParameter(INTROSPECTOR_CONFIG_MAP_COMPRESSION, "true");
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAIN_ZIP, "abcdefg")
+          .defineFile(PRIMORDIAL_DOMAIN_ZIP, "hijklmno")
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), allOf(not(hasKey(DOMAIN_ZIP)), not(hasKey(PRIMORDIAL_DOMAIN_ZIP))));
+    assertThat(getDecompressedBinaryValue(DOMAIN_ZIP + COMPRESSED_ENTRY_SUFFIX), equalTo("abcdefg"));
+    assertThat(getDecompressedBinaryValue(PRIMORDIAL_DOMAIN_ZIP + COMPRESSED_ENTRY_SUFFIX), equalTo("hijklmno"));
+  }
+
+  @Test
+  void whenCompressionNotEnabled_storeDomainZipsAsText() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAIN_ZIP, "abcdefg")
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), hasEntry(DOMAIN_ZIP, "abcdefg"));
+    assertThat(getIntrospectionConfigMap().map(V1ConfigMap::getBinaryData).orElse(null), nullValue());
+  }
+
+  @Test
+  void whenCompressionEnabled_compressibleDomainZipFitsInSingleMap() {
+    TuningParametersStub.setParameter(INTROSPECTOR_CONFIG_MAP_COMPRESSION, "true");
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAIN_ZIP, LARGE_DATA_VALUE)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectionConfigMaps(), hasSize(1));
+  }
+
+  private String getDecompressedBinaryValue(String key) throws IOException {
+    final byte[] compressed = getIntrospectionConfigMap()
+          .map(V1ConfigMap::getBinaryData)
+          .map(m -> m.get(key))
+          .orElseThrow();
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
   @Test
   void whenDomainHasRestartVersion_addToPacket() {
     configureDomain().withRestartVersion(RESTART_VERSION);
@@ -467,6 +530,42 @@ class IntrospectorConfigMapTest {
     assertThat(getIntrospectorConfigMapData(), allOf(not(hasKey("Sit-Cfg-1")), not(hasKey("Sit-Cfg-2"))));
   }
 
+  @Test
+  void whenIntrospectionResultUnchanged_dontUpdateConfigMaps() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(LARGE_DATA_KEY, LARGE_DATA_VALUE)
+          .addToPacket();
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+    final AtomicInteger numUpdates = new AtomicInteger();
+    testSupport.doOnUpdate(KubernetesTestSupport.CONFIG_MAP, m -> numUpdates.incrementAndGet());
+
+    introspectResult.addToPacket();
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(numUpdates.get(), equalTo(0));
+  }
+
+  @Test
+  void whenConfigMapOutdated_patchOnlyChangedEntries() {
+    final V1ConfigMap existingMap = createIntrospectorConfigMap(0, Map.of(
+          TOPOLOGY_YAML, TOPOLOGY_VALUE,
+          SECRETS_MD_5, "old secrets",
+          "obsolete", "value"));
+    existingMap.getMetadata().putAnnotationsItem("custom", "retained");
+    testSupport.defineResources(existingMap);
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SECRETS_MD_5, MD5_SECRETS)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), allOf(hasEntry(SECRETS_MD_5, MD5_SECRETS), not(hasKey("obsolete"))));
+    assertThat(getIntrospectionConfigMap().map(V1ConfigMap::getMetadata).map(V1ObjectMeta::getAnnotations)
+          .orElseGet(Collections::emptyMap), hasEntry("custom", "retained"));
+  }
+
   @Test
   void whenNoTopologySpecified_dontRemoveSitConfigEntries() {
     testSupport.defineResources(
@@ -0,0 +1,163 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import oracle.kubernetes.operator.work.TerminalStep;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_POD_OPERATIONS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class BulkPodOperationsTest {
+
+  private static final int OPERATION_SECONDS = 10;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final TerminalStep terminalStep = new TerminalStep();
+  private final AtomicInteger numStarted = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void runCreatePods(int numPods) {
+    testSupport.runSteps(BulkPodOperations.createPods(createPodOperations(numPods), terminalStep));
+  }
+
+  private void runDeletePods(int numPods) {
+    testSupport.runSteps(BulkPodOperations.deletePods(createPodOperations(numPods), terminalStep));
+  }
+
+  private List<StepAndPacket> createPodOperations(int numPods) {
+    return IntStream.range(0, numPods)
+          .mapToObj(i -> new StepAndPacket(new PodOperationStep(), new Packet()))
+          .collect(Collectors.toList());
+  }
+
+  private class PodOperationStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      numStarted.incrementAndGet();
+      return doDelay(null, packet, OPERATION_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void whenNoPodOperations_runNextStep() {
+    runCreatePods(0);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenNoLimit_startAllPodOperationsAtOnce() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_OPERATIONS, "0");
+
+    runCreatePods(5);
+
+    assertThat(numStarted.get(), equalTo(5));
+  }
+
+  @Test
+  void whenLimitSet_startNoMoreThanLimit() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_OPERATIONS, "2");
+
+    runCreatePods(5);
+
+    assertThat(numStarted.get(), equalTo(2));
+  }
+
+  @Test
+  void whenPodOperationCompletes_startNextOne() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_OPERATIONS, "2");
+
+    runCreatePods(5);
+    testSupport.setTime(OPERATION_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(numStarted.get(), equalTo(4));
+  }
+
+  @Test
+  void whenAllPodOperationsComplete_runNextStep() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_OPERATIONS, "2");
+
+    runCreatePods(5);
+    testSupport.setTime(3 * OPERATION_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenAllPodOperationsComplete_recordNumberOfPods() {
+    final double before = getPodOperationsCount(BulkPodOperations.CREATE);
+
+    runCreatePods(3);
+    testSupport.setTime(OPERATION_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(getPodOperationsCount(BulkPodOperations.CREATE) - before, equalTo(3.0));
+  }
+
+  @Test
+  void whenDeletionLimitSet_startNoMoreThanLimit() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_OPERATIONS, "2");
+
+    runDeletePods(5);
+
+    assertThat(numStarted.get(), equalTo(2));
+  }
+
+  @Test
+  void whenAllPodDeletionsComplete_runNextStep() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_POD_OPERATIONS, "2");
+
+    runDeletePods(5);
+    testSupport.setTime(3 * OPERATION_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenAllPodDeletionsComplete_recordNumberOfPodsDeleted() {
+    final double createdBefore = getPodOperationsCount(BulkPodOperations.CREATE);
+    final double deletedBefore = getPodOperationsCount(BulkPodOperations.DELETE);
+
+    runDeletePods(3);
+    testSupport.setTime(OPERATION_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(getPodOperationsCount(BulkPodOperations.DELETE) - deletedBefore, equalTo(3.0));
+    assertThat(getPodOperationsCount(BulkPodOperations.CREATE) - createdBefore, equalTo(0.0));
+  }
+
+  private double getPodOperationsCount(String operation) {
+    final Double value = CollectorRegistry.defaultRegistry.getSampleValue(
+          "wko_pod_operations_total", new String[] {"operation"}, new String[] {operation});
+    return value == null ? 0 : value;
+  }
+}
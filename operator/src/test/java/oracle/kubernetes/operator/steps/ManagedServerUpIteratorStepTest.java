@@ -1,9 +1,10 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -66,6 +67,7 @@ import static oracle.kubernetes.operator.steps.ManagedServerUpIteratorStep.SCHED
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
@@ -307,6 +309,19 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
     assertThat(getStartedManagedServers(), hasSize(1));
   }
 
+  @Test
+  void whenConcurrencyLimitIs1_serverWithLongestRecordedStartupStartsFirst() {
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(1);
+    info.recordServerStartupDuration(MS1, Duration.ofMinutes(2));
+    info.recordServerStartupDuration(MS2, Duration.ofMinutes(5));
+    addWlsCluster(CLUSTER1, MS1, MS2);
+
+    invokeStepWithServerStartupInfos();
+    testSupport.setTime(SCHEDULING_DETECTION_DELAY, TimeUnit.MILLISECONDS);
+
+    assertThat(getStartedManagedServers(), contains(MS2));
+  }
+
   @Test
   void whileAdminServerStopped_canStartManagedServer() {
     createDomainPresenceInfoWithNoAdminServer();
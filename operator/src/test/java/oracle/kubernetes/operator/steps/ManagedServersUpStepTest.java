@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -67,6 +67,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -474,6 +475,39 @@ class ManagedServersUpStepTest {
     assertThat(info.getExpectedRunningServers(), containsInAnyOrder("ms1", "ms2", "ms3"));
   }
 
+  @Test
+  void whenClusterHasWarmStandbyReplicas_startStandbyServersBeyondReplicas() {
+    configureCluster("cluster1").withReplicas(2).withWarmStandbyReplicas(1);
+    addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4");
+
+    invokeStep();
+
+    assertThat(getServers(), containsInAnyOrder("ms1", "ms2", "ms3"));
+    assertThat(getServerStartupInfo("ms3").isWarmStandby(), is(true));
+    assertThat(info.getExpectedRunningServers(), containsInAnyOrder("ms1", "ms2"));
+  }
+
+  @Test
+  void whenClusterHasWarmStandbyReplicas_doNotMarkReplicasAsStandby() {
+    configureCluster("cluster1").withReplicas(2).withWarmStandbyReplicas(1);
+    addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4");
+
+    invokeStep();
+
+    assertThat(info.isWarmStandbyServer("ms1"), is(false));
+    assertThat(info.isWarmStandbyServer("ms3"), is(true));
+  }
+
+  @Test
+  void whenClusterStartPolicyIsNever_doNotStartWarmStandbyServers() {
+    configureCluster("cluster1").withServerStartPolicy(ServerStartPolicy.NEVER).withWarmStandbyReplicas(1);
+    addWlsCluster("cluster1", "ms1", "ms2");
+
+    invokeStep();
+
+    assertThat(getServers(), empty());
+  }
+
   @Test
   void withStartPolicyAlways_addNonManagedServers() {
     startAllServers();
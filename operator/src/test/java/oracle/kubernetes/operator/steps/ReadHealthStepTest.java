@@ -23,6 +23,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
 import oracle.kubernetes.operator.http.client.HttpResponseStub;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
@@ -55,6 +56,7 @@ import static oracle.kubernetes.operator.steps.ReadHealthStep.OVERALL_HEALTH_NOT
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
@@ -254,6 +256,39 @@ class ReadHealthStepTest {
     assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("UNKNOWN"));
   }
 
+  @Test
+  void whenRepeatedFailuresOpenCircuitBreaker_dontSendRequest() {
+    selectServer(MANAGED_SERVER1);
+    for (int i = 0; i < TuningParameters.getInstance().getHttpCircuitBreakerFailureThreshold(); i++) {
+      info.recordHttpRequestFailure(MANAGED_SERVER1);
+    }
+
+    defineResponse(200, OK_RESPONSE, "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(readHealthStep);
+
+    assertThat(httpSupport.getHandledRequests(), empty());
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(),
+        equalTo(OVERALL_HEALTH_NOT_AVAILABLE));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("UNKNOWN"));
+  }
+
+  @Test
+  void afterCircuitBreakerBackoff_sendProbeRequest() {
+    selectServer(MANAGED_SERVER1);
+    for (int i = 0; i < TuningParameters.getInstance().getHttpCircuitBreakerFailureThreshold(); i++) {
+      info.recordHttpRequestFailure(MANAGED_SERVER1);
+    }
+    SystemClockTestSupport.increment(TuningParameters.getInstance().getHttpCircuitBreakerInitialBackoffSeconds());
+
+    defineResponse(200, OK_RESPONSE, "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(readHealthStep);
+
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+    assertThat(info.isHttpRequestAllowed(MANAGED_SERVER1), is(true));
+  }
+
   @Test
   void whenServerConfiguredWithServerListenPortOnly_readHealthUsingServerListenPort() {
     V1Service service = selectServer(DYNAMIC_MANAGED_SERVER2);
@@ -1,11 +1,13 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -43,9 +45,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class ServerDownIteratorStepTest {
@@ -78,12 +84,13 @@ class ServerDownIteratorStepTest {
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
   private final WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(DOMAIN_NAME);
 
-  private final Step nextStep = new TerminalStep();
+  private final TerminalStep nextStep = new TerminalStep();
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfoWithServers();
   private final WlsDomainConfig domainConfig = createDomainConfig();
   private List<ServerShutdownInfo> serverShutdownInfos;
+  private final RecordingPodAwaiterStepFactory podAwaiter = new RecordingPodAwaiterStepFactory();
 
   private static WlsDomainConfig createDomainConfig() {
     WlsClusterConfig clusterConfig = new WlsClusterConfig(CLUSTER);
@@ -140,7 +147,7 @@ class ServerDownIteratorStepTest {
     testSupport.addComponent(
             ProcessingConstants.PODWATCHER_COMPONENT_NAME,
             PodAwaiterStepFactory.class,
-            new PodHelperTestBase.DelayedPodAwaiterStepFactory(1));
+            podAwaiter);
   }
 
   @AfterEach
@@ -272,6 +279,75 @@ class ServerDownIteratorStepTest {
     assertThat(serverPodsBeingDeleted(), containsInAnyOrder(MS3, MS4));
   }
 
+  @Test
+  void whenServersShutDown_waitOnceForAllTheirPodsToBeDeleted() {
+    domainPresenceInfo = createDomainPresenceInfoWithServers(MS1, MS2);
+    configureCluster(CLUSTER).withMaxConcurrentShutdown(0);
+    addWlsCluster(CLUSTER, PORT, MS1, MS2);
+    testSupport.addDomainPresenceInfo(domainPresenceInfo);
+
+    createShutdownInfos()
+            .forClusteredServers(CLUSTER, MS1, MS2)
+            .shutdown();
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(podAwaiter.podSetsAwaited, contains(containsInAnyOrder(getPodName(MS1), getPodName(MS2))));
+  }
+
+  @Test
+  void whenServerPodsDeleted_clearThemFromDomainPresence() {
+    domainPresenceInfo = createDomainPresenceInfoWithServers(MS1, MS2);
+    configureCluster(CLUSTER).withMaxConcurrentShutdown(0);
+    addWlsCluster(CLUSTER, PORT, MS1, MS2);
+    testSupport.addDomainPresenceInfo(domainPresenceInfo);
+
+    createShutdownInfos()
+            .forClusteredServers(CLUSTER, MS1, MS2)
+            .shutdown();
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(serverPodsNotDeleted(), contains(ADMIN));
+  }
+
+  @Test
+  void whenShutDownServerHasNoPod_passNullEntryAndClearAllServersFromDomainPresence() {
+    domainPresenceInfo = createDomainPresenceInfoWithServers(MS3);
+    addWlsServers(MS3, MS4);
+    testSupport.addDomainPresenceInfo(domainPresenceInfo);
+
+    createShutdownInfos()
+            .forServers(MS3, MS4)
+            .shutdown();
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(podAwaiter.podSetsAwaited, contains(containsInAnyOrder(equalTo(getPodName(MS3)), nullValue())));
+    assertThat(serverPodsNotDeleted(), contains(ADMIN));
+    assertThat(nextStep.wasRun(), is(true));
+  }
+
+  private String getPodName(String serverName) {
+    return LegalNames.toPodName(UID, serverName);
+  }
+
+  // Records the names of the pods in each wait for a set of pods to be deleted, and lets the wait complete at once.
+  private static class RecordingPodAwaiterStepFactory extends PodHelperTestBase.DelayedPodAwaiterStepFactory {
+    private final List<List<String>> podSetsAwaited = new ArrayList<>();
+
+    RecordingPodAwaiterStepFactory() {
+      super(1);
+    }
+
+    @Override
+    public Step waitForAllDeleted(Collection<V1Pod> pods, Step next) {
+      podSetsAwaited.add(pods.stream().map(this::getName).collect(Collectors.toList()));
+      return next;
+    }
+
+    private String getName(V1Pod pod) {
+      return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getName).orElse(null);
+    }
+  }
+
   private List<String> serverPodsBeingDeleted() {
     return domainPresenceInfo.getServerNames().stream()
             .filter(s -> domainPresenceInfo.isServerPodBeingDeleted(s)).collect(Collectors.toList());
@@ -0,0 +1,100 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import oracle.kubernetes.operator.Pair;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.OK_RESPONSE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServerHealthParserTest {
+
+  private static final String FAILED_RESPONSE =
+      "{\n"
+          + "    \"overallHealthState\": {\n"
+          + "        \"state\": \"failed\",\n"
+          + "        \"subsystemName\": \"JMS\",\n"
+          + "        \"partitionName\": null,\n"
+          + "        \"symptoms\": [\"queue full\", \"store unavailable\"]\n"
+          + "    },\n"
+          + "    \"state\": \"FAILED\",\n"
+          + "    \"activationTime\": 1556759105378\n"
+          + "}";
+
+  @Test
+  void whenBodyIsNull_returnNull() throws IOException {
+    assertThat(ServerHealthParser.parse(null), nullValue());
+  }
+
+  @Test
+  void whenOkResponse_extractStateAndHealth() throws IOException {
+    Pair<String, ServerHealth> result = ServerHealthParser.parse(OK_RESPONSE);
+
+    assertThat(result.getLeft(), equalTo("RUNNING"));
+    assertThat(result.getRight(),
+        equalTo(new ServerHealth().withOverallHealth("ok").withActivationTime(toTime(1556759105378L))));
+  }
+
+  private OffsetDateTime toTime(long epochMillis) {
+    return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.of("UTC"));
+  }
+
+  @Test
+  void whenSubsystemReported_extractSubsystemHealth() throws IOException {
+    Pair<String, ServerHealth> result = ServerHealthParser.parse(FAILED_RESPONSE);
+
+    assertThat(result.getLeft(), equalTo("FAILED"));
+    assertThat(result.getRight().getSubsystems(),
+        contains(new SubsystemHealth().withSubsystemName("JMS").withSymptoms("queue full", "store unavailable")));
+  }
+
+  @Test
+  void whenStateIsNull_returnNullState() throws IOException {
+    Pair<String, ServerHealth> result = ServerHealthParser.parse("{\"state\": null}");
+
+    assertThat(result.getLeft(), nullValue());
+  }
+
+  @Test
+  void whenLargePayloadContainsUnrequestedFields_ignoreThem() throws IOException {
+    Pair<String, ServerHealth> result = ServerHealthParser.parse(createLargeServerRuntimePayload(500));
+
+    assertThat(result.getLeft(), equalTo("RUNNING"));
+    assertThat(result.getRight(),
+        equalTo(new ServerHealth().withOverallHealth("ok").withActivationTime(toTime(1556759105378L))));
+  }
+
+  private String createLargeServerRuntimePayload(int numApplications) {
+    StringBuilder sb = new StringBuilder("{\n  \"name\": \"managed-server1\",\n")
+        .append("  \"applicationRuntimes\": {\"items\": [");
+    for (int i = 0; i < numApplications; i++) {
+      sb.append(i == 0 ? "" : ",")
+          .append("{\"name\": \"app").append(i).append("\", \"state\": \"STATE_ACTIVE\", ")
+          .append("\"overallHealthState\": {\"state\": \"warn\", \"subsystemName\": \"app").append(i).append("\"}, ")
+          .append("\"componentRuntimes\": [{\"name\": \"web\", \"openSessionsCurrentCount\": ").append(i).append("}]}");
+    }
+    return sb.append("]},\n")
+        .append("  \"overallHealthState\": {\"state\": \"ok\", \"subsystemName\": null, \"symptoms\": []},\n")
+        .append("  \"state\": \"RUNNING\",\n")
+        .append("  \"activationTime\": 1556759105378\n")
+        .append("}").toString();
+  }
+
+  @Test
+  void whenBodyIsNotValidJson_throwException() {
+    assertThrows(IOException.class, () -> ServerHealthParser.parse("{\"state\": RUNNING"));
+  }
+}
@@ -0,0 +1,178 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.client.HttpResponseStub;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.common.logging.MessageKeys.WARM_STANDBY_STATE_CHANGED;
+import static oracle.kubernetes.common.logging.MessageKeys.WARM_STANDBY_STATE_CHANGE_FAILED;
+import static oracle.kubernetes.common.logging.MessageKeys.WARM_STANDBY_STATE_CHANGE_REQUESTED;
+import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static oracle.kubernetes.operator.WebLogicConstants.ADMIN_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class WarmStandbyStepTest {
+  // The log messages to be checked during this test
+  private static final String[] LOG_KEYS = {
+      WARM_STANDBY_STATE_CHANGE_REQUESTED, WARM_STANDBY_STATE_CHANGED, WARM_STANDBY_STATE_CHANGE_FAILED
+  };
+  private static final String UID = "test-domain";
+  private static final String NS = "namespace";
+  private static final String MANAGED_SERVER1 = "managed-server1";
+  private static final int LISTEN_PORT = 8001;
+  private static final String SERVER_URL
+        = "http://" + LegalNames.toServerServiceName(UID, MANAGED_SERVER1) + "." + NS + ".svc:" + LISTEN_PORT;
+
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
+  private final TerminalStep terminalStep = new TerminalStep();
+  private final WlsServerConfig serverConfig = new WlsServerConfig(MANAGED_SERVER1, "localhost", LISTEN_PORT);
+  private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, LOG_KEYS));
+    mementos.add(testSupport.install());
+    mementos.add(httpSupport.install());
+    mementos.add(TuningParametersStub.install());
+
+    testSupport.addDomainPresenceInfo(info);
+    testSupport.defineResources(domain);
+    DomainProcessorTestSetup.defineSecretData(testSupport);
+    info.setServerService(MANAGED_SERVER1, createServerService());
+    info.setServerPod(MANAGED_SERVER1, new V1Pod().metadata(createServerMetadata(MANAGED_SERVER1)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Service createServerService() {
+    return new V1Service().metadata(createServerMetadata(LegalNames.toServerServiceName(UID, MANAGED_SERVER1)));
+  }
+
+  private V1ObjectMeta createServerMetadata(String name) {
+    return KubernetesUtils.withOperatorLabels(UID, new V1ObjectMeta().name(name).namespace(NS))
+          .putLabelsItem(SERVERNAME_LABEL, MANAGED_SERVER1);
+  }
+
+  private void defineResponse(String operation, int status) {
+    httpSupport.defineResponse(createExpectedRequest(operation), createStub(HttpResponseStub.class, status, ""));
+  }
+
+  private HttpRequest createExpectedRequest(String operation) {
+    return HttpRequest.newBuilder()
+          .uri(URI.create(SERVER_URL + "/management/weblogic/latest/serverRuntime/" + operation))
+          .POST(HttpRequest.BodyPublishers.noBody())
+          .build();
+  }
+
+  private String getLastKnownState() {
+    return info.getLastKnownServerStatus(MANAGED_SERVER1).getStatus();
+  }
+
+  @Test
+  void whenResumeStepRun_sendResumeRequest() {
+    defineResponse("resume", 200);
+
+    testSupport.runSteps(WarmStandbyStep.createResumeStep(serverConfig, terminalStep));
+
+    assertThat(httpSupport.getLastRequest().uri(), equalTo(createExpectedRequest("resume").uri()));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGE_REQUESTED));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGED));
+  }
+
+  @Test
+  void whenResumeSucceeds_recordServerAsRunning() {
+    info.updateLastKnownServerStatus(MANAGED_SERVER1, ADMIN_STATE);
+    defineResponse("resume", 200);
+
+    testSupport.runSteps(WarmStandbyStep.createResumeStep(serverConfig, terminalStep));
+
+    assertThat(getLastKnownState(), equalTo(RUNNING_STATE));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGE_REQUESTED));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGED));
+  }
+
+  @Test
+  void whenSuspendStepRun_sendSuspendRequest() {
+    defineResponse("suspend", 200);
+
+    testSupport.runSteps(WarmStandbyStep.createSuspendStep(serverConfig, terminalStep));
+
+    assertThat(httpSupport.getLastRequest().uri(), equalTo(createExpectedRequest("suspend").uri()));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGE_REQUESTED));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGED));
+  }
+
+  @Test
+  void whenSuspendSucceeds_recordServerAsInAdminState() {
+    info.updateLastKnownServerStatus(MANAGED_SERVER1, RUNNING_STATE);
+    defineResponse("suspend", 200);
+
+    testSupport.runSteps(WarmStandbyStep.createSuspendStep(serverConfig, terminalStep));
+
+    assertThat(getLastKnownState(), equalTo(ADMIN_STATE));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGE_REQUESTED));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGED));
+  }
+
+  @Test
+  void whenResumeFails_leaveLastKnownStateUnchangedAndRunNextStep() {
+    info.updateLastKnownServerStatus(MANAGED_SERVER1, ADMIN_STATE);
+    defineResponse("resume", 500);
+
+    testSupport.runSteps(WarmStandbyStep.createResumeStep(serverConfig, terminalStep));
+
+    assertThat(getLastKnownState(), equalTo(ADMIN_STATE));
+    assertThat(terminalStep.wasRun(), is(true));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGE_REQUESTED));
+    assertThat(logRecords, containsInfo(WARM_STANDBY_STATE_CHANGE_FAILED));
+  }
+
+  @Test
+  void whenServerHasNoService_sendNoRequestAndRunNextStep() {
+    info.setServerService(MANAGED_SERVER1, null);
+    defineResponse("resume", 200);
+
+    testSupport.runSteps(WarmStandbyStep.createResumeStep(serverConfig, terminalStep));
+
+    assertThat(httpSupport.getHandledRequests(), empty());
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+}
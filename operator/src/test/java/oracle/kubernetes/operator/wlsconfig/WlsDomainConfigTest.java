@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
@@ -24,12 +24,16 @@ import static oracle.kubernetes.common.logging.MessageKeys.NO_WLS_SERVER_IN_CLUS
 import static oracle.kubernetes.common.logging.MessageKeys.REPLICA_MORE_THAN_WLS_SERVERS;
 import static oracle.kubernetes.operator.wlsconfig.WlsDomainConfigTest.WlsServerConfigMatcher.withServerConfig;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -101,6 +105,17 @@ class WlsDomainConfigTest {
         arrayContainingInAnyOrder("cluster1", "cluster2"));
   }
 
+  @Test
+  void getServerClusterNames_mapsClusteredServersToTheirClusters() {
+    support.addWlsCluster("cluster1", "ms1", "ms2");
+    support.addDynamicWlsCluster("cluster2", "dyn1", "dyn2");
+    support.addWlsServer("server3");
+
+    assertThat(support.createDomainConfig().getServerClusterNames(),
+        allOf(hasEntry("ms1", "cluster1"), hasEntry("ms2", "cluster1"),
+              hasEntry("dyn1", "cluster2"), hasEntry("dyn2", "cluster2"), not(hasKey("server3"))));
+  }
+
   @Test
   void whenTwoClustersDefined_returnReplicaLimits() {
     support.addWlsCluster("cluster1", "ms1", "ms2", "ms3");
@@ -991,6 +991,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
       return this;
     }
 
+    @Override
+    public ClusterConfigurator withWarmStandbyReplicas(Integer warmStandbyReplicas) {
+      clusterSpec.setWarmStandbyReplicas(warmStandbyReplicas);
+      return this;
+    }
+
     @Override
     public ClusterConfigurator withMaximumReadyWaitTimeSeconds(long maximumReadyWaitTimeSeconds) {
       clusterSpec.setMaxReadyWaitTimeSeconds(maximumReadyWaitTimeSeconds);
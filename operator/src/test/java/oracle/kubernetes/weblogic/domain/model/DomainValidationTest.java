@@ -470,6 +470,13 @@ public class DomainValidationTest extends DomainValidationTestBase {
     assertThat(domain.getValidationFailures(resourceLookup), empty());
   }
 
+  @Test
+  void whenStartupModeSpecifiedAtDomainLevel_dontReportError() {
+    configureDomain(domain).withEnvironmentVariable(ServerEnvVars.STARTUP_MODE, "ADMIN");
+
+    assertThat(domain.getValidationFailures(resourceLookup), empty());
+  }
+
   @Test
   void whenReservedEnvironmentVariablesSpecifiedAtDomainLevel_reportError() {
     configureDomain(domain)
@@ -1,5 +1,5 @@
 #!/usr/bin/env bash
-# Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+# Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 # Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 TEST_OPERATOR_ROOT=/tmp/test/weblogic-operator
@@ -70,6 +70,31 @@ testOnRestoreDomainConfig_whenIndexesDefinedCatMultipleFiles() {
   assertEquals "$expected" "$actual"
 }
 
+testOnRestoreDomainConfig_whenCompressedDecompressSingleFile() {
+  rm $INTROSPECTOR_MAP/domainzip.secure
+  echo -n "abc" | gzip > $INTROSPECTOR_MAP/domainzip.secure.gz
+
+  restoreDomainConfig
+
+  expected="abc"
+  actual="$(cat /tmp/domain.secure)"
+  assertEquals "$expected" "$actual"
+}
+
+testOnRestoreDomainConfig_whenCompressedAndSplitDecompressConcatenatedFiles() {
+  mkdir ${INTROSPECTOR_MAP}-1
+  rm $INTROSPECTOR_MAP/domainzip.secure
+  echo -n "abcdefghi" | gzip > /tmp/domainzip.secure.gz
+  head -c 10 /tmp/domainzip.secure.gz > $INTROSPECTOR_MAP/domainzip.secure.gz
+  tail -c +11 /tmp/domainzip.secure.gz > ${INTROSPECTOR_MAP}-1/domainzip.secure.gz
+
+  restoreDomainConfig
+
+  expected="abcdefghi"
+  actual="$(cat /tmp/domain.secure)"
+  assertEquals "$expected" "$actual"
+}
+
 testOnRestoreDomainConfig_base64DecodeZip() {
   rm /tmp/domain.tar.gz
 